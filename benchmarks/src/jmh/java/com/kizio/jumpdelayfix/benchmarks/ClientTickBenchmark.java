@@ -0,0 +1,54 @@
+package com.kizio.jumpdelayfix.benchmarks;
+
+import com.kizio.jumpdelayfix.common.JumpDelayFix;
+import com.kizio.jumpdelayfix.common.api.ToggleFeedback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Full facade tick with a populated per-server stats map (128 remembered servers).
+ */
+@State(Scope.Benchmark)
+public class ClientTickBenchmark {
+
+    private static final int TRACKED_SERVERS = 128;
+
+    private SyntheticJumpInput input;
+    private Path configDirectory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        configDirectory = BenchmarkFiles.createTempDirectory();
+        input = new SyntheticJumpInput();
+        JumpDelayFix.init(input, ToggleFeedback.NO_OP, configDirectory);
+
+        for (int index = 0; index < TRACKED_SERVERS; index++) {
+            input.setServerId("server-" + index + ".example.net");
+            JumpDelayFix.onClientTick();
+            input.advance();
+        }
+        input.setServerId("server-0.example.net");
+        JumpDelayFix.flushPendingConfiguration();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        JumpDelayFix.flushPendingConfiguration();
+        BenchmarkFiles.deleteRecursively(configDirectory);
+    }
+
+    @Benchmark
+    public void onClientTick(Blackhole blackhole) {
+        JumpDelayFix.onClientTick();
+        input.advance();
+        blackhole.consume(JumpDelayFix.getStateSnapshot());
+    }
+}
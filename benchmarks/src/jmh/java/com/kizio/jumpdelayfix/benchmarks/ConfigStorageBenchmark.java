@@ -0,0 +1,63 @@
+package com.kizio.jumpdelayfix.benchmarks;
+
+import com.kizio.jumpdelayfix.common.config.JumpConfigStorage;
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Properties load/save with the maximum of 128 remembered servers.
+ */
+@State(Scope.Thread)
+public class ConfigStorageBenchmark {
+
+    private static final int REMEMBERED_SERVERS = 128;
+
+    private Path configDirectory;
+    private Path configFile;
+    private JumpRuntimeConfig config;
+    private Map<String, JumpProfile> serverProfiles;
+    private Map<String, Integer> serverCalibrations;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        configDirectory = BenchmarkFiles.createTempDirectory();
+        configFile = configDirectory.resolve("jumpdelayfix.properties");
+        config = JumpRuntimeConfig.defaults();
+        serverProfiles = new LinkedHashMap<>();
+        serverCalibrations = new LinkedHashMap<>();
+
+        JumpProfile[] profiles = JumpProfile.values();
+        for (int index = 0; index < REMEMBERED_SERVERS; index++) {
+            String serverId = "mc-" + index + ".example.net:25565";
+            serverProfiles.put(serverId, profiles[index % profiles.length]);
+            serverCalibrations.put(serverId, index % 5 - 2);
+        }
+        JumpConfigStorage.save(configFile, config, serverProfiles, serverCalibrations);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkFiles.deleteRecursively(configDirectory);
+    }
+
+    @Benchmark
+    public JumpConfigStorage.LoadedConfig load() {
+        return JumpConfigStorage.load(configFile);
+    }
+
+    @Benchmark
+    public void save() {
+        JumpConfigStorage.save(configFile, config, serverProfiles, serverCalibrations);
+    }
+}
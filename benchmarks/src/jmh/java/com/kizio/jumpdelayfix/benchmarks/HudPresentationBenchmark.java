@@ -0,0 +1,69 @@
+package com.kizio.jumpdelayfix.benchmarks;
+
+import com.kizio.jumpdelayfix.common.client.hud.HudPresentationCache;
+import com.kizio.jumpdelayfix.common.client.hud.HudPresentationModel;
+import com.kizio.jumpdelayfix.common.client.hud.HudPresentationService;
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import com.kizio.jumpdelayfix.common.model.LagRegime;
+import com.kizio.jumpdelayfix.common.model.WindowedSummary;
+import com.kizio.jumpdelayfix.common.state.JumpStateSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-frame HUD model cost: uncached build versus the version-stamped cache.
+ */
+@State(Scope.Thread)
+public class HudPresentationBenchmark {
+
+    private JumpDiagnostics diagnostics;
+    private JumpRuntimeConfig config;
+    private JumpStateSnapshot snapshot;
+    private HudPresentationCache cache;
+
+    @Setup
+    public void setUp() {
+        diagnostics = new JumpDiagnostics(
+                "very.long.server.identifier.with.port:25565",
+                JumpProfile.SMART,
+                true,
+                true,
+                false,
+                true,
+                true,
+                87,
+                1,
+                3,
+                240,
+                19,
+                0,
+                0.074D,
+                LagRegime.STEADY,
+                WindowedSummary.empty(JumpDiagnostics.RECENT_WINDOW_SECONDS),
+                WindowedSummary.empty(JumpDiagnostics.LONG_WINDOW_SECONDS),
+                -1.0D,
+                -1,
+                0,
+                false,
+                JumpDiagnostics.NO_CALIBRATED_OFFSET
+        );
+        config = JumpRuntimeConfig.defaults();
+        config.setHudEnabled(true);
+        snapshot = new JumpStateSnapshot(1L, diagnostics, config);
+        cache = new HudPresentationCache();
+    }
+
+    @Benchmark
+    public HudPresentationModel build() {
+        return HudPresentationService.build(diagnostics, config);
+    }
+
+    @Benchmark
+    public HudPresentationModel cachedSteadyState() {
+        return cache.model(snapshot);
+    }
+}
@@ -0,0 +1,35 @@
+package com.kizio.jumpdelayfix.benchmarks;
+
+import com.kizio.jumpdelayfix.common.feature.JumpHandler;
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import com.kizio.jumpdelayfix.common.state.ModState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of one {@link JumpHandler#tick()} while cycling through land, jump and airborne phases.
+ */
+@State(Scope.Thread)
+public class JumpHandlerBenchmark {
+
+    private SyntheticJumpInput input;
+    private JumpHandler handler;
+
+    @Setup
+    public void setUp() {
+        ModState.setEnabled(true);
+        ModState.setProfile(JumpProfile.SMART);
+        input = new SyntheticJumpInput();
+        handler = new JumpHandler(input);
+    }
+
+    @Benchmark
+    public void tick(Blackhole blackhole) {
+        handler.tick();
+        input.advance();
+        blackhole.consume(handler.getConfirmedJumpCount());
+    }
+}
@@ -0,0 +1,45 @@
+package com.kizio.jumpdelayfix.benchmarks;
+
+import com.kizio.jumpdelayfix.common.JumpController;
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Headless controllers ticked from every available core, one batch of sessions per benchmark thread.
+ * Throughput should scale with the thread count since sessions share no mutable state.
+ */
+@State(Scope.Thread)
+@Threads(Threads.MAX)
+public class ParallelControllerBenchmark {
+
+    private static final int SESSIONS_PER_THREAD = 64;
+
+    private final JumpController[] controllers = new JumpController[SESSIONS_PER_THREAD];
+    private final SyntheticJumpInput[] inputs = new SyntheticJumpInput[SESSIONS_PER_THREAD];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JumpRuntimeConfig config = JumpRuntimeConfig.defaults();
+        for (int index = 0; index < SESSIONS_PER_THREAD; index++) {
+            inputs[index] = new SyntheticJumpInput();
+            inputs[index].setServerId("server-" + index + ".example.net");
+            controllers[index] = new JumpController();
+            controllers[index].initDetached(inputs[index], config);
+        }
+    }
+
+    @Benchmark
+    public void tickSessions(Blackhole blackhole) {
+        for (int index = 0; index < SESSIONS_PER_THREAD; index++) {
+            controllers[index].onClientTick();
+            inputs[index].advance();
+            blackhole.consume(controllers[index].getStateSnapshot());
+        }
+    }
+}
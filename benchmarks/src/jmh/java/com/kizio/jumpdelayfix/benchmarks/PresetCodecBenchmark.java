@@ -0,0 +1,38 @@
+package com.kizio.jumpdelayfix.benchmarks;
+
+import com.kizio.jumpdelayfix.common.config.JumpPresetCodec;
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Preset code export and import round-trip costs.
+ */
+@State(Scope.Thread)
+public class PresetCodecBenchmark {
+
+    private JumpRuntimeConfig config;
+    private String presetCode;
+
+    @Setup
+    public void setUp() {
+        config = JumpRuntimeConfig.defaults();
+        config.setHudOffsetX(123);
+        config.setHudOffsetY(77);
+        config.setHudScale(1.35D);
+        presetCode = JumpPresetCodec.exportPreset(JumpProfile.COMPETITIVE, config);
+    }
+
+    @Benchmark
+    public String exportPreset() {
+        return JumpPresetCodec.exportPreset(JumpProfile.COMPETITIVE, config);
+    }
+
+    @Benchmark
+    public JumpPresetCodec.ImportedPreset importPreset() {
+        return JumpPresetCodec.importPreset(presetCode, config, JumpProfile.SMART);
+    }
+}
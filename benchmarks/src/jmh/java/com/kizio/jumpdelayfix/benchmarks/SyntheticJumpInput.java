@@ -0,0 +1,74 @@
+package com.kizio.jumpdelayfix.benchmarks;
+
+import com.kizio.jumpdelayfix.common.api.JumpInput;
+
+/**
+ * Deterministic input that lands, holds jump and lifts off in a short repeating cycle.
+ */
+final class SyntheticJumpInput implements JumpInput {
+
+    private static final double GROUND_Y = 64.0D;
+
+    private double y = GROUND_Y;
+    private double velocityY;
+    private int latencyMs = 60;
+    private String serverId = "bench.server";
+
+    void advance() {
+        y += velocityY;
+        if (y <= GROUND_Y) {
+            y = GROUND_Y;
+            velocityY = 0.0D;
+        } else {
+            velocityY -= 0.08D;
+        }
+    }
+
+    void setServerId(String serverId) {
+        this.serverId = serverId;
+    }
+
+    void setLatencyMs(int latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    @Override
+    public boolean isJumpPressed() {
+        return true;
+    }
+
+    @Override
+    public boolean isPlayerOnGround() {
+        return y <= GROUND_Y;
+    }
+
+    @Override
+    public void jump() {
+        velocityY = 0.42D;
+    }
+
+    @Override
+    public int requiredGroundedTicksBeforeJump() {
+        return 2;
+    }
+
+    @Override
+    public double getPlayerY() {
+        return y;
+    }
+
+    @Override
+    public double getVerticalVelocity() {
+        return velocityY;
+    }
+
+    @Override
+    public int getLatencyMs() {
+        return latencyMs;
+    }
+
+    @Override
+    public String getServerIdentifier() {
+        return serverId;
+    }
+}
@@ -0,0 +1,1318 @@
+package com.kizio.jumpdelayfix.common;
+
+import com.kizio.jumpdelayfix.common.api.JumpInput;
+import com.kizio.jumpdelayfix.common.api.ToggleFeedback;
+import com.kizio.jumpdelayfix.common.config.AsyncConfigWriter;
+import com.kizio.jumpdelayfix.common.config.JumpConfigStorage;
+import com.kizio.jumpdelayfix.common.config.JumpPresetCodec;
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import com.kizio.jumpdelayfix.common.config.ServerStatsStore;
+import com.kizio.jumpdelayfix.common.feature.DelayCalibration;
+import com.kizio.jumpdelayfix.common.feature.GroundedTicksModel;
+import com.kizio.jumpdelayfix.common.feature.JumpHandler;
+import com.kizio.jumpdelayfix.common.feature.JumpInputQueue;
+import com.kizio.jumpdelayfix.common.feature.LagSpikeDetector;
+import com.kizio.jumpdelayfix.common.feature.ProfileBandit;
+import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import com.kizio.jumpdelayfix.common.model.LagRegime;
+import com.kizio.jumpdelayfix.common.model.ServerAdaptiveStats;
+import com.kizio.jumpdelayfix.common.model.WindowedSummary;
+import com.kizio.jumpdelayfix.common.network.LatencyEstimator;
+import com.kizio.jumpdelayfix.common.network.ServerTickRateEstimator;
+import com.kizio.jumpdelayfix.common.state.JumpStateSnapshot;
+import com.kizio.jumpdelayfix.common.state.SessionState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * One self-contained jump delay controller: input, handler, enabled flag and profile, runtime config,
+ * per-server stats, estimators and published state.
+ * <p>
+ * Instances share no mutable state, so independent sessions (headless load tests, bots, parallel test
+ * suites) can be ticked concurrently on different threads. Each instance is guarded by its own monitor.
+ * The game client uses the default instance behind the {@link JumpDelayFix} facade.
+ */
+public final class JumpController {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ModConstants.MOD_NAME);
+
+    private static final String DEFAULT_SERVER_ID = "global";
+    // Wall-clock rather than tick based, so the pacing holds when the server changes its tick rate.
+    private static final long AUTO_SWITCH_COOLDOWN_NANOS = Duration.ofSeconds(2).toNanos();
+    private static final int MAX_TRACKED_SERVERS = 128;
+    private static final long CONFIG_SAVE_DEBOUNCE_NANOS = Duration.ofMillis(500).toNanos();
+    private static final Duration CONFIG_FLUSH_TIMEOUT = Duration.ofSeconds(2);
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final JumpInputQueue jumpInputQueue;
+    private final AsyncConfigWriter configWriter = new AsyncConfigWriter();
+    private final LatencyEstimator latencyEstimator = new LatencyEstimator();
+    private final ServerTickRateEstimator tickRateEstimator = new ServerTickRateEstimator();
+    private volatile long serverAcknowledgedJumps = -1L;
+    private final ProfileBandit profileBandit = new ProfileBandit();
+    private final LagSpikeDetector lagSpikeDetector = new LagSpikeDetector();
+    private volatile GroundedTicksModel groundedTicksModel =
+            GroundedTicksModel.withJitterWeight(JumpRuntimeConfig.defaults().latencyJitterWeight());
+
+    private JumpHandler jumpHandler = JumpHandler.noOp();
+    private ToggleFeedback toggleFeedback = ToggleFeedback.NO_OP;
+
+    private boolean initialized;
+    private boolean shutdownHookRegistered;
+
+    private JumpRuntimeConfig runtimeConfig = JumpRuntimeConfig.defaults();
+    private final Map<String, JumpProfile> serverProfileMemory = createServerScopedLruMap();
+    private final Map<String, Integer> serverCalibrationMemory = createServerScopedLruMap();
+    private final Map<String, ServerAdaptiveStats> serverStats = createServerScopedLruMap();
+    private ServerStatsStore statsStore = ServerStatsStore.detached();
+    private int activeStatsSlot = ServerStatsStore.NO_SLOT;
+    private DelayCalibration activeCalibration;
+    private int activeCalibratedOffset = JumpDiagnostics.NO_CALIBRATED_OFFSET;
+    private JumpProfile profileBeforeLagSpike;
+    private boolean lagFailsafeActive;
+    private long lastLatencySampleCount;
+
+    private Path configFilePath = Path.of("config", "jumpdelayfix.properties");
+    private String activeServerId = DEFAULT_SERVER_ID;
+    private String lastRawServerId;
+
+    private int lastConfirmedJumps;
+    private int lastRejectedJumps;
+    private int lastShadowPredictions;
+    private long profileSwitchAllowedAtNanos;
+    private long configSaveDueAtNanos;
+    private boolean configDirty;
+    private boolean jumpHandlerTickedInMovementPhase;
+    private boolean configChangedSincePublish = true;
+
+    /**
+     * Single publication point for render-thread readers; replaced wholesale, never mutated.
+     */
+    private volatile JumpStateSnapshot stateSnapshot = JumpStateSnapshot.initial();
+
+    private final SessionState state;
+    private final LongSupplier nanoClock;
+    private final LongSupplier statsClock;
+
+    /**
+     * Creates a controller with its own enabled flag and profile.
+     */
+    public JumpController() {
+        this(new SessionState());
+    }
+
+    /**
+     * Creates a controller that reads time only from the given clock: switch cooldowns, config debounce,
+     * the jump buffer and the windowed stats all follow it, so simulations can run on virtual time.
+     *
+     * @param nanoClock monotonic time source in nanoseconds
+     */
+    public JumpController(LongSupplier nanoClock) {
+        this(new SessionState(), nanoClock, () -> Math.floorDiv(nanoClock.getAsLong(), NANOS_PER_MILLI));
+    }
+
+    JumpController(SessionState state) {
+        this(state, System::nanoTime, System::currentTimeMillis);
+    }
+
+    private JumpController(SessionState state, LongSupplier nanoClock, LongSupplier statsClock) {
+        this.state = Objects.requireNonNull(state, "state");
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock");
+        this.statsClock = statsClock;
+        this.jumpInputQueue = new JumpInputQueue(JumpInputQueue.DEFAULT_CAPACITY, nanoClock);
+    }
+
+    public synchronized void init(JumpInput input, ToggleFeedback feedback) {
+        init(input, feedback, Path.of("config"));
+    }
+
+    public synchronized void init(JumpInput input, ToggleFeedback feedback, Path configDirectory) {
+        attachInput(input, feedback);
+        registerShutdownHookIfNeeded();
+        loadConfiguration(Objects.requireNonNull(configDirectory, "configDirectory"));
+        start();
+
+        LOGGER.info("{} initialized", ModConstants.MOD_NAME);
+    }
+
+    /**
+     * Starts a headless session that never touches the filesystem: nothing is loaded or persisted and no
+     * shutdown hook is registered.
+     *
+     * @param input  input driving this session
+     * @param config initial runtime config; copied
+     */
+    public synchronized void initDetached(JumpInput input, JumpRuntimeConfig config) {
+        attachInput(input, ToggleFeedback.NO_OP);
+        loadDetachedConfiguration(Objects.requireNonNull(config, "config"));
+        start();
+    }
+
+    private void attachInput(JumpInput input, ToggleFeedback feedback) {
+        jumpHandler = new JumpHandler(Objects.requireNonNull(input, "input"), state);
+        jumpInputQueue.clear();
+        jumpHandler.setInputQueue(jumpInputQueue);
+        jumpHandler.setOutcomeListener(this::onJumpOutcome);
+        toggleFeedback = Objects.requireNonNull(feedback, "feedback");
+    }
+
+    private void start() {
+        activateServerStats(activeServerId);
+        activateServerCalibration();
+
+        state.setEnabled(true);
+        state.setProfile(resolveProfileForServer(activeServerId));
+        jumpHandler.setShadowMode(runtimeConfig.shadowMode());
+
+        lastConfirmedJumps = 0;
+        lastRejectedJumps = 0;
+        lastShadowPredictions = 0;
+        profileSwitchAllowedAtNanos = nanoClock.getAsLong();
+        configSaveDueAtNanos = nanoClock.getAsLong();
+        configDirty = false;
+        jumpHandlerTickedInMovementPhase = false;
+        configChangedSincePublish = true;
+        initialized = true;
+        publishState();
+    }
+
+    /**
+     * Ticks the jump controller once per client tick.
+     * <p>
+     * When movement-phase dispatch is enabled and {@link #onMovementPhase()} already ran the jump
+     * decision this tick, only bookkeeping (stats, profile switching, persistence) happens here.
+     */
+    public synchronized void onClientTick() {
+        if (!initialized) {
+            return;
+        }
+
+        if (!jumpHandlerTickedInMovementPhase) {
+            tickJumpHandler();
+        }
+        jumpHandlerTickedInMovementPhase = false;
+
+        synchronizeServerContext();
+        if (jumpHandler.isIntegratedServerSession()) {
+            // Nothing is ever rolled back on the integrated server, so there is nothing to learn or switch.
+            flushConfigurationIfDue();
+            publishState();
+            return;
+        }
+
+        updateServerStats();
+        recordNewLatencySample();
+        updateLagRegime();
+
+        if (runtimeConfig.autoProfileSwitch() && !lagFailsafeActive) {
+            if (runtimeConfig.banditProfileSelection()) {
+                applyBanditProfileSelection();
+            } else {
+                applyAutoProfileSwitch();
+            }
+        }
+
+        flushConfigurationIfDue();
+        publishState();
+    }
+
+    /**
+     * Runs the jump decision from inside the local player's movement phase.
+     * <p>
+     * Loaders call this right before vanilla movement is applied, so a jump fired here lifts off in the
+     * same tick instead of one tick later from the end-of-tick callback. Does nothing unless
+     * movement-phase dispatch is enabled.
+     */
+    public synchronized void onMovementPhase() {
+        if (!initialized || !runtimeConfig.movementPhaseDispatch() || jumpHandlerTickedInMovementPhase) {
+            return;
+        }
+
+        tickJumpHandler();
+        jumpHandlerTickedInMovementPhase = true;
+    }
+
+    /**
+     * Records a jump key transition with its arrival time.
+     * <p>
+     * Lock-free: loaders call this from the key callback or a per-frame poll, and the queued events are
+     * drained by the next jump decision so taps shorter than a tick are not lost.
+     *
+     * @param pressed {@code true} for press, {@code false} for release
+     */
+    public void onJumpKeyStateChanged(boolean pressed) {
+        jumpInputQueue.offer(pressed);
+    }
+
+    /**
+     * Feeds one ping round trip into this controller's latency estimator.
+     * <p>
+     * Lock-free with respect to the controller; safe to call from the network thread.
+     *
+     * @param sentAtMillis     timestamp echoed back by the server
+     * @param receivedAtMillis local receive time on the same clock
+     */
+    public void onLatencySample(long sentAtMillis, long receivedAtMillis) {
+        latencyEstimator.recordExchange(sentAtMillis, receivedAtMillis);
+    }
+
+    /**
+     * @return estimator fed by loader ping probes; loaders read p95 and jitter from it
+     */
+    public LatencyEstimator getLatencyEstimator() {
+        return latencyEstimator;
+    }
+
+    /**
+     * @return timing model built from this controller's config; loaders map latency and jitter through it
+     */
+    public GroundedTicksModel getGroundedTicksModel() {
+        return groundedTicksModel;
+    }
+
+    /**
+     * Feeds one world-time update into the server tick-rate estimator.
+     * <p>
+     * Lock-free with respect to the controller; safe to call from the network thread.
+     *
+     * @param gameTime         total game time carried by the update
+     * @param receivedAtMillis local receive time in milliseconds
+     */
+    public void onWorldTimeUpdate(long gameTime, long receivedAtMillis) {
+        tickRateEstimator.recordWorldTime(gameTime, receivedAtMillis);
+    }
+
+    /**
+     * @return estimator fed by world-time updates; loaders read TPS and tick jitter from it
+     */
+    public ServerTickRateEstimator getTickRateEstimator() {
+        return tickRateEstimator;
+    }
+
+    /**
+     * Records a jump acknowledgement from a server running the companion.
+     * <p>
+     * Lock-free; safe to call from the network thread.
+     *
+     * @param acceptedTotal cumulative jumps the server accepted on this connection
+     */
+    public void onServerJumpAck(int acceptedTotal) {
+        serverAcknowledgedJumps = Math.max(0, acceptedTotal);
+    }
+
+    /**
+     * Forgets the companion channel; loaders call this when the connection ends.
+     */
+    public void resetServerJumpAcks() {
+        serverAcknowledgedJumps = -1L;
+    }
+
+    /**
+     * @return cumulative acknowledged jumps on this connection, or negative without the companion
+     */
+    public long getServerAcknowledgedJumps() {
+        return serverAcknowledgedJumps;
+    }
+
+    public synchronized boolean toggleEnabled() {
+        boolean enabled = state.toggle();
+        publishState();
+        toggleFeedback.onToggle(enabled);
+
+        LOGGER.debug("{} toggled {}", ModConstants.MOD_NAME, enabled ? "on" : "off");
+        return enabled;
+    }
+
+    public boolean isEnabled() {
+        return state.isEnabled();
+    }
+
+    public JumpProfile getProfile() {
+        return state.getProfile();
+    }
+
+    public synchronized JumpProfile cycleProfile() {
+        JumpProfile profile = state.cycleProfile();
+        rememberProfileForActiveServer(profile);
+        // A manual choice made during a lag spike is kept when the spike ends.
+        profileBeforeLagSpike = null;
+
+        // Manual profile switch implies user intent. Keep this deterministic until user re-enables auto mode.
+        runtimeConfig.setAutoProfileSwitch(false);
+        markConfigurationDirty();
+
+        LOGGER.debug("{} profile {}", ModConstants.MOD_NAME, profile.name());
+        return profile;
+    }
+
+    public synchronized JumpProfile setProfile(JumpProfile profile) {
+        JumpProfile resolvedProfile = Objects.requireNonNull(profile, "profile");
+
+        state.setProfile(resolvedProfile);
+        rememberProfileForActiveServer(resolvedProfile);
+        profileBeforeLagSpike = null;
+
+        // Manual profile switch implies user intent. Keep this deterministic until user re-enables auto mode.
+        runtimeConfig.setAutoProfileSwitch(false);
+        markConfigurationDirty();
+
+        LOGGER.debug("{} profile {}", ModConstants.MOD_NAME, resolvedProfile.name());
+        return resolvedProfile;
+    }
+
+    public synchronized boolean toggleAutoProfileSwitch() {
+        runtimeConfig.setAutoProfileSwitch(!runtimeConfig.autoProfileSwitch());
+        markConfigurationDirty();
+        return runtimeConfig.autoProfileSwitch();
+    }
+
+    public boolean isAutoProfileSwitchEnabled() {
+        return stateSnapshot.config().autoProfileSwitch();
+    }
+
+    public synchronized boolean toggleHudEnabled() {
+        runtimeConfig.setHudEnabled(!runtimeConfig.hudEnabled());
+        markConfigurationDirty();
+        return runtimeConfig.hudEnabled();
+    }
+
+    public boolean isHudEnabled() {
+        return stateSnapshot.config().hudEnabled();
+    }
+
+    public synchronized void setHudPosition(int x, int y) {
+        int previousX = runtimeConfig.hudOffsetX();
+        int previousY = runtimeConfig.hudOffsetY();
+
+        runtimeConfig.setHudOffsetX(x);
+        runtimeConfig.setHudOffsetY(y);
+
+        if (runtimeConfig.hudOffsetX() != previousX || runtimeConfig.hudOffsetY() != previousY) {
+            markConfigurationDirty();
+        }
+    }
+
+    public synchronized void moveHudBy(int dx, int dy) {
+        setHudPosition(runtimeConfig.hudOffsetX() + dx, runtimeConfig.hudOffsetY() + dy);
+    }
+
+    public int getHudOffsetX() {
+        return stateSnapshot.config().hudOffsetX();
+    }
+
+    public int getHudOffsetY() {
+        return stateSnapshot.config().hudOffsetY();
+    }
+
+    public synchronized double setHudScale(double scale) {
+        double previousScale = runtimeConfig.hudScale();
+        runtimeConfig.setHudScale(scale);
+
+        if (Double.compare(runtimeConfig.hudScale(), previousScale) != 0) {
+            markConfigurationDirty();
+        }
+        return runtimeConfig.hudScale();
+    }
+
+    public synchronized double adjustHudScale(double delta) {
+        return setHudScale(runtimeConfig.hudScale() + delta);
+    }
+
+    public double getHudScale() {
+        return stateSnapshot.config().hudScale();
+    }
+
+    public synchronized void resetHudLayout() {
+        JumpRuntimeConfig defaults = JumpRuntimeConfig.defaults();
+        runtimeConfig.setHudOffsetX(defaults.hudOffsetX());
+        runtimeConfig.setHudOffsetY(defaults.hudOffsetY());
+        runtimeConfig.setHudScale(defaults.hudScale());
+        markConfigurationDirty();
+    }
+
+    public synchronized boolean toggleHudProfileAndPing() {
+        runtimeConfig.setHudShowProfileAndPing(!runtimeConfig.hudShowProfileAndPing());
+        markConfigurationDirty();
+        return runtimeConfig.hudShowProfileAndPing();
+    }
+
+    public boolean isHudProfileAndPingVisible() {
+        return stateSnapshot.config().hudShowProfileAndPing();
+    }
+
+    public synchronized boolean toggleHudRollbackAndPenalty() {
+        runtimeConfig.setHudShowRollbackAndPenalty(!runtimeConfig.hudShowRollbackAndPenalty());
+        markConfigurationDirty();
+        return runtimeConfig.hudShowRollbackAndPenalty();
+    }
+
+    public boolean isHudRollbackAndPenaltyVisible() {
+        return stateSnapshot.config().hudShowRollbackAndPenalty();
+    }
+
+    public synchronized boolean toggleHudModeAndQuality() {
+        runtimeConfig.setHudShowModeAndQuality(!runtimeConfig.hudShowModeAndQuality());
+        markConfigurationDirty();
+        return runtimeConfig.hudShowModeAndQuality();
+    }
+
+    public boolean isHudModeAndQualityVisible() {
+        return stateSnapshot.config().hudShowModeAndQuality();
+    }
+
+    public synchronized boolean toggleHudServer() {
+        runtimeConfig.setHudShowServer(!runtimeConfig.hudShowServer());
+        markConfigurationDirty();
+        return runtimeConfig.hudShowServer();
+    }
+
+    public boolean isHudServerVisible() {
+        return stateSnapshot.config().hudShowServer();
+    }
+
+    public synchronized boolean toggleHudQualityBar() {
+        runtimeConfig.setHudShowQualityBar(!runtimeConfig.hudShowQualityBar());
+        markConfigurationDirty();
+        return runtimeConfig.hudShowQualityBar();
+    }
+
+    public boolean isHudQualityBarVisible() {
+        return stateSnapshot.config().hudShowQualityBar();
+    }
+
+    public synchronized boolean toggleShadowMode() {
+        runtimeConfig.setShadowMode(!runtimeConfig.shadowMode());
+        jumpHandler.setShadowMode(runtimeConfig.shadowMode());
+        markConfigurationDirty();
+        return runtimeConfig.shadowMode();
+    }
+
+    public boolean isShadowModeEnabled() {
+        return stateSnapshot.config().shadowMode();
+    }
+
+    public synchronized boolean toggleSafetyFailsafe() {
+        runtimeConfig.setSafetyFailsafe(!runtimeConfig.safetyFailsafe());
+        markConfigurationDirty();
+        return runtimeConfig.safetyFailsafe();
+    }
+
+    public boolean isSafetyFailsafeEnabled() {
+        return stateSnapshot.config().safetyFailsafe();
+    }
+
+    public synchronized boolean toggleMovementPhaseDispatch() {
+        runtimeConfig.setMovementPhaseDispatch(!runtimeConfig.movementPhaseDispatch());
+        markConfigurationDirty();
+        return runtimeConfig.movementPhaseDispatch();
+    }
+
+    public boolean isMovementPhaseDispatchEnabled() {
+        return stateSnapshot.config().movementPhaseDispatch();
+    }
+
+    public synchronized int setJumpBufferMs(int jumpBufferMs) {
+        int previous = runtimeConfig.jumpBufferMs();
+        runtimeConfig.setJumpBufferMs(jumpBufferMs);
+
+        if (runtimeConfig.jumpBufferMs() != previous) {
+            markConfigurationDirty();
+        }
+        return runtimeConfig.jumpBufferMs();
+    }
+
+    public synchronized int adjustJumpBufferMs(int delta) {
+        return setJumpBufferMs(runtimeConfig.jumpBufferMs() + delta);
+    }
+
+    public int getJumpBufferMs() {
+        return stateSnapshot.config().jumpBufferMs();
+    }
+
+    public synchronized double setLatencyJitterWeight(double latencyJitterWeight) {
+        double previous = runtimeConfig.latencyJitterWeight();
+        runtimeConfig.setLatencyJitterWeight(latencyJitterWeight);
+
+        if (Double.compare(runtimeConfig.latencyJitterWeight(), previous) != 0) {
+            markConfigurationDirty();
+        }
+        return runtimeConfig.latencyJitterWeight();
+    }
+
+    public double getLatencyJitterWeight() {
+        return stateSnapshot.config().latencyJitterWeight();
+    }
+
+    /**
+     * Toggles per-server calibration. While enabled, the first session on a server without a stored
+     * result probes for the lowest accepted grounded-tick requirement, and later sessions reuse it.
+     *
+     * @return new calibration mode state
+     */
+    public synchronized boolean toggleCalibrationMode() {
+        runtimeConfig.setCalibrationMode(!runtimeConfig.calibrationMode());
+        activateServerCalibration();
+        markConfigurationDirty();
+        return runtimeConfig.calibrationMode();
+    }
+
+    public boolean isCalibrationModeEnabled() {
+        return stateSnapshot.config().calibrationMode();
+    }
+
+    /**
+     * Forgets the active server's calibrated offset and, when calibration mode is on, probes again.
+     */
+    public synchronized void recalibrateActiveServer() {
+        if (serverCalibrationMemory.remove(activeServerId) != null) {
+            markConfigurationDirty();
+        }
+        activateServerCalibration();
+        publishState();
+    }
+
+    public boolean isCalibrating() {
+        return stateSnapshot.diagnostics().calibrating();
+    }
+
+    /**
+     * @return calibrated offset from the latency model in use for the active server, or
+     * {@link JumpDiagnostics#NO_CALIBRATED_OFFSET} when none applies
+     */
+    public int getCalibratedOffsetTicks() {
+        return stateSnapshot.diagnostics().calibratedOffsetTicks();
+    }
+
+    /**
+     * Switches automatic profile selection between the latency/rollback threshold rules and the per-server
+     * bandit that learns which profile yields the most confirmed jumps per second.
+     *
+     * @return {@code true} when the bandit selector is now active
+     */
+    public synchronized boolean toggleBanditProfileSelection() {
+        runtimeConfig.setBanditProfileSelection(!runtimeConfig.banditProfileSelection());
+        profileBandit.reset();
+        markConfigurationDirty();
+        return runtimeConfig.banditProfileSelection();
+    }
+
+    public boolean isBanditProfileSelectionEnabled() {
+        return stateSnapshot.config().banditProfileSelection();
+    }
+
+    public synchronized int setMinAttemptsForProfileSwitch(int minAttemptsForProfileSwitch) {
+        int previous = runtimeConfig.minAttemptsForProfileSwitch();
+        runtimeConfig.setMinAttemptsForProfileSwitch(minAttemptsForProfileSwitch);
+
+        if (runtimeConfig.minAttemptsForProfileSwitch() != previous) {
+            markConfigurationDirty();
+        }
+        return runtimeConfig.minAttemptsForProfileSwitch();
+    }
+
+    public synchronized int adjustMinAttemptsForProfileSwitch(int delta) {
+        return setMinAttemptsForProfileSwitch(runtimeConfig.minAttemptsForProfileSwitch() + delta);
+    }
+
+    public synchronized double setCompetitiveRollbackRateMax(double rollbackRateMax) {
+        double previousCompetitive = runtimeConfig.competitiveRollbackRateMax();
+        double previousStable = runtimeConfig.stableRollbackRateMin();
+        double previousFailsafe = runtimeConfig.failsafeRollbackRate();
+
+        runtimeConfig.setCompetitiveRollbackRateMax(rollbackRateMax);
+        normalizeRuntimeThresholds();
+
+        if (Double.compare(runtimeConfig.competitiveRollbackRateMax(), previousCompetitive) != 0
+                || Double.compare(runtimeConfig.stableRollbackRateMin(), previousStable) != 0
+                || Double.compare(runtimeConfig.failsafeRollbackRate(), previousFailsafe) != 0) {
+            markConfigurationDirty();
+        }
+        return runtimeConfig.competitiveRollbackRateMax();
+    }
+
+    public synchronized double adjustCompetitiveRollbackRateMax(double delta) {
+        return setCompetitiveRollbackRateMax(runtimeConfig.competitiveRollbackRateMax() + delta);
+    }
+
+    public synchronized double setStableRollbackRateMin(double rollbackRateMin) {
+        double previousStable = runtimeConfig.stableRollbackRateMin();
+        double previousFailsafe = runtimeConfig.failsafeRollbackRate();
+
+        runtimeConfig.setStableRollbackRateMin(rollbackRateMin);
+        normalizeRuntimeThresholds();
+
+        if (Double.compare(runtimeConfig.stableRollbackRateMin(), previousStable) != 0
+                || Double.compare(runtimeConfig.failsafeRollbackRate(), previousFailsafe) != 0) {
+            markConfigurationDirty();
+        }
+        return runtimeConfig.stableRollbackRateMin();
+    }
+
+    public synchronized double adjustStableRollbackRateMin(double delta) {
+        return setStableRollbackRateMin(runtimeConfig.stableRollbackRateMin() + delta);
+    }
+
+    public synchronized double setFailsafeRollbackRate(double rollbackRate) {
+        double previous = runtimeConfig.failsafeRollbackRate();
+        runtimeConfig.setFailsafeRollbackRate(rollbackRate);
+        normalizeRuntimeThresholds();
+
+        if (Double.compare(runtimeConfig.failsafeRollbackRate(), previous) != 0) {
+            markConfigurationDirty();
+        }
+        return runtimeConfig.failsafeRollbackRate();
+    }
+
+    public synchronized double adjustFailsafeRollbackRate(double delta) {
+        return setFailsafeRollbackRate(runtimeConfig.failsafeRollbackRate() + delta);
+    }
+
+    public synchronized void resetSettingsToDefaults() {
+        runtimeConfig = JumpRuntimeConfig.defaults();
+        normalizeRuntimeThresholds();
+        jumpHandler.setShadowMode(runtimeConfig.shadowMode());
+        activateServerCalibration();
+        markConfigurationDirty();
+    }
+
+    public synchronized void clearServerProfileMemory() {
+        serverProfileMemory.clear();
+        serverCalibrationMemory.clear();
+        serverStats.clear();
+        statsStore.clear();
+        activeStatsSlot = statsStore.slotFor(activeServerId);
+        activateServerCalibration();
+        state.setProfile(JumpProfile.SMART);
+        markConfigurationDirty();
+    }
+
+    /**
+     * Returns the latest published controller state without locking or copying.
+     * <p>
+     * Intended for per-frame readers such as HUD overlays and settings screens.
+     *
+     * @return current immutable state snapshot
+     */
+    public JumpStateSnapshot getStateSnapshot() {
+        return stateSnapshot;
+    }
+
+    /**
+     * @return mutable copy of the latest published runtime configuration
+     */
+    public JumpRuntimeConfig getRuntimeConfig() {
+        return stateSnapshot.config().copy();
+    }
+
+    public JumpDiagnostics getDiagnostics() {
+        return stateSnapshot.diagnostics();
+    }
+
+    private JumpDiagnostics buildDiagnostics() {
+        if (!initialized) {
+            return JumpDiagnostics.empty();
+        }
+
+        // Integrated-server sessions keep no stats; their exact counts since joining are shown instead.
+        boolean integratedServer = jumpHandler.isIntegratedServerSession();
+        ServerAdaptiveStats stats = integratedServer ? null : serverStats.get(activeServerId);
+        int confirmed = integratedServer
+                ? Math.max(0, jumpHandler.getConfirmedJumpCount() - lastConfirmedJumps)
+                : stats == null ? 0 : stats.confirmedJumps();
+        int rejected = stats == null ? 0 : stats.rejectedJumps();
+        int shadowPredictions = integratedServer
+                ? Math.max(0, jumpHandler.getShadowJumpPredictionCount() - lastShadowPredictions)
+                : stats == null ? 0 : stats.shadowPredictions();
+        double rollbackRate = stats == null ? 0.0D : stats.rollbackRate();
+        WindowedSummary recentWindow = stats == null
+                ? WindowedSummary.empty(JumpDiagnostics.RECENT_WINDOW_SECONDS)
+                : stats.windowSummary(JumpDiagnostics.RECENT_WINDOW_SECONDS);
+        WindowedSummary longWindow = stats == null
+                ? WindowedSummary.empty(JumpDiagnostics.LONG_WINDOW_SECONDS)
+                : stats.windowSummary(JumpDiagnostics.LONG_WINDOW_SECONDS);
+
+        return new JumpDiagnostics(
+                activeServerId,
+                state.getProfile(),
+                state.isEnabled(),
+                runtimeConfig.autoProfileSwitch(),
+                runtimeConfig.shadowMode(),
+                runtimeConfig.hudEnabled(),
+                runtimeConfig.safetyFailsafe(),
+                jumpHandler.getLatencyMs(),
+                jumpHandler.getAdaptivePenaltyTicks(),
+                jumpHandler.getRequiredGroundedTicks(),
+                confirmed,
+                rejected,
+                shadowPredictions,
+                rollbackRate,
+                lagSpikeDetector.regime(),
+                recentWindow,
+                longWindow,
+                tickRateEstimator.tps(),
+                tickRateEstimator.tickJitterMs(),
+                jumpHandler.getLagAllowanceTicks(),
+                activeCalibration != null,
+                activeCalibratedOffset
+        );
+    }
+
+    public synchronized String exportCurrentPresetCode() {
+        return JumpPresetCodec.exportPreset(state.getProfile(), runtimeConfig);
+    }
+
+    public synchronized boolean importPresetCode(String presetCode) {
+        JumpPresetCodec.ImportedPreset importedPreset = JumpPresetCodec.importPreset(
+                presetCode,
+                runtimeConfig,
+                state.getProfile()
+        );
+        if (importedPreset == null) {
+            return false;
+        }
+
+        runtimeConfig = importedPreset.runtimeConfig();
+        normalizeRuntimeThresholds();
+        jumpHandler.setShadowMode(runtimeConfig.shadowMode());
+        state.setProfile(importedPreset.profile());
+        rememberProfileForActiveServer(importedPreset.profile());
+        activateServerCalibration();
+        markConfigurationDirty();
+        return true;
+    }
+
+    /**
+     * Forces immediate persistence of pending config changes.
+     * <p>
+     * Intended for screen close/shutdown hooks where we do not want to wait for tick debounce. Waits a
+     * bounded time for the background writer to catch up.
+     */
+    public synchronized void flushPendingConfiguration() {
+        persistActiveServerStats();
+        flushConfigurationNow();
+        if (!configWriter.flush(CONFIG_FLUSH_TIMEOUT)) {
+            LOGGER.warn("Timed out waiting for configuration to be written to {}", configFilePath);
+        }
+    }
+
+    private void tickJumpHandler() {
+        refreshGroundedTicksModel();
+        jumpHandler.setShadowMode(runtimeConfig.shadowMode());
+        jumpHandler.setJumpBufferMs(runtimeConfig.jumpBufferMs());
+        jumpHandler.setCalibrationProbeTicks(activeCalibration == null ? 0 : activeCalibration.probeTicks());
+        jumpHandler.setCalibratedOffsetTicks(activeCalibratedOffset);
+        jumpHandler.tick();
+    }
+
+    private void refreshGroundedTicksModel() {
+        double jitterWeight = runtimeConfig.latencyJitterWeight();
+        if (Double.compare(groundedTicksModel.jitterWeight(), jitterWeight) != 0) {
+            // Rebuilt only when the setting changes; the loaders sample through it on this tick.
+            groundedTicksModel = GroundedTicksModel.withJitterWeight(jitterWeight);
+        }
+    }
+
+    private void synchronizeServerContext() {
+        String rawServerId = jumpHandler.getServerIdentifier();
+        if (rawServerId != null && rawServerId == lastRawServerId) {
+            // Loaders hand back the same cached instance while the connection is unchanged.
+            return;
+        }
+        lastRawServerId = rawServerId;
+
+        String serverId = normalizeServerId(rawServerId);
+        if (Objects.equals(serverId, activeServerId)) {
+            return;
+        }
+
+        persistActiveServerStats();
+        latencyEstimator.reset();
+        tickRateEstimator.reset();
+        profileBandit.reset();
+        lagSpikeDetector.reset();
+        lagFailsafeActive = false;
+        profileBeforeLagSpike = null;
+        lastLatencySampleCount = 0L;
+        activeServerId = serverId;
+        if (jumpHandler.isIntegratedServerSession()) {
+            activeStatsSlot = ServerStatsStore.NO_SLOT;
+            activeCalibration = null;
+            activeCalibratedOffset = JumpDiagnostics.NO_CALIBRATED_OFFSET;
+        } else {
+            activateServerStats(activeServerId);
+            activateServerCalibration();
+        }
+        state.setProfile(resolveProfileForServer(activeServerId));
+
+        // Avoid cross-server stat deltas after switching sessions.
+        lastConfirmedJumps = jumpHandler.getConfirmedJumpCount();
+        lastRejectedJumps = jumpHandler.getRejectedJumpCount();
+        lastShadowPredictions = jumpHandler.getShadowJumpPredictionCount();
+    }
+
+    private void updateServerStats() {
+        int confirmed = jumpHandler.getConfirmedJumpCount();
+        int rejected = jumpHandler.getRejectedJumpCount();
+        int shadowPredictions = jumpHandler.getShadowJumpPredictionCount();
+
+        int confirmedDelta = Math.max(0, confirmed - lastConfirmedJumps);
+        int rejectedDelta = Math.max(0, rejected - lastRejectedJumps);
+        int shadowDelta = Math.max(0, shadowPredictions - lastShadowPredictions);
+
+        lastConfirmedJumps = confirmed;
+        lastRejectedJumps = rejected;
+        lastShadowPredictions = shadowPredictions;
+
+        ServerAdaptiveStats stats = serverStats.computeIfAbsent(activeServerId, ignored -> new ServerAdaptiveStats(statsClock));
+        // Rejections caused by a lag spike or a server running behind its tick rate say nothing about the
+        // connection, so they are kept out of the smoothed rate and the windowed history.
+        if (lagFailsafeActive || jumpHandler.getLagAllowanceTicks() > 0) {
+            stats.updateExcludingRate(confirmedDelta, rejectedDelta, shadowDelta);
+        } else {
+            stats.update(confirmedDelta, rejectedDelta, shadowDelta);
+        }
+        if (confirmedDelta > 0 || rejectedDelta > 0 || shadowDelta > 0) {
+            statsStore.write(activeStatsSlot, stats);
+        }
+    }
+
+    /**
+     * Warm-starts stats for a server from the persistent store and binds its record slot.
+     */
+    private void activateServerStats(String serverId) {
+        if (!serverStats.containsKey(serverId)) {
+            ServerAdaptiveStats persisted = statsStore.load(serverId);
+            if (persisted != null) {
+                serverStats.put(serverId, persisted);
+            }
+        }
+        activeStatsSlot = statsStore.slotFor(serverId);
+    }
+
+    /**
+     * Copies the active server's stats into its mapped record; pages reach the disk without a sync call.
+     */
+    private void persistActiveServerStats() {
+        ServerAdaptiveStats stats = serverStats.get(activeServerId);
+        if (stats != null) {
+            statsStore.write(activeStatsSlot, stats);
+        }
+    }
+
+    /**
+     * Binds the active server's calibrated offset and starts a calibration run when calibration mode is on
+     * and the server has no stored result. Sessions without a server identity are never calibrated.
+     */
+    private void activateServerCalibration() {
+        activeCalibration = null;
+        if (!runtimeConfig.calibrationMode()) {
+            activeCalibratedOffset = JumpDiagnostics.NO_CALIBRATED_OFFSET;
+            return;
+        }
+
+        Integer calibratedOffset = serverCalibrationMemory.get(activeServerId);
+        activeCalibratedOffset = calibratedOffset == null ? JumpDiagnostics.NO_CALIBRATED_OFFSET : calibratedOffset;
+        if (calibratedOffset == null && !DEFAULT_SERVER_ID.equals(activeServerId)) {
+            activeCalibration = DelayCalibration.standard(runtimeConfig.competitiveRollbackRateMax());
+            LOGGER.debug("Calibrating grounded ticks for server {}", activeServerId);
+        }
+    }
+
+    /**
+     * Outcomes feed the lag detector, except during calibration: its binary search fails probes on purpose,
+     * which says nothing about lag.
+     */
+    private void onJumpOutcome(int requiredTicks, boolean confirmed) {
+        DelayCalibration calibration = activeCalibration;
+        if (calibration == null) {
+            lagSpikeDetector.recordOutcome(confirmed);
+            return;
+        }
+
+        calibration.record(requiredTicks, confirmed);
+        if (!calibration.isComplete()) {
+            return;
+        }
+
+        activeCalibration = null;
+        if (!calibration.hasVerifiedResult()) {
+            // Nothing passed, so the result is only the untested upper bound; try again next session.
+            LOGGER.debug("Discarded calibration of server {}: no probe passed in {} jumps",
+                    activeServerId,
+                    calibration.totalTrials()
+            );
+            return;
+        }
+
+        // Stored relative to the latency model, so a later session on a slower or faster connection
+        // shifts the requirement with its ping instead of reusing a count measured at another latency.
+        int modelTicks = jumpHandler.getModelGroundedTicks();
+        activeCalibratedOffset = calibration.resultTicks() - modelTicks;
+        serverCalibrationMemory.put(activeServerId, activeCalibratedOffset);
+        markConfigurationDirty();
+
+        LOGGER.debug("Calibrated server {} to {} grounded ticks (offset {} from the latency model) after {} jumps",
+                activeServerId,
+                calibration.resultTicks(),
+                activeCalibratedOffset,
+                calibration.totalTrials()
+        );
+    }
+
+    /**
+     * Hands a ping sample that arrived since the last tick to the lag detector and the server's windowed
+     * history.
+     */
+    private void recordNewLatencySample() {
+        long sampleCount = latencyEstimator.sampleCount();
+        if (sampleCount == lastLatencySampleCount) {
+            return;
+        }
+        lastLatencySampleCount = sampleCount;
+
+        int rttMs = latencyEstimator.lastRttMs();
+        lagSpikeDetector.recordLatency(rttMs);
+        ServerAdaptiveStats stats = serverStats.get(activeServerId);
+        if (stats != null) {
+            stats.recordLatency(rttMs);
+        }
+    }
+
+    /**
+     * While the safety failsafe is on, holds STABLE for the duration of a detected lag spike. The previous
+     * profile is restored on recovery unless the user picked another one in the meantime.
+     */
+    private void updateLagRegime() {
+        boolean spike = runtimeConfig.safetyFailsafe() && lagSpikeDetector.regime() == LagRegime.SPIKE;
+        if (spike == lagFailsafeActive) {
+            return;
+        }
+
+        lagFailsafeActive = spike;
+        // The bandit sits the spike out; its open window would otherwise credit spike outcomes to its arm.
+        profileBandit.reset();
+        JumpProfile currentProfile = state.getProfile();
+        if (spike) {
+            profileBeforeLagSpike = currentProfile;
+            state.setProfile(JumpProfile.STABLE);
+            LOGGER.debug("Lag spike detected on {}; holding STABLE (was {})", activeServerId, currentProfile.name());
+            return;
+        }
+
+        if (profileBeforeLagSpike != null && currentProfile == JumpProfile.STABLE) {
+            state.setProfile(profileBeforeLagSpike);
+            LOGGER.debug("Lag spike on {} recovered; restored {}", activeServerId, profileBeforeLagSpike.name());
+        }
+        profileBeforeLagSpike = null;
+    }
+
+    private void applyAutoProfileSwitch() {
+        if (!hasPassed(profileSwitchAllowedAtNanos)) {
+            return;
+        }
+
+        ServerAdaptiveStats stats = serverStats.get(activeServerId);
+        if (stats == null) {
+            return;
+        }
+
+        int attempts = stats.confirmedJumps() + stats.rejectedJumps();
+        if (attempts < runtimeConfig.minAttemptsForProfileSwitch()) {
+            return;
+        }
+
+        int latencyMs = jumpHandler.getLatencyMs();
+        boolean serverLagging = jumpHandler.getLagAllowanceTicks() > 0;
+        // Prefer the last 30 seconds of wall-clock history; fall back to the smoothed rate when it is thin
+        // or while the server lags. Neither holds outcomes recorded during a lag spike or server lag.
+        double rollbackRate = stats.rollbackRate();
+        WindowedSummary recentWindow = stats.windowSummary(JumpDiagnostics.RECENT_WINDOW_SECONDS);
+        if (!serverLagging && recentWindow.attempts() >= runtimeConfig.minAttemptsForProfileSwitch()) {
+            rollbackRate = recentWindow.rollbackRate();
+        }
+
+        JumpProfile targetProfile = chooseAutoProfile(latencyMs, rollbackRate, serverLagging);
+        if (runtimeConfig.safetyFailsafe() && rollbackRate >= runtimeConfig.failsafeRollbackRate()) {
+            targetProfile = JumpProfile.STABLE;
+        }
+
+        JumpProfile currentProfile = state.getProfile();
+        if (targetProfile == currentProfile) {
+            return;
+        }
+
+        state.setProfile(targetProfile);
+        rememberProfileForActiveServer(targetProfile);
+        markConfigurationDirty();
+        profileSwitchAllowedAtNanos = nanoClock.getAsLong() + AUTO_SWITCH_COOLDOWN_NANOS;
+
+        LOGGER.debug("Auto-switched profile to {} (server={}, ping={}ms, rollbackRate={})",
+                targetProfile.name(),
+                activeServerId,
+                latencyMs,
+                rollbackRate
+        );
+    }
+
+    /**
+     * Lets the bandit choose the profile for the active server. Picks are not written to the per-server
+     * profile memory, since the arm statistics already persist with the server stats; the failsafe still
+     * forces STABLE once enough attempts show a failsafe-level rollback rate.
+     */
+    private void applyBanditProfileSelection() {
+        ServerAdaptiveStats stats = serverStats.get(activeServerId);
+        if (stats == null) {
+            return;
+        }
+
+        JumpProfile currentProfile = state.getProfile();
+        JumpProfile targetProfile = profileBandit.onTick(stats, currentProfile);
+        int attempts = stats.confirmedJumps() + stats.rejectedJumps();
+        if (runtimeConfig.safetyFailsafe()
+                && attempts >= runtimeConfig.minAttemptsForProfileSwitch()
+                && stats.rollbackRate() >= runtimeConfig.failsafeRollbackRate()) {
+            targetProfile = JumpProfile.STABLE;
+        }
+
+        if (targetProfile == currentProfile) {
+            return;
+        }
+
+        state.setProfile(targetProfile);
+        LOGGER.debug("Bandit switched profile to {} (server={})", targetProfile.name(), activeServerId);
+    }
+
+    /**
+     * A server running behind its tick rate never gets {@code COMPETITIVE}, however good the ping looks.
+     */
+    private JumpProfile chooseAutoProfile(int latencyMs, double rollbackRate, boolean serverLagging) {
+        if (rollbackRate >= runtimeConfig.stableRollbackRateMin() || latencyMs >= 210) {
+            return JumpProfile.STABLE;
+        }
+
+        if (!serverLagging && rollbackRate <= runtimeConfig.competitiveRollbackRateMax() && latencyMs >= 0 && latencyMs <= 95) {
+            return JumpProfile.COMPETITIVE;
+        }
+
+        return JumpProfile.SMART;
+    }
+
+    private String normalizeServerId(String rawServerId) {
+        if (rawServerId == null || rawServerId.isBlank()) {
+            return DEFAULT_SERVER_ID;
+        }
+        return rawServerId.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private JumpProfile resolveProfileForServer(String serverId) {
+        return serverProfileMemory.getOrDefault(serverId, JumpProfile.SMART);
+    }
+
+    private void rememberProfileForActiveServer(JumpProfile profile) {
+        serverProfileMemory.put(activeServerId, profile);
+    }
+
+    private void loadConfiguration(Path configDirectory) {
+        configFilePath = configDirectory.resolve("jumpdelayfix.properties");
+
+        JumpConfigStorage.LoadedConfig loadedConfig = JumpConfigStorage.load(configFilePath);
+
+        runtimeConfig = loadedConfig.config().copy();
+        normalizeRuntimeThresholds();
+        serverProfileMemory.clear();
+        serverProfileMemory.putAll(loadedConfig.serverProfiles());
+        serverCalibrationMemory.clear();
+        serverCalibrationMemory.putAll(loadedConfig.serverCalibrations());
+        replaceStatsStore(ServerStatsStore.open(configDirectory.resolve(ServerStatsStore.FILE_NAME), MAX_TRACKED_SERVERS));
+    }
+
+    private void loadDetachedConfiguration(JumpRuntimeConfig config) {
+        configFilePath = null;
+        runtimeConfig = config.copy();
+        normalizeRuntimeThresholds();
+        serverProfileMemory.clear();
+        serverCalibrationMemory.clear();
+        replaceStatsStore(ServerStatsStore.detached());
+    }
+
+    private void replaceStatsStore(ServerStatsStore store) {
+        persistActiveServerStats();
+        statsStore.close();
+        statsStore = store;
+        serverStats.clear();
+        activeServerId = DEFAULT_SERVER_ID;
+        lastRawServerId = null;
+        configSaveDueAtNanos = nanoClock.getAsLong();
+        configDirty = false;
+    }
+
+    private void registerShutdownHookIfNeeded() {
+        if (shutdownHookRegistered) {
+            return;
+        }
+
+        Thread hook = new Thread(() -> {
+            try {
+                flushPendingConfiguration();
+            } catch (RuntimeException exception) {
+                LOGGER.debug("Failed to flush pending configuration during JVM shutdown", exception);
+            }
+        }, ModConstants.MOD_ID + "-config-flush");
+
+        try {
+            Runtime.getRuntime().addShutdownHook(hook);
+            shutdownHookRegistered = true;
+        } catch (IllegalStateException exception) {
+            LOGGER.debug("Skipping shutdown hook registration because JVM is shutting down");
+        } catch (SecurityException exception) {
+            LOGGER.warn("Unable to register configuration flush shutdown hook", exception);
+        }
+    }
+
+    /**
+     * Hands detached copies to the background writer; the tick thread never touches the filesystem.
+     * Headless sessions have no file and persist nothing.
+     */
+    private void persistConfigurationNow() {
+        if (configFilePath == null) {
+            return;
+        }
+
+        configWriter.submit(
+                configFilePath,
+                runtimeConfig.copy(),
+                Map.copyOf(serverProfileMemory),
+                Map.copyOf(serverCalibrationMemory)
+        );
+    }
+
+    private void markConfigurationDirty() {
+        configDirty = true;
+        configSaveDueAtNanos = nanoClock.getAsLong() + CONFIG_SAVE_DEBOUNCE_NANOS;
+        configChangedSincePublish = true;
+        publishState();
+    }
+
+    /**
+     * Publishes a new immutable snapshot when diagnostics or config changed since the last one.
+     * <p>
+     * The config is copied only after a mutation, so steady-state ticks publish nothing new.
+     */
+    private void publishState() {
+        JumpStateSnapshot current = stateSnapshot;
+        JumpRuntimeConfig publishedConfig = current.config();
+        if (configChangedSincePublish) {
+            publishedConfig = runtimeConfig.copy();
+            configChangedSincePublish = false;
+        }
+
+        JumpDiagnostics diagnostics = buildDiagnostics();
+        if (publishedConfig == current.config() && diagnostics.equals(current.diagnostics())) {
+            return;
+        }
+
+        stateSnapshot = new JumpStateSnapshot(current.version() + 1L, diagnostics, publishedConfig);
+    }
+
+    private void flushConfigurationIfDue() {
+        if (!configDirty) {
+            return;
+        }
+
+        if (!hasPassed(configSaveDueAtNanos)) {
+            return;
+        }
+
+        persistConfigurationNow();
+        configDirty = false;
+    }
+
+    private void flushConfigurationNow() {
+        if (!configDirty) {
+            return;
+        }
+
+        persistConfigurationNow();
+        configDirty = false;
+        configSaveDueAtNanos = nanoClock.getAsLong();
+    }
+
+    private boolean hasPassed(long deadlineNanos) {
+        return nanoClock.getAsLong() - deadlineNanos >= 0L;
+    }
+
+    private static <V> Map<String, V> createServerScopedLruMap() {
+        return new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > MAX_TRACKED_SERVERS;
+            }
+        };
+    }
+
+    private void normalizeRuntimeThresholds() {
+        double competitiveRate = runtimeConfig.competitiveRollbackRateMax();
+        double stableRate = runtimeConfig.stableRollbackRateMin();
+        double failsafeRate = runtimeConfig.failsafeRollbackRate();
+
+        if (stableRate < competitiveRate) {
+            stableRate = competitiveRate;
+        }
+
+        if (failsafeRate < stableRate) {
+            failsafeRate = stableRate;
+        }
+
+        runtimeConfig.setStableRollbackRateMin(stableRate);
+        runtimeConfig.setFailsafeRollbackRate(failsafeRate);
+    }
+
+    synchronized void resetForTests() {
+        configWriter.flush(CONFIG_FLUSH_TIMEOUT);
+        jumpHandler = JumpHandler.noOp();
+        jumpInputQueue.clear();
+        latencyEstimator.reset();
+        tickRateEstimator.reset();
+        serverAcknowledgedJumps = -1L;
+        profileBandit.reset();
+        lagSpikeDetector.reset();
+        profileBeforeLagSpike = null;
+        lagFailsafeActive = false;
+        lastLatencySampleCount = 0L;
+        toggleFeedback = ToggleFeedback.NO_OP;
+        runtimeConfig = JumpRuntimeConfig.defaults();
+        serverProfileMemory.clear();
+        serverCalibrationMemory.clear();
+        activeCalibration = null;
+        activeCalibratedOffset = JumpDiagnostics.NO_CALIBRATED_OFFSET;
+        serverStats.clear();
+        statsStore.close();
+        statsStore = ServerStatsStore.detached();
+        activeStatsSlot = ServerStatsStore.NO_SLOT;
+        configFilePath = Path.of("config", "jumpdelayfix.properties");
+        activeServerId = DEFAULT_SERVER_ID;
+        lastRawServerId = null;
+        lastConfirmedJumps = 0;
+        lastRejectedJumps = 0;
+        lastShadowPredictions = 0;
+        profileSwitchAllowedAtNanos = nanoClock.getAsLong();
+        configSaveDueAtNanos = nanoClock.getAsLong();
+        configDirty = false;
+        jumpHandlerTickedInMovementPhase = false;
+        configChangedSincePublish = true;
+
+        state.setEnabled(true);
+        state.setProfile(JumpProfile.SMART);
+        initialized = false;
+        stateSnapshot = JumpStateSnapshot.initial();
+    }
+}
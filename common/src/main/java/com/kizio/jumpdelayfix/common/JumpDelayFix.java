@@ -2,657 +2,339 @@ package com.kizio.jumpdelayfix.common;
 
 import com.kizio.jumpdelayfix.common.api.JumpInput;
 import com.kizio.jumpdelayfix.common.api.ToggleFeedback;
-import com.kizio.jumpdelayfix.common.config.JumpConfigStorage;
-import com.kizio.jumpdelayfix.common.config.JumpPresetCodec;
 import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
-import com.kizio.jumpdelayfix.common.feature.JumpHandler;
+import com.kizio.jumpdelayfix.common.feature.GroundedTicksModel;
 import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
 import com.kizio.jumpdelayfix.common.model.JumpProfile;
-import com.kizio.jumpdelayfix.common.model.ServerAdaptiveStats;
+import com.kizio.jumpdelayfix.common.network.LatencyEstimator;
+import com.kizio.jumpdelayfix.common.network.ServerTickRateEstimator;
+import com.kizio.jumpdelayfix.common.state.JumpStateSnapshot;
 import com.kizio.jumpdelayfix.common.state.ModState;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
-import java.util.LinkedHashMap;
-import java.util.Locale;
-import java.util.Map;
-import java.util.Objects;
 
 /**
  * Main runtime facade for the client-side jump delay controller.
  * <p>
- * Loader-specific code only depends on this class and {@link com.kizio.jumpdelayfix.common.api.JumpInput},
- * while all gameplay logic, profile adaptation and persistent configuration are handled here.
+ * Loader-specific code only depends on this class and {@link com.kizio.jumpdelayfix.common.api.JumpInput}.
+ * Every method delegates to one default {@link JumpController}, whose enabled flag and profile are the
+ * ones {@link ModState} exposes; independent sessions create their own controllers instead.
  */
 public final class JumpDelayFix {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(ModConstants.MOD_NAME);
+    private static final JumpController DEFAULT_CONTROLLER = new JumpController(ModState.global());
 
-    private static final String DEFAULT_SERVER_ID = "global";
-    private static final int AUTO_SWITCH_COOLDOWN_TICKS = 40;
-    private static final int MAX_TRACKED_SERVERS = 128;
-    private static final int CONFIG_SAVE_DEBOUNCE_TICKS = 10;
-
-    private static JumpHandler jumpHandler = JumpHandler.noOp();
-    private static ToggleFeedback toggleFeedback = ToggleFeedback.NO_OP;
-
-    private static boolean initialized;
-    private static boolean shutdownHookRegistered;
-
-    private static JumpRuntimeConfig runtimeConfig = JumpRuntimeConfig.defaults();
-    private static final Map<String, JumpProfile> serverProfileMemory = createServerScopedLruMap();
-    private static final Map<String, ServerAdaptiveStats> serverStats = createServerScopedLruMap();
-
-    private static Path configFilePath = Path.of("config", "jumpdelayfix.properties");
-    private static String activeServerId = DEFAULT_SERVER_ID;
+    private JumpDelayFix() {
+    }
 
-    private static int lastConfirmedJumps;
-    private static int lastRejectedJumps;
-    private static int lastShadowPredictions;
-    private static int profileSwitchCooldownTicks;
-    private static int configSaveCooldownTicks;
-    private static boolean configDirty;
+    /**
+     * @return controller behind this facade
+     */
+    public static JumpController defaultController() {
+        return DEFAULT_CONTROLLER;
+    }
 
-    private JumpDelayFix() {
+    public static void init(JumpInput input, ToggleFeedback feedback) {
+        DEFAULT_CONTROLLER.init(input, feedback);
     }
 
-    public static synchronized void init(JumpInput input, ToggleFeedback feedback) {
-        init(input, feedback, Path.of("config"));
+    public static void init(JumpInput input, ToggleFeedback feedback, Path configDirectory) {
+        DEFAULT_CONTROLLER.init(input, feedback, configDirectory);
     }
 
-    public static synchronized void init(JumpInput input, ToggleFeedback feedback, Path configDirectory) {
-        jumpHandler = new JumpHandler(Objects.requireNonNull(input, "input"));
-        toggleFeedback = Objects.requireNonNull(feedback, "feedback");
+    public static void initDetached(JumpInput input, JumpRuntimeConfig config) {
+        DEFAULT_CONTROLLER.initDetached(input, config);
+    }
 
-        registerShutdownHookIfNeeded();
-        loadConfiguration(Objects.requireNonNull(configDirectory, "configDirectory"));
+    public static void onClientTick() {
+        DEFAULT_CONTROLLER.onClientTick();
+    }
 
-        ModState.setEnabled(true);
-        ModState.setProfile(resolveProfileForServer(activeServerId));
-        jumpHandler.setShadowMode(runtimeConfig.shadowMode());
+    public static void onMovementPhase() {
+        DEFAULT_CONTROLLER.onMovementPhase();
+    }
 
-        lastConfirmedJumps = 0;
-        lastRejectedJumps = 0;
-        lastShadowPredictions = 0;
-        profileSwitchCooldownTicks = 0;
-        configSaveCooldownTicks = 0;
-        configDirty = false;
-        initialized = true;
+    public static void onJumpKeyStateChanged(boolean pressed) {
+        DEFAULT_CONTROLLER.onJumpKeyStateChanged(pressed);
+    }
 
-        LOGGER.info("{} initialized", ModConstants.MOD_NAME);
+    public static void onLatencySample(long sentAtMillis, long receivedAtMillis) {
+        DEFAULT_CONTROLLER.onLatencySample(sentAtMillis, receivedAtMillis);
     }
 
-    /**
-     * Ticks the jump controller once per client tick.
-     */
-    public static synchronized void onClientTick() {
-        if (!initialized) {
-            return;
-        }
+    public static LatencyEstimator getLatencyEstimator() {
+        return DEFAULT_CONTROLLER.getLatencyEstimator();
+    }
 
-        jumpHandler.setShadowMode(runtimeConfig.shadowMode());
-        jumpHandler.tick();
+    public static GroundedTicksModel getGroundedTicksModel() {
+        return DEFAULT_CONTROLLER.getGroundedTicksModel();
+    }
 
-        synchronizeServerContext();
-        updateServerStats();
+    public static void onWorldTimeUpdate(long gameTime, long receivedAtMillis) {
+        DEFAULT_CONTROLLER.onWorldTimeUpdate(gameTime, receivedAtMillis);
+    }
 
-        if (runtimeConfig.autoProfileSwitch()) {
-            applyAutoProfileSwitch();
-        }
+    public static ServerTickRateEstimator getTickRateEstimator() {
+        return DEFAULT_CONTROLLER.getTickRateEstimator();
+    }
 
-        if (profileSwitchCooldownTicks > 0) {
-            profileSwitchCooldownTicks--;
-        }
+    public static void onServerJumpAck(int acceptedTotal) {
+        DEFAULT_CONTROLLER.onServerJumpAck(acceptedTotal);
+    }
 
-        flushConfigurationIfDue();
+    public static void resetServerJumpAcks() {
+        DEFAULT_CONTROLLER.resetServerJumpAcks();
     }
 
-    public static synchronized boolean toggleEnabled() {
-        boolean enabled = ModState.toggle();
-        toggleFeedback.onToggle(enabled);
+    public static long getServerAcknowledgedJumps() {
+        return DEFAULT_CONTROLLER.getServerAcknowledgedJumps();
+    }
 
-        LOGGER.debug("{} toggled {}", ModConstants.MOD_NAME, enabled ? "on" : "off");
-        return enabled;
+    public static boolean toggleEnabled() {
+        return DEFAULT_CONTROLLER.toggleEnabled();
     }
 
     public static boolean isEnabled() {
-        return ModState.isEnabled();
+        return DEFAULT_CONTROLLER.isEnabled();
     }
 
     public static JumpProfile getProfile() {
-        return ModState.getProfile();
+        return DEFAULT_CONTROLLER.getProfile();
     }
 
-    public static synchronized JumpProfile cycleProfile() {
-        JumpProfile profile = ModState.cycleProfile();
-        rememberProfileForActiveServer(profile);
-
-        // Manual profile switch implies user intent. Keep this deterministic until user re-enables auto mode.
-        runtimeConfig.setAutoProfileSwitch(false);
-        markConfigurationDirty();
-
-        LOGGER.debug("{} profile {}", ModConstants.MOD_NAME, profile.name());
-        return profile;
+    public static JumpProfile cycleProfile() {
+        return DEFAULT_CONTROLLER.cycleProfile();
     }
 
-    public static synchronized JumpProfile setProfile(JumpProfile profile) {
-        JumpProfile resolvedProfile = Objects.requireNonNull(profile, "profile");
-
-        ModState.setProfile(resolvedProfile);
-        rememberProfileForActiveServer(resolvedProfile);
-
-        // Manual profile switch implies user intent. Keep this deterministic until user re-enables auto mode.
-        runtimeConfig.setAutoProfileSwitch(false);
-        markConfigurationDirty();
-
-        LOGGER.debug("{} profile {}", ModConstants.MOD_NAME, resolvedProfile.name());
-        return resolvedProfile;
+    public static JumpProfile setProfile(JumpProfile profile) {
+        return DEFAULT_CONTROLLER.setProfile(profile);
     }
 
-    public static synchronized boolean toggleAutoProfileSwitch() {
-        runtimeConfig.setAutoProfileSwitch(!runtimeConfig.autoProfileSwitch());
-        markConfigurationDirty();
-        return runtimeConfig.autoProfileSwitch();
+    public static boolean toggleAutoProfileSwitch() {
+        return DEFAULT_CONTROLLER.toggleAutoProfileSwitch();
     }
 
-    public static synchronized boolean isAutoProfileSwitchEnabled() {
-        return runtimeConfig.autoProfileSwitch();
+    public static boolean isAutoProfileSwitchEnabled() {
+        return DEFAULT_CONTROLLER.isAutoProfileSwitchEnabled();
     }
 
-    public static synchronized boolean toggleHudEnabled() {
-        runtimeConfig.setHudEnabled(!runtimeConfig.hudEnabled());
-        markConfigurationDirty();
-        return runtimeConfig.hudEnabled();
+    public static boolean toggleHudEnabled() {
+        return DEFAULT_CONTROLLER.toggleHudEnabled();
     }
 
-    public static synchronized boolean isHudEnabled() {
-        return runtimeConfig.hudEnabled();
+    public static boolean isHudEnabled() {
+        return DEFAULT_CONTROLLER.isHudEnabled();
     }
 
-    public static synchronized void setHudPosition(int x, int y) {
-        int previousX = runtimeConfig.hudOffsetX();
-        int previousY = runtimeConfig.hudOffsetY();
-
-        runtimeConfig.setHudOffsetX(x);
-        runtimeConfig.setHudOffsetY(y);
-
-        if (runtimeConfig.hudOffsetX() != previousX || runtimeConfig.hudOffsetY() != previousY) {
-            markConfigurationDirty();
-        }
+    public static void setHudPosition(int x, int y) {
+        DEFAULT_CONTROLLER.setHudPosition(x, y);
     }
 
-    public static synchronized void moveHudBy(int dx, int dy) {
-        setHudPosition(runtimeConfig.hudOffsetX() + dx, runtimeConfig.hudOffsetY() + dy);
+    public static void moveHudBy(int dx, int dy) {
+        DEFAULT_CONTROLLER.moveHudBy(dx, dy);
     }
 
-    public static synchronized int getHudOffsetX() {
-        return runtimeConfig.hudOffsetX();
+    public static int getHudOffsetX() {
+        return DEFAULT_CONTROLLER.getHudOffsetX();
     }
 
-    public static synchronized int getHudOffsetY() {
-        return runtimeConfig.hudOffsetY();
+    public static int getHudOffsetY() {
+        return DEFAULT_CONTROLLER.getHudOffsetY();
     }
 
-    public static synchronized double setHudScale(double scale) {
-        double previousScale = runtimeConfig.hudScale();
-        runtimeConfig.setHudScale(scale);
-
-        if (Double.compare(runtimeConfig.hudScale(), previousScale) != 0) {
-            markConfigurationDirty();
-        }
-        return runtimeConfig.hudScale();
+    public static double setHudScale(double scale) {
+        return DEFAULT_CONTROLLER.setHudScale(scale);
     }
 
-    public static synchronized double adjustHudScale(double delta) {
-        return setHudScale(runtimeConfig.hudScale() + delta);
+    public static double adjustHudScale(double delta) {
+        return DEFAULT_CONTROLLER.adjustHudScale(delta);
     }
 
-    public static synchronized double getHudScale() {
-        return runtimeConfig.hudScale();
+    public static double getHudScale() {
+        return DEFAULT_CONTROLLER.getHudScale();
     }
 
-    public static synchronized void resetHudLayout() {
-        JumpRuntimeConfig defaults = JumpRuntimeConfig.defaults();
-        runtimeConfig.setHudOffsetX(defaults.hudOffsetX());
-        runtimeConfig.setHudOffsetY(defaults.hudOffsetY());
-        runtimeConfig.setHudScale(defaults.hudScale());
-        markConfigurationDirty();
+    public static void resetHudLayout() {
+        DEFAULT_CONTROLLER.resetHudLayout();
     }
 
-    public static synchronized boolean toggleHudProfileAndPing() {
-        runtimeConfig.setHudShowProfileAndPing(!runtimeConfig.hudShowProfileAndPing());
-        markConfigurationDirty();
-        return runtimeConfig.hudShowProfileAndPing();
+    public static boolean toggleHudProfileAndPing() {
+        return DEFAULT_CONTROLLER.toggleHudProfileAndPing();
     }
 
-    public static synchronized boolean isHudProfileAndPingVisible() {
-        return runtimeConfig.hudShowProfileAndPing();
+    public static boolean isHudProfileAndPingVisible() {
+        return DEFAULT_CONTROLLER.isHudProfileAndPingVisible();
     }
 
-    public static synchronized boolean toggleHudRollbackAndPenalty() {
-        runtimeConfig.setHudShowRollbackAndPenalty(!runtimeConfig.hudShowRollbackAndPenalty());
-        markConfigurationDirty();
-        return runtimeConfig.hudShowRollbackAndPenalty();
+    public static boolean toggleHudRollbackAndPenalty() {
+        return DEFAULT_CONTROLLER.toggleHudRollbackAndPenalty();
     }
 
-    public static synchronized boolean isHudRollbackAndPenaltyVisible() {
-        return runtimeConfig.hudShowRollbackAndPenalty();
+    public static boolean isHudRollbackAndPenaltyVisible() {
+        return DEFAULT_CONTROLLER.isHudRollbackAndPenaltyVisible();
     }
 
-    public static synchronized boolean toggleHudModeAndQuality() {
-        runtimeConfig.setHudShowModeAndQuality(!runtimeConfig.hudShowModeAndQuality());
-        markConfigurationDirty();
-        return runtimeConfig.hudShowModeAndQuality();
+    public static boolean toggleHudModeAndQuality() {
+        return DEFAULT_CONTROLLER.toggleHudModeAndQuality();
     }
 
-    public static synchronized boolean isHudModeAndQualityVisible() {
-        return runtimeConfig.hudShowModeAndQuality();
+    public static boolean isHudModeAndQualityVisible() {
+        return DEFAULT_CONTROLLER.isHudModeAndQualityVisible();
     }
 
-    public static synchronized boolean toggleHudServer() {
-        runtimeConfig.setHudShowServer(!runtimeConfig.hudShowServer());
-        markConfigurationDirty();
-        return runtimeConfig.hudShowServer();
+    public static boolean toggleHudServer() {
+        return DEFAULT_CONTROLLER.toggleHudServer();
     }
 
-    public static synchronized boolean isHudServerVisible() {
-        return runtimeConfig.hudShowServer();
+    public static boolean isHudServerVisible() {
+        return DEFAULT_CONTROLLER.isHudServerVisible();
     }
 
-    public static synchronized boolean toggleHudQualityBar() {
-        runtimeConfig.setHudShowQualityBar(!runtimeConfig.hudShowQualityBar());
-        markConfigurationDirty();
-        return runtimeConfig.hudShowQualityBar();
+    public static boolean toggleHudQualityBar() {
+        return DEFAULT_CONTROLLER.toggleHudQualityBar();
     }
 
-    public static synchronized boolean isHudQualityBarVisible() {
-        return runtimeConfig.hudShowQualityBar();
+    public static boolean isHudQualityBarVisible() {
+        return DEFAULT_CONTROLLER.isHudQualityBarVisible();
     }
 
-    public static synchronized boolean toggleShadowMode() {
-        runtimeConfig.setShadowMode(!runtimeConfig.shadowMode());
-        jumpHandler.setShadowMode(runtimeConfig.shadowMode());
-        markConfigurationDirty();
-        return runtimeConfig.shadowMode();
+    public static boolean toggleShadowMode() {
+        return DEFAULT_CONTROLLER.toggleShadowMode();
     }
 
-    public static synchronized boolean isShadowModeEnabled() {
-        return runtimeConfig.shadowMode();
+    public static boolean isShadowModeEnabled() {
+        return DEFAULT_CONTROLLER.isShadowModeEnabled();
     }
 
-    public static synchronized boolean toggleSafetyFailsafe() {
-        runtimeConfig.setSafetyFailsafe(!runtimeConfig.safetyFailsafe());
-        markConfigurationDirty();
-        return runtimeConfig.safetyFailsafe();
+    public static boolean toggleSafetyFailsafe() {
+        return DEFAULT_CONTROLLER.toggleSafetyFailsafe();
     }
 
-    public static synchronized boolean isSafetyFailsafeEnabled() {
-        return runtimeConfig.safetyFailsafe();
+    public static boolean isSafetyFailsafeEnabled() {
+        return DEFAULT_CONTROLLER.isSafetyFailsafeEnabled();
     }
 
-    public static synchronized int setMinAttemptsForProfileSwitch(int minAttemptsForProfileSwitch) {
-        int previous = runtimeConfig.minAttemptsForProfileSwitch();
-        runtimeConfig.setMinAttemptsForProfileSwitch(minAttemptsForProfileSwitch);
-
-        if (runtimeConfig.minAttemptsForProfileSwitch() != previous) {
-            markConfigurationDirty();
-        }
-        return runtimeConfig.minAttemptsForProfileSwitch();
+    public static boolean toggleMovementPhaseDispatch() {
+        return DEFAULT_CONTROLLER.toggleMovementPhaseDispatch();
     }
 
-    public static synchronized int adjustMinAttemptsForProfileSwitch(int delta) {
-        return setMinAttemptsForProfileSwitch(runtimeConfig.minAttemptsForProfileSwitch() + delta);
+    public static boolean isMovementPhaseDispatchEnabled() {
+        return DEFAULT_CONTROLLER.isMovementPhaseDispatchEnabled();
     }
 
-    public static synchronized double setCompetitiveRollbackRateMax(double rollbackRateMax) {
-        double previousCompetitive = runtimeConfig.competitiveRollbackRateMax();
-        double previousStable = runtimeConfig.stableRollbackRateMin();
-        double previousFailsafe = runtimeConfig.failsafeRollbackRate();
-
-        runtimeConfig.setCompetitiveRollbackRateMax(rollbackRateMax);
-        normalizeRuntimeThresholds();
-
-        if (Double.compare(runtimeConfig.competitiveRollbackRateMax(), previousCompetitive) != 0
-                || Double.compare(runtimeConfig.stableRollbackRateMin(), previousStable) != 0
-                || Double.compare(runtimeConfig.failsafeRollbackRate(), previousFailsafe) != 0) {
-            markConfigurationDirty();
-        }
-        return runtimeConfig.competitiveRollbackRateMax();
+    public static int setJumpBufferMs(int jumpBufferMs) {
+        return DEFAULT_CONTROLLER.setJumpBufferMs(jumpBufferMs);
     }
 
-    public static synchronized double adjustCompetitiveRollbackRateMax(double delta) {
-        return setCompetitiveRollbackRateMax(runtimeConfig.competitiveRollbackRateMax() + delta);
+    public static int adjustJumpBufferMs(int delta) {
+        return DEFAULT_CONTROLLER.adjustJumpBufferMs(delta);
     }
 
-    public static synchronized double setStableRollbackRateMin(double rollbackRateMin) {
-        double previousStable = runtimeConfig.stableRollbackRateMin();
-        double previousFailsafe = runtimeConfig.failsafeRollbackRate();
-
-        runtimeConfig.setStableRollbackRateMin(rollbackRateMin);
-        normalizeRuntimeThresholds();
-
-        if (Double.compare(runtimeConfig.stableRollbackRateMin(), previousStable) != 0
-                || Double.compare(runtimeConfig.failsafeRollbackRate(), previousFailsafe) != 0) {
-            markConfigurationDirty();
-        }
-        return runtimeConfig.stableRollbackRateMin();
+    public static int getJumpBufferMs() {
+        return DEFAULT_CONTROLLER.getJumpBufferMs();
     }
 
-    public static synchronized double adjustStableRollbackRateMin(double delta) {
-        return setStableRollbackRateMin(runtimeConfig.stableRollbackRateMin() + delta);
+    public static double setLatencyJitterWeight(double latencyJitterWeight) {
+        return DEFAULT_CONTROLLER.setLatencyJitterWeight(latencyJitterWeight);
     }
 
-    public static synchronized double setFailsafeRollbackRate(double rollbackRate) {
-        double previous = runtimeConfig.failsafeRollbackRate();
-        runtimeConfig.setFailsafeRollbackRate(rollbackRate);
-        normalizeRuntimeThresholds();
-
-        if (Double.compare(runtimeConfig.failsafeRollbackRate(), previous) != 0) {
-            markConfigurationDirty();
-        }
-        return runtimeConfig.failsafeRollbackRate();
+    public static double getLatencyJitterWeight() {
+        return DEFAULT_CONTROLLER.getLatencyJitterWeight();
     }
 
-    public static synchronized double adjustFailsafeRollbackRate(double delta) {
-        return setFailsafeRollbackRate(runtimeConfig.failsafeRollbackRate() + delta);
+    public static boolean toggleCalibrationMode() {
+        return DEFAULT_CONTROLLER.toggleCalibrationMode();
     }
 
-    public static synchronized void resetSettingsToDefaults() {
-        runtimeConfig = JumpRuntimeConfig.defaults();
-        normalizeRuntimeThresholds();
-        jumpHandler.setShadowMode(runtimeConfig.shadowMode());
-        markConfigurationDirty();
+    public static boolean isCalibrationModeEnabled() {
+        return DEFAULT_CONTROLLER.isCalibrationModeEnabled();
     }
 
-    public static synchronized void clearServerProfileMemory() {
-        serverProfileMemory.clear();
-        serverStats.clear();
-        ModState.setProfile(JumpProfile.SMART);
-        markConfigurationDirty();
+    public static void recalibrateActiveServer() {
+        DEFAULT_CONTROLLER.recalibrateActiveServer();
     }
 
-    public static synchronized JumpRuntimeConfig getRuntimeConfig() {
-        return runtimeConfig.copy();
+    public static boolean isCalibrating() {
+        return DEFAULT_CONTROLLER.isCalibrating();
     }
 
-    public static synchronized JumpDiagnostics getDiagnostics() {
-        if (!initialized) {
-            return JumpDiagnostics.empty();
-        }
-
-        ServerAdaptiveStats stats = serverStats.get(activeServerId);
-        int confirmed = stats == null ? 0 : stats.confirmedJumps();
-        int rejected = stats == null ? 0 : stats.rejectedJumps();
-        int shadowPredictions = stats == null ? 0 : stats.shadowPredictions();
-        double rollbackRate = stats == null ? 0.0D : stats.rollbackRate();
-
-        return new JumpDiagnostics(
-                activeServerId,
-                ModState.getProfile(),
-                ModState.isEnabled(),
-                runtimeConfig.autoProfileSwitch(),
-                runtimeConfig.shadowMode(),
-                runtimeConfig.hudEnabled(),
-                runtimeConfig.safetyFailsafe(),
-                jumpHandler.getLatencyMs(),
-                jumpHandler.getAdaptivePenaltyTicks(),
-                jumpHandler.getRequiredGroundedTicks(),
-                confirmed,
-                rejected,
-                shadowPredictions,
-                rollbackRate
-        );
+    public static int getCalibratedOffsetTicks() {
+        return DEFAULT_CONTROLLER.getCalibratedOffsetTicks();
     }
 
-    public static synchronized String exportCurrentPresetCode() {
-        return JumpPresetCodec.exportPreset(ModState.getProfile(), runtimeConfig);
+    public static boolean toggleBanditProfileSelection() {
+        return DEFAULT_CONTROLLER.toggleBanditProfileSelection();
     }
 
-    public static synchronized boolean importPresetCode(String presetCode) {
-        JumpPresetCodec.ImportedPreset importedPreset = JumpPresetCodec.importPreset(
-                presetCode,
-                runtimeConfig,
-                ModState.getProfile()
-        );
-        if (importedPreset == null) {
-            return false;
-        }
-
-        runtimeConfig = importedPreset.runtimeConfig();
-        normalizeRuntimeThresholds();
-        jumpHandler.setShadowMode(runtimeConfig.shadowMode());
-        ModState.setProfile(importedPreset.profile());
-        rememberProfileForActiveServer(importedPreset.profile());
-        markConfigurationDirty();
-        return true;
+    public static boolean isBanditProfileSelectionEnabled() {
+        return DEFAULT_CONTROLLER.isBanditProfileSelectionEnabled();
     }
 
-    /**
-     * Forces immediate persistence of pending config changes.
-     * <p>
-     * Intended for screen close/shutdown hooks where we do not want to wait for tick debounce.
-     */
-    public static synchronized void flushPendingConfiguration() {
-        flushConfigurationNow();
+    public static int setMinAttemptsForProfileSwitch(int minAttemptsForProfileSwitch) {
+        return DEFAULT_CONTROLLER.setMinAttemptsForProfileSwitch(minAttemptsForProfileSwitch);
     }
 
-    private static void synchronizeServerContext() {
-        String serverId = normalizeServerId(jumpHandler.getServerIdentifier());
-
-        if (Objects.equals(serverId, activeServerId)) {
-            return;
-        }
-
-        activeServerId = serverId;
-        ModState.setProfile(resolveProfileForServer(activeServerId));
-
-        // Avoid cross-server stat deltas after switching sessions.
-        lastConfirmedJumps = jumpHandler.getConfirmedJumpCount();
-        lastRejectedJumps = jumpHandler.getRejectedJumpCount();
-        lastShadowPredictions = jumpHandler.getShadowJumpPredictionCount();
+    public static int adjustMinAttemptsForProfileSwitch(int delta) {
+        return DEFAULT_CONTROLLER.adjustMinAttemptsForProfileSwitch(delta);
     }
 
-    private static void updateServerStats() {
-        int confirmed = jumpHandler.getConfirmedJumpCount();
-        int rejected = jumpHandler.getRejectedJumpCount();
-        int shadowPredictions = jumpHandler.getShadowJumpPredictionCount();
-
-        int confirmedDelta = Math.max(0, confirmed - lastConfirmedJumps);
-        int rejectedDelta = Math.max(0, rejected - lastRejectedJumps);
-        int shadowDelta = Math.max(0, shadowPredictions - lastShadowPredictions);
-
-        lastConfirmedJumps = confirmed;
-        lastRejectedJumps = rejected;
-        lastShadowPredictions = shadowPredictions;
-
-        ServerAdaptiveStats stats = serverStats.computeIfAbsent(activeServerId, ignored -> new ServerAdaptiveStats());
-        stats.update(confirmedDelta, rejectedDelta, shadowDelta);
+    public static double setCompetitiveRollbackRateMax(double rollbackRateMax) {
+        return DEFAULT_CONTROLLER.setCompetitiveRollbackRateMax(rollbackRateMax);
     }
 
-    private static void applyAutoProfileSwitch() {
-        if (profileSwitchCooldownTicks > 0) {
-            return;
-        }
-
-        ServerAdaptiveStats stats = serverStats.get(activeServerId);
-        if (stats == null) {
-            return;
-        }
-
-        int attempts = stats.confirmedJumps() + stats.rejectedJumps();
-        if (attempts < runtimeConfig.minAttemptsForProfileSwitch()) {
-            return;
-        }
-
-        int latencyMs = jumpHandler.getLatencyMs();
-        double rollbackRate = stats.rollbackRate();
-
-        JumpProfile targetProfile = chooseAutoProfile(latencyMs, rollbackRate);
-        if (runtimeConfig.safetyFailsafe() && rollbackRate >= runtimeConfig.failsafeRollbackRate()) {
-            targetProfile = JumpProfile.STABLE;
-        }
-
-        JumpProfile currentProfile = ModState.getProfile();
-        if (targetProfile == currentProfile) {
-            return;
-        }
-
-        ModState.setProfile(targetProfile);
-        rememberProfileForActiveServer(targetProfile);
-        markConfigurationDirty();
-        profileSwitchCooldownTicks = AUTO_SWITCH_COOLDOWN_TICKS;
-
-        LOGGER.debug("Auto-switched profile to {} (server={}, ping={}ms, rollbackRate={})",
-                targetProfile.name(),
-                activeServerId,
-                latencyMs,
-                rollbackRate
-        );
+    public static double adjustCompetitiveRollbackRateMax(double delta) {
+        return DEFAULT_CONTROLLER.adjustCompetitiveRollbackRateMax(delta);
     }
 
-    private static JumpProfile chooseAutoProfile(int latencyMs, double rollbackRate) {
-        if (rollbackRate >= runtimeConfig.stableRollbackRateMin() || latencyMs >= 210) {
-            return JumpProfile.STABLE;
-        }
-
-        if (rollbackRate <= runtimeConfig.competitiveRollbackRateMax() && latencyMs >= 0 && latencyMs <= 95) {
-            return JumpProfile.COMPETITIVE;
-        }
-
-        return JumpProfile.SMART;
+    public static double setStableRollbackRateMin(double rollbackRateMin) {
+        return DEFAULT_CONTROLLER.setStableRollbackRateMin(rollbackRateMin);
     }
 
-    private static String normalizeServerId(String rawServerId) {
-        if (rawServerId == null || rawServerId.isBlank()) {
-            return DEFAULT_SERVER_ID;
-        }
-        return rawServerId.trim().toLowerCase(Locale.ROOT);
+    public static double adjustStableRollbackRateMin(double delta) {
+        return DEFAULT_CONTROLLER.adjustStableRollbackRateMin(delta);
     }
 
-    private static JumpProfile resolveProfileForServer(String serverId) {
-        return serverProfileMemory.getOrDefault(serverId, JumpProfile.SMART);
+    public static double setFailsafeRollbackRate(double rollbackRate) {
+        return DEFAULT_CONTROLLER.setFailsafeRollbackRate(rollbackRate);
     }
 
-    private static void rememberProfileForActiveServer(JumpProfile profile) {
-        serverProfileMemory.put(activeServerId, profile);
+    public static double adjustFailsafeRollbackRate(double delta) {
+        return DEFAULT_CONTROLLER.adjustFailsafeRollbackRate(delta);
     }
 
-    private static void loadConfiguration(Path configDirectory) {
-        configFilePath = configDirectory.resolve("jumpdelayfix.properties");
-
-        JumpConfigStorage.LoadedConfig loadedConfig = JumpConfigStorage.load(configFilePath);
-
-        runtimeConfig = loadedConfig.config().copy();
-        normalizeRuntimeThresholds();
-        serverProfileMemory.clear();
-        serverProfileMemory.putAll(loadedConfig.serverProfiles());
-
-        serverStats.clear();
-        activeServerId = DEFAULT_SERVER_ID;
-        configSaveCooldownTicks = 0;
-        configDirty = false;
+    public static void resetSettingsToDefaults() {
+        DEFAULT_CONTROLLER.resetSettingsToDefaults();
     }
 
-    private static void registerShutdownHookIfNeeded() {
-        if (shutdownHookRegistered) {
-            return;
-        }
-
-        Thread hook = new Thread(() -> {
-            try {
-                flushPendingConfiguration();
-            } catch (RuntimeException exception) {
-                LOGGER.debug("Failed to flush pending configuration during JVM shutdown", exception);
-            }
-        }, ModConstants.MOD_ID + "-config-flush");
-
-        try {
-            Runtime.getRuntime().addShutdownHook(hook);
-            shutdownHookRegistered = true;
-        } catch (IllegalStateException exception) {
-            LOGGER.debug("Skipping shutdown hook registration because JVM is shutting down");
-        } catch (SecurityException exception) {
-            LOGGER.warn("Unable to register configuration flush shutdown hook", exception);
-        }
+    public static void clearServerProfileMemory() {
+        DEFAULT_CONTROLLER.clearServerProfileMemory();
     }
 
-    private static void persistConfigurationNow() {
-        JumpConfigStorage.save(configFilePath, runtimeConfig, serverProfileMemory);
+    public static JumpStateSnapshot getStateSnapshot() {
+        return DEFAULT_CONTROLLER.getStateSnapshot();
     }
 
-    private static void markConfigurationDirty() {
-        configDirty = true;
-        configSaveCooldownTicks = CONFIG_SAVE_DEBOUNCE_TICKS;
+    public static JumpRuntimeConfig getRuntimeConfig() {
+        return DEFAULT_CONTROLLER.getRuntimeConfig();
     }
 
-    private static void flushConfigurationIfDue() {
-        if (!configDirty) {
-            return;
-        }
-
-        if (configSaveCooldownTicks > 0) {
-            configSaveCooldownTicks--;
-            return;
-        }
-
-        persistConfigurationNow();
-        configDirty = false;
+    public static JumpDiagnostics getDiagnostics() {
+        return DEFAULT_CONTROLLER.getDiagnostics();
     }
 
-    private static void flushConfigurationNow() {
-        if (!configDirty) {
-            return;
-        }
-
-        persistConfigurationNow();
-        configDirty = false;
-        configSaveCooldownTicks = 0;
+    public static String exportCurrentPresetCode() {
+        return DEFAULT_CONTROLLER.exportCurrentPresetCode();
     }
 
-    private static <V> Map<String, V> createServerScopedLruMap() {
-        return new LinkedHashMap<>(16, 0.75F, true) {
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
-                return size() > MAX_TRACKED_SERVERS;
-            }
-        };
+    public static boolean importPresetCode(String presetCode) {
+        return DEFAULT_CONTROLLER.importPresetCode(presetCode);
     }
 
-    private static void normalizeRuntimeThresholds() {
-        double competitiveRate = runtimeConfig.competitiveRollbackRateMax();
-        double stableRate = runtimeConfig.stableRollbackRateMin();
-        double failsafeRate = runtimeConfig.failsafeRollbackRate();
-
-        if (stableRate < competitiveRate) {
-            stableRate = competitiveRate;
-        }
-
-        if (failsafeRate < stableRate) {
-            failsafeRate = stableRate;
-        }
-
-        runtimeConfig.setStableRollbackRateMin(stableRate);
-        runtimeConfig.setFailsafeRollbackRate(failsafeRate);
+    public static void flushPendingConfiguration() {
+        DEFAULT_CONTROLLER.flushPendingConfiguration();
     }
 
-    static synchronized void resetForTests() {
-        jumpHandler = JumpHandler.noOp();
-        toggleFeedback = ToggleFeedback.NO_OP;
-        runtimeConfig = JumpRuntimeConfig.defaults();
-        serverProfileMemory.clear();
-        serverStats.clear();
-        configFilePath = Path.of("config", "jumpdelayfix.properties");
-        activeServerId = DEFAULT_SERVER_ID;
-        lastConfirmedJumps = 0;
-        lastRejectedJumps = 0;
-        lastShadowPredictions = 0;
-        profileSwitchCooldownTicks = 0;
-        configSaveCooldownTicks = 0;
-        configDirty = false;
-
-        ModState.setEnabled(true);
-        ModState.setProfile(JumpProfile.SMART);
-        initialized = false;
+    static void resetForTests() {
+        DEFAULT_CONTROLLER.resetForTests();
     }
 }
@@ -34,6 +34,60 @@ public interface JumpInput {
         return Double.NaN;
     }
 
+    /**
+     * @return current vertical velocity in blocks per tick, or {@link Double#NaN} when unavailable
+     */
+    default double getVerticalVelocity() {
+        return Double.NaN;
+    }
+
+    /**
+     * @return monotonic count of server-issued position corrections received so far
+     */
+    default long getPositionCorrectionCount() {
+        return 0L;
+    }
+
+    /**
+     * @return monotonic sum of the distances, in blocks, the player was moved by those corrections
+     */
+    default double getPositionCorrectionDistance() {
+        return 0.0D;
+    }
+
+    /**
+     * Declares that every server position correction is reported through
+     * {@link #getPositionCorrectionCount()} and {@link #getPositionCorrectionDistance()}.
+     * <p>
+     * The controller then treats corrections as the only evidence of a rejected jump; a jump that never
+     * leaves the ground without being corrected (a low ceiling, cobwebs) is dropped rather than counted.
+     *
+     * @return {@code true} when corrections are authoritative
+     */
+    default boolean hasAuthoritativeCorrections() {
+        return false;
+    }
+
+    /**
+     * @return cumulative jumps the server acknowledged over the companion channel, or negative when the
+     * server does not run the companion
+     */
+    default long getServerAcknowledgedJumps() {
+        return -1L;
+    }
+
+    /**
+     * Declares a singleplayer or LAN-host session whose server runs in this JVM.
+     * <p>
+     * That server applies the client's own movement, so a jump is accepted exactly when the local player
+     * lifts off, and the controller switches to a fast path without rollback tracking.
+     *
+     * @return {@code true} while connected to the integrated server
+     */
+    default boolean isIntegratedServer() {
+        return false;
+    }
+
     /**
      * @return measured latency in milliseconds, or negative when unknown
      */
@@ -41,10 +95,65 @@ public interface JumpInput {
         return -1;
     }
 
+    /**
+     * @return round-trip jitter in milliseconds, or negative when unknown
+     */
+    default int getLatencyJitterMs() {
+        return -1;
+    }
+
+    /**
+     * @return server tick length in milliseconds from the client's tick-rate manager
+     */
+    default float getServerMillisPerTick() {
+        return 50.0F;
+    }
+
+    /**
+     * @return ticks per second the server actually achieves, or negative when unknown
+     */
+    default double getServerTps() {
+        return -1.0D;
+    }
+
+    /**
+     * @return server tick jitter in milliseconds, or negative when unknown
+     */
+    default int getServerTickJitterMs() {
+        return -1;
+    }
+
     /**
      * @return stable server identifier used for per-server profile memory
      */
     default String getServerIdentifier() {
         return "global";
     }
+
+    /**
+     * Fills the per-tick frame in one pass.
+     * <p>
+     * The default delegates to the individual accessors; loader implementations override it to resolve
+     * the client, player and connection once per tick.
+     *
+     * @param frame reusable frame owned by the caller
+     */
+    default void sample(JumpInputFrame frame) {
+        frame.setJumpPressed(isJumpPressed())
+                .setPlayerOnGround(isPlayerOnGround())
+                .setPlayerY(getPlayerY())
+                .setVerticalVelocity(getVerticalVelocity())
+                .setPositionCorrectionCount(getPositionCorrectionCount())
+                .setPositionCorrectionDistance(getPositionCorrectionDistance())
+                .setAuthoritativeCorrections(hasAuthoritativeCorrections())
+                .setServerAcknowledgedJumps(getServerAcknowledgedJumps())
+                .setIntegratedServer(isIntegratedServer())
+                .setRequiredGroundedTicks(requiredGroundedTicksBeforeJump())
+                .setLatencyMs(getLatencyMs())
+                .setLatencyJitterMs(getLatencyJitterMs())
+                .setServerMillisPerTick(getServerMillisPerTick())
+                .setServerTps(getServerTps())
+                .setServerTickJitterMs(getServerTickJitterMs())
+                .setServerIdentifier(getServerIdentifier());
+    }
 }
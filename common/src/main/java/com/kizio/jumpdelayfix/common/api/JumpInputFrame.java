@@ -0,0 +1,176 @@
+package com.kizio.jumpdelayfix.common.api;
+
+/**
+ * Reusable per-tick sample of everything the jump controller reads from the client.
+ * <p>
+ * Filled once per tick by {@link JumpInput#sample(JumpInputFrame)} and owned by a single controller, so
+ * sampling costs one interface call and no allocation. Values keep the semantics of the matching
+ * {@link JumpInput} accessors.
+ */
+public final class JumpInputFrame {
+
+    private boolean jumpPressed;
+    private boolean playerOnGround;
+    private double playerY = Double.NaN;
+    private double verticalVelocity = Double.NaN;
+    private long positionCorrectionCount;
+    private double positionCorrectionDistance;
+    private boolean authoritativeCorrections;
+    private long serverAcknowledgedJumps = -1L;
+    private boolean integratedServer;
+    private int requiredGroundedTicks = 1;
+    private int latencyMs = -1;
+    private int latencyJitterMs = -1;
+    private float serverMillisPerTick = 50.0F;
+    private double serverTps = -1.0D;
+    private int serverTickJitterMs = -1;
+    private String serverIdentifier = "global";
+
+    public boolean jumpPressed() {
+        return jumpPressed;
+    }
+
+    public JumpInputFrame setJumpPressed(boolean jumpPressed) {
+        this.jumpPressed = jumpPressed;
+        return this;
+    }
+
+    public boolean playerOnGround() {
+        return playerOnGround;
+    }
+
+    public JumpInputFrame setPlayerOnGround(boolean playerOnGround) {
+        this.playerOnGround = playerOnGround;
+        return this;
+    }
+
+    public double playerY() {
+        return playerY;
+    }
+
+    public JumpInputFrame setPlayerY(double playerY) {
+        this.playerY = playerY;
+        return this;
+    }
+
+    public double verticalVelocity() {
+        return verticalVelocity;
+    }
+
+    public JumpInputFrame setVerticalVelocity(double verticalVelocity) {
+        this.verticalVelocity = verticalVelocity;
+        return this;
+    }
+
+    public long positionCorrectionCount() {
+        return positionCorrectionCount;
+    }
+
+    public JumpInputFrame setPositionCorrectionCount(long positionCorrectionCount) {
+        this.positionCorrectionCount = positionCorrectionCount;
+        return this;
+    }
+
+    public double positionCorrectionDistance() {
+        return positionCorrectionDistance;
+    }
+
+    public JumpInputFrame setPositionCorrectionDistance(double positionCorrectionDistance) {
+        this.positionCorrectionDistance = positionCorrectionDistance;
+        return this;
+    }
+
+    public boolean authoritativeCorrections() {
+        return authoritativeCorrections;
+    }
+
+    public JumpInputFrame setAuthoritativeCorrections(boolean authoritativeCorrections) {
+        this.authoritativeCorrections = authoritativeCorrections;
+        return this;
+    }
+
+    public long serverAcknowledgedJumps() {
+        return serverAcknowledgedJumps;
+    }
+
+    public JumpInputFrame setServerAcknowledgedJumps(long serverAcknowledgedJumps) {
+        this.serverAcknowledgedJumps = serverAcknowledgedJumps;
+        return this;
+    }
+
+    public boolean integratedServer() {
+        return integratedServer;
+    }
+
+    public JumpInputFrame setIntegratedServer(boolean integratedServer) {
+        this.integratedServer = integratedServer;
+        return this;
+    }
+
+    public int requiredGroundedTicks() {
+        return requiredGroundedTicks;
+    }
+
+    public JumpInputFrame setRequiredGroundedTicks(int requiredGroundedTicks) {
+        this.requiredGroundedTicks = requiredGroundedTicks;
+        return this;
+    }
+
+    public int latencyMs() {
+        return latencyMs;
+    }
+
+    public JumpInputFrame setLatencyMs(int latencyMs) {
+        this.latencyMs = latencyMs;
+        return this;
+    }
+
+    public int latencyJitterMs() {
+        return latencyJitterMs;
+    }
+
+    public JumpInputFrame setLatencyJitterMs(int latencyJitterMs) {
+        this.latencyJitterMs = latencyJitterMs;
+        return this;
+    }
+
+    public float serverMillisPerTick() {
+        return serverMillisPerTick;
+    }
+
+    public JumpInputFrame setServerMillisPerTick(float serverMillisPerTick) {
+        this.serverMillisPerTick = serverMillisPerTick;
+        return this;
+    }
+
+    public double serverTps() {
+        return serverTps;
+    }
+
+    public JumpInputFrame setServerTps(double serverTps) {
+        this.serverTps = serverTps;
+        return this;
+    }
+
+    public int serverTickJitterMs() {
+        return serverTickJitterMs;
+    }
+
+    public JumpInputFrame setServerTickJitterMs(int serverTickJitterMs) {
+        this.serverTickJitterMs = serverTickJitterMs;
+        return this;
+    }
+
+    public String serverIdentifier() {
+        return serverIdentifier;
+    }
+
+    /**
+     * @param serverIdentifier stable server identifier; implementations should pass a cached instance
+     *                         rather than building a new string every tick
+     */
+    public JumpInputFrame setServerIdentifier(String serverIdentifier) {
+        this.serverIdentifier = serverIdentifier;
+        return this;
+    }
+}
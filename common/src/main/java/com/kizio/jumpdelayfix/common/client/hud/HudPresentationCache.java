@@ -0,0 +1,99 @@
+package com.kizio.jumpdelayfix.common.client.hud;
+
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
+import com.kizio.jumpdelayfix.common.state.JumpStateSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Per-renderer HUD model cache keyed by the published snapshot version.
+ * <p>
+ * The model is rebuilt only when the snapshot version changes. Line text is formatted into reusable
+ * buffers and an existing {@link HudLine} (and its {@code String}) is kept whenever its content did not
+ * change, so loaders can cache their text components by line identity. A frame whose snapshot version
+ * matches the cached one allocates nothing.
+ * <p>
+ * Not thread-safe; each render path owns its own instance.
+ */
+public final class HudPresentationCache {
+
+    private final StringBuilder[] lineBuffers = new StringBuilder[HudPresentationService.MAX_LINES];
+    private final HudLine[] sectionLines = new HudLine[HudPresentationService.MAX_LINES];
+    private final List<HudLine> scratchLines = new ArrayList<>(HudPresentationService.MAX_LINES);
+
+    private long cachedVersion = -1L;
+    private HudPresentationModel cachedModel;
+
+    public HudPresentationCache() {
+        for (int section = 0; section < lineBuffers.length; section++) {
+            lineBuffers[section] = new StringBuilder(64);
+        }
+    }
+
+    /**
+     * Returns the HUD model for a snapshot, rebuilding only when the snapshot version changed.
+     *
+     * @param snapshot latest published controller state
+     * @return cached or freshly rebuilt HUD model
+     */
+    public HudPresentationModel model(JumpStateSnapshot snapshot) {
+        Objects.requireNonNull(snapshot, "snapshot");
+        if (cachedModel != null && snapshot.version() == cachedVersion) {
+            return cachedModel;
+        }
+
+        cachedModel = rebuild(snapshot.diagnostics(), snapshot.config());
+        cachedVersion = snapshot.version();
+        return cachedModel;
+    }
+
+    /**
+     * Drops the cached model so the next call rebuilds it.
+     */
+    public void invalidate() {
+        cachedVersion = -1L;
+        cachedModel = null;
+    }
+
+    private HudPresentationModel rebuild(JumpDiagnostics diagnostics, JumpRuntimeConfig config) {
+        boolean linesChanged = cachedModel == null;
+
+        scratchLines.clear();
+        for (int section = 0; section < HudPresentationService.MAX_LINES; section++) {
+            if (!HudPresentationService.isSectionVisible(section, config)) {
+                linesChanged |= sectionLines[section] != null;
+                sectionLines[section] = null;
+                continue;
+            }
+
+            StringBuilder buffer = lineBuffers[section];
+            buffer.setLength(0);
+            HudPresentationService.appendSection(section, diagnostics, buffer);
+            int color = HudPresentationService.sectionColor(section, diagnostics);
+
+            HudLine previous = sectionLines[section];
+            if (previous == null || previous.color() != color || !previous.text().contentEquals(buffer)) {
+                sectionLines[section] = new HudLine(buffer.toString(), color);
+                linesChanged = true;
+            }
+            scratchLines.add(sectionLines[section]);
+        }
+
+        int rollbackPercent = HudPresentationService.rollbackPercent(diagnostics.rollbackRate());
+        int qualityColor = HudPresentationService.qualityColor(diagnostics.rollbackRate());
+        int panelHeight = HudPresentationService.panelHeight(scratchLines.size(), config.hudShowQualityBar());
+
+        if (!linesChanged
+                && cachedModel.rollbackPercent() == rollbackPercent
+                && cachedModel.qualityColor() == qualityColor
+                && cachedModel.panelHeight() == panelHeight
+                && cachedModel.showQualityBar() == config.hudShowQualityBar()) {
+            return cachedModel;
+        }
+
+        return new HudPresentationModel(scratchLines, rollbackPercent, qualityColor, panelHeight, config.hudShowQualityBar());
+    }
+}
@@ -2,10 +2,10 @@ package com.kizio.jumpdelayfix.common.client.hud;
 
 import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
 import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
+import com.kizio.jumpdelayfix.common.model.WindowedSummary;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
 
 /**
@@ -13,10 +13,16 @@ import java.util.Objects;
  */
 public final class HudPresentationService {
 
-    public static final int PANEL_WIDTH = 250;
+    public static final int PANEL_WIDTH = 270;
     public static final int TEXT_X = 6;
     public static final int LINE_HEIGHT = 11;
     public static final String HUD_TITLE = "JumpDelayFix";
+    public static final int MAX_LINES = 4;
+
+    static final int SECTION_PROFILE = 0;
+    static final int SECTION_TIMING = 1;
+    static final int SECTION_MODE = 2;
+    static final int SECTION_SERVER = 3;
 
     private static final int PANEL_BASE_HEIGHT = 26;
     private static final int QUALITY_BAR_HEIGHT = 11;
@@ -40,55 +46,22 @@ public final class HudPresentationService {
         Objects.requireNonNull(diagnostics, "diagnostics");
         Objects.requireNonNull(config, "config");
 
-        int rollbackPercent = rollbackPercent(diagnostics.rollbackRate());
-        int qualityColor = qualityColor(diagnostics.rollbackRate());
-
-        List<HudLine> lines = new ArrayList<>(4);
-        if (config.hudShowProfileAndPing()) {
-            lines.add(new HudLine(
-                    String.format(
-                            Locale.ROOT,
-                            "Profile: %s  Ping: %dms",
-                            diagnostics.profile().name(),
-                            diagnostics.latencyMs()
-                    ),
-                    0xFFFFFF
-            ));
-        }
-        if (config.hudShowRollbackAndPenalty()) {
-            lines.add(new HudLine(
-                    String.format(
-                            Locale.ROOT,
-                            "Rollback: %d%%  Penalty: %d  ReqTicks: %d",
-                            rollbackPercent,
-                            diagnostics.adaptivePenaltyTicks(),
-                            diagnostics.requiredGroundedTicks()
-                    ),
-                    0xFFFFFF
-            ));
-        }
-        if (config.hudShowModeAndQuality()) {
-            lines.add(new HudLine(
-                    "Mode: " + (diagnostics.shadowMode() ? "Shadow" : "Active")
-                            + "  Auto: " + diagnostics.autoProfileSwitch()
-                            + "  Quality: " + qualityLabel(diagnostics.rollbackRate()),
-                    diagnostics.shadowMode() ? 0xFFD27F : qualityColor
-            ));
+        List<HudLine> lines = new ArrayList<>(MAX_LINES);
+        StringBuilder buffer = new StringBuilder(64);
+        for (int section = 0; section < MAX_LINES; section++) {
+            if (!isSectionVisible(section, config)) {
+                continue;
+            }
+            buffer.setLength(0);
+            appendSection(section, diagnostics, buffer);
+            lines.add(new HudLine(buffer.toString(), sectionColor(section, diagnostics)));
         }
-        if (config.hudShowServer()) {
-            lines.add(new HudLine(
-                    "Server: " + trimServerId(diagnostics.serverId()),
-                    0x9ED0FF
-            ));
-        }
-
-        int panelHeight = panelHeight(lines.size(), config.hudShowQualityBar());
 
         return new HudPresentationModel(
                 lines,
-                rollbackPercent,
-                qualityColor,
-                panelHeight,
+                rollbackPercent(diagnostics.rollbackRate()),
+                qualityColor(diagnostics.rollbackRate()),
+                panelHeight(lines.size(), config.hudShowQualityBar()),
                 config.hudShowQualityBar()
         );
     }
@@ -102,17 +75,10 @@ public final class HudPresentationService {
     public static int panelHeight(JumpRuntimeConfig config) {
         Objects.requireNonNull(config, "config");
         int visibleLineCount = 0;
-        if (config.hudShowProfileAndPing()) {
-            visibleLineCount++;
-        }
-        if (config.hudShowRollbackAndPenalty()) {
-            visibleLineCount++;
-        }
-        if (config.hudShowModeAndQuality()) {
-            visibleLineCount++;
-        }
-        if (config.hudShowServer()) {
-            visibleLineCount++;
+        for (int section = 0; section < MAX_LINES; section++) {
+            if (isSectionVisible(section, config)) {
+                visibleLineCount++;
+            }
         }
         return panelHeight(visibleLineCount, config.hudShowQualityBar());
     }
@@ -133,11 +99,52 @@ public final class HudPresentationService {
         return QUALITY_STABLE_COLOR;
     }
 
-    private static int rollbackPercent(double rollbackRate) {
+    static boolean isSectionVisible(int section, JumpRuntimeConfig config) {
+        return switch (section) {
+            case SECTION_PROFILE -> config.hudShowProfileAndPing();
+            case SECTION_TIMING -> config.hudShowRollbackAndPenalty();
+            case SECTION_MODE -> config.hudShowModeAndQuality();
+            case SECTION_SERVER -> config.hudShowServer();
+            default -> false;
+        };
+    }
+
+    /**
+     * Appends one section's line text without intermediate strings or {@link String#format}.
+     */
+    static void appendSection(int section, JumpDiagnostics diagnostics, StringBuilder out) {
+        switch (section) {
+            case SECTION_PROFILE -> appendLatencyTail(out.append("Profile: ").append(diagnostics.profile().name())
+                    .append("  Ping: ").append(diagnostics.latencyMs()).append("ms"), diagnostics.longWindow());
+            case SECTION_TIMING -> appendRecentRollback(out.append("Rollback: ")
+                            .append(rollbackPercent(diagnostics.rollbackRate())).append('%'), diagnostics.recentWindow())
+                    .append("  Penalty: ").append(diagnostics.adaptivePenaltyTicks())
+                    .append("  ReqTicks: ").append(diagnostics.requiredGroundedTicks());
+            case SECTION_MODE -> out.append("Mode: ").append(diagnostics.shadowMode() ? "Shadow" : "Active")
+                    .append("  Auto: ").append(diagnostics.autoProfileSwitch())
+                    .append("  Quality: ").append(qualityLabel(diagnostics.rollbackRate()));
+            case SECTION_SERVER -> {
+                appendServerId(out.append("Server: "), diagnostics.serverId());
+                appendServerTps(out, diagnostics.serverTps());
+            }
+            default -> {
+            }
+        }
+    }
+
+    static int sectionColor(int section, JumpDiagnostics diagnostics) {
+        return switch (section) {
+            case SECTION_MODE -> diagnostics.shadowMode() ? 0xFFD27F : qualityColor(diagnostics.rollbackRate());
+            case SECTION_SERVER -> 0x9ED0FF;
+            default -> 0xFFFFFF;
+        };
+    }
+
+    static int rollbackPercent(double rollbackRate) {
         return (int) Math.round(Math.min(1.0D, Math.max(0.0D, rollbackRate)) * 100.0D);
     }
 
-    private static int panelHeight(int visibleLineCount, boolean showQualityBar) {
+    static int panelHeight(int visibleLineCount, boolean showQualityBar) {
         return PANEL_BASE_HEIGHT + (visibleLineCount * LINE_HEIGHT) + (showQualityBar ? QUALITY_BAR_HEIGHT : 0);
     }
 
@@ -151,13 +158,45 @@ public final class HudPresentationService {
         return "Stable";
     }
 
-    private static String trimServerId(String serverId) {
-        if (serverId == null || serverId.isBlank()) {
-            return "n/a";
+    /**
+     * Adds the 5-minute p99 ping once samples exist, so tail latency is visible next to the live value.
+     */
+    private static StringBuilder appendLatencyTail(StringBuilder out, WindowedSummary window) {
+        if (window.latencyP99Ms() >= 0) {
+            out.append(" (p99 ").append(window.latencyP99Ms()).append(')');
         }
-        if (serverId.length() <= SERVER_ID_LIMIT) {
-            return serverId;
+        return out;
+    }
+
+    /**
+     * Adds the last-30-seconds rollback share once that window has attempts.
+     */
+    private static StringBuilder appendRecentRollback(StringBuilder out, WindowedSummary window) {
+        if (window.attempts() > 0) {
+            out.append(" (30s ").append(rollbackPercent(window.rollbackRate())).append("%)");
+        }
+        return out;
+    }
+
+    /**
+     * Adds the measured server TPS with one decimal once world-time updates produced an estimate.
+     */
+    private static void appendServerTps(StringBuilder out, double serverTps) {
+        if (serverTps < 0.0D) {
+            return;
+        }
+
+        long tenths = Math.round(serverTps * 10.0D);
+        out.append("  TPS ").append(tenths / 10L).append('.').append(tenths % 10L);
+    }
+
+    private static void appendServerId(StringBuilder out, String serverId) {
+        if (serverId == null || serverId.isBlank()) {
+            out.append("n/a");
+        } else if (serverId.length() <= SERVER_ID_LIMIT) {
+            out.append(serverId);
+        } else {
+            out.append(serverId, 0, SERVER_ID_LIMIT).append("...");
         }
-        return serverId.substring(0, SERVER_ID_LIMIT) + "...";
     }
 }
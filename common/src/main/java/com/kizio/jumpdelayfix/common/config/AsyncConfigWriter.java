@@ -0,0 +1,148 @@
+package com.kizio.jumpdelayfix.common.config;
+
+import com.kizio.jumpdelayfix.common.ModConstants;
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Persists configuration snapshots on a background virtual thread.
+ * <p>
+ * Submissions never block on I/O. Bursts are coalesced: while a write is running only the newest pending
+ * snapshot is kept, so at most one extra write follows any number of submits. {@link #flush(Duration)}
+ * waits, up to a bound, until everything submitted so far is on disk.
+ */
+public final class AsyncConfigWriter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncConfigWriter.class);
+
+    private final Object lock = new Object();
+    private final Writer writer;
+
+    private Snapshot pending;
+    private boolean writerRunning;
+    private long submittedGeneration;
+    private long writtenGeneration;
+
+    public AsyncConfigWriter() {
+        this(JumpConfigStorage::save);
+    }
+
+    /**
+     * @param writer storage callback; invoked only from the background thread
+     */
+    public AsyncConfigWriter(Writer writer) {
+        this.writer = Objects.requireNonNull(writer, "writer");
+    }
+
+    /**
+     * Queues a write of already detached copies, replacing any snapshot that has not started writing yet.
+     *
+     * @param filePath           target properties file
+     * @param config             config copy owned by the writer from now on
+     * @param serverProfiles     immutable per-server profile map
+     * @param serverCalibrations immutable per-server calibrated offsets from the latency model
+     */
+    public void submit(
+            Path filePath,
+            JumpRuntimeConfig config,
+            Map<String, JumpProfile> serverProfiles,
+            Map<String, Integer> serverCalibrations
+    ) {
+        Objects.requireNonNull(filePath, "filePath");
+        Objects.requireNonNull(config, "config");
+        Objects.requireNonNull(serverProfiles, "serverProfiles");
+        Objects.requireNonNull(serverCalibrations, "serverCalibrations");
+
+        synchronized (lock) {
+            submittedGeneration++;
+            pending = new Snapshot(filePath, config, serverProfiles, serverCalibrations, submittedGeneration);
+            if (!writerRunning) {
+                writerRunning = true;
+                Thread.ofVirtual()
+                        .name(ModConstants.MOD_ID + "-config-writer")
+                        .start(this::drain);
+            }
+        }
+    }
+
+    /**
+     * Waits until every snapshot submitted before this call has been written.
+     *
+     * @param timeout upper bound for the wait
+     * @return {@code true} when the writer caught up within the timeout
+     */
+    public boolean flush(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (lock) {
+            long target = submittedGeneration;
+            while (writtenGeneration < target) {
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0L) {
+                    return false;
+                }
+                try {
+                    lock.wait(Math.max(1L, remainingNanos / 1_000_000L));
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Snapshot snapshot;
+            synchronized (lock) {
+                snapshot = pending;
+                pending = null;
+                if (snapshot == null) {
+                    writerRunning = false;
+                    lock.notifyAll();
+                    return;
+                }
+            }
+
+            try {
+                writer.write(snapshot.filePath(), snapshot.config(), snapshot.serverProfiles(), snapshot.serverCalibrations());
+            } catch (RuntimeException exception) {
+                LOGGER.warn("Background config write to {} failed", snapshot.filePath(), exception);
+            }
+
+            synchronized (lock) {
+                writtenGeneration = Math.max(writtenGeneration, snapshot.generation());
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Storage callback used by the background thread.
+     */
+    @FunctionalInterface
+    public interface Writer {
+
+        void write(
+                Path filePath,
+                JumpRuntimeConfig config,
+                Map<String, JumpProfile> serverProfiles,
+                Map<String, Integer> serverCalibrations
+        );
+    }
+
+    private record Snapshot(
+            Path filePath,
+            JumpRuntimeConfig config,
+            Map<String, JumpProfile> serverProfiles,
+            Map<String, Integer> serverCalibrations,
+            long generation
+    ) {
+    }
+}
@@ -26,6 +26,11 @@ public final class JumpConfigStorage {
     private static final String KEY_HUD_ENABLED = "hudEnabled";
     private static final String KEY_SHADOW_MODE = "shadowMode";
     private static final String KEY_SAFETY_FAILSAFE = "safetyFailsafe";
+    private static final String KEY_MOVEMENT_PHASE_DISPATCH = "movementPhaseDispatch";
+    private static final String KEY_JUMP_BUFFER_MS = "jumpBufferMs";
+    private static final String KEY_LATENCY_JITTER_WEIGHT = "latencyJitterWeight";
+    private static final String KEY_CALIBRATION_MODE = "calibrationMode";
+    private static final String KEY_BANDIT_PROFILE_SELECTION = "banditProfileSelection";
     private static final String KEY_HUD_OFFSET_X = "hudOffsetX";
     private static final String KEY_HUD_OFFSET_Y = "hudOffsetY";
     private static final String KEY_HUD_SCALE = "hudScale";
@@ -40,12 +45,15 @@ public final class JumpConfigStorage {
     private static final String KEY_FAILSAFE_RATE = "failsafeRollbackRate";
 
     private static final String KEY_SERVER_PROFILE_PREFIX = "serverProfile.";
+    // Offsets from the latency model; the absolute counts once stored as serverCalibration.* are dropped.
+    private static final String KEY_SERVER_CALIBRATION_PREFIX = "serverCalibrationOffset.";
+    private static final int MAX_CALIBRATION_OFFSET_TICKS = 10;
 
     private JumpConfigStorage() {
     }
 
     /**
-     * Loads persisted runtime settings and per-server profiles.
+     * Loads persisted runtime settings, per-server profiles and calibrated grounded-tick offsets.
      *
      * @param filePath properties file path
      * @return loaded config bundle, or defaults when file is missing/invalid
@@ -55,9 +63,10 @@ public final class JumpConfigStorage {
 
         JumpRuntimeConfig config = JumpRuntimeConfig.defaults();
         Map<String, JumpProfile> profiles = new HashMap<>();
+        Map<String, Integer> calibrations = new HashMap<>();
 
         if (!Files.exists(filePath)) {
-            return new LoadedConfig(config, profiles);
+            return new LoadedConfig(config, profiles, calibrations);
         }
 
         Properties properties = new Properties();
@@ -65,13 +74,18 @@ public final class JumpConfigStorage {
             properties.load(input);
         } catch (IOException exception) {
             LOGGER.warn("Failed to load config from {}. Falling back to defaults.", filePath, exception);
-            return new LoadedConfig(config, profiles);
+            return new LoadedConfig(config, profiles, calibrations);
         }
 
         config.setAutoProfileSwitch(getBoolean(properties, KEY_AUTO_PROFILE_SWITCH, config.autoProfileSwitch()));
         config.setHudEnabled(getBoolean(properties, KEY_HUD_ENABLED, config.hudEnabled()));
         config.setShadowMode(getBoolean(properties, KEY_SHADOW_MODE, config.shadowMode()));
         config.setSafetyFailsafe(getBoolean(properties, KEY_SAFETY_FAILSAFE, config.safetyFailsafe()));
+        config.setMovementPhaseDispatch(getBoolean(properties, KEY_MOVEMENT_PHASE_DISPATCH, config.movementPhaseDispatch()));
+        config.setJumpBufferMs(getInt(properties, KEY_JUMP_BUFFER_MS, config.jumpBufferMs()));
+        config.setLatencyJitterWeight(getDouble(properties, KEY_LATENCY_JITTER_WEIGHT, config.latencyJitterWeight()));
+        config.setCalibrationMode(getBoolean(properties, KEY_CALIBRATION_MODE, config.calibrationMode()));
+        config.setBanditProfileSelection(getBoolean(properties, KEY_BANDIT_PROFILE_SELECTION, config.banditProfileSelection()));
         config.setHudOffsetX(getInt(properties, KEY_HUD_OFFSET_X, config.hudOffsetX()));
         config.setHudOffsetY(getInt(properties, KEY_HUD_OFFSET_Y, config.hudOffsetY()));
         config.setHudScale(getDouble(properties, KEY_HUD_SCALE, config.hudScale()));
@@ -86,6 +100,15 @@ public final class JumpConfigStorage {
         config.setFailsafeRollbackRate(getDouble(properties, KEY_FAILSAFE_RATE, config.failsafeRollbackRate()));
 
         for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(KEY_SERVER_CALIBRATION_PREFIX)) {
+                String serverId = decodeServerId(key.substring(KEY_SERVER_CALIBRATION_PREFIX.length()));
+                int offset = getInt(properties, key, Integer.MIN_VALUE);
+                if (serverId != null && !serverId.isBlank() && isValidCalibrationOffset(offset)) {
+                    calibrations.put(serverId, offset);
+                }
+                continue;
+            }
+
             if (!key.startsWith(KEY_SERVER_PROFILE_PREFIX)) {
                 continue;
             }
@@ -102,20 +125,27 @@ public final class JumpConfigStorage {
             }
         }
 
-        return new LoadedConfig(config, profiles);
+        return new LoadedConfig(config, profiles, calibrations);
     }
 
     /**
-     * Persists runtime settings and per-server profiles.
+     * Persists runtime settings, per-server profiles and calibrated grounded-tick offsets.
      *
-     * @param filePath       target properties file
-     * @param config         runtime configuration to persist
-     * @param serverProfiles per-server profile map
+     * @param filePath           target properties file
+     * @param config             runtime configuration to persist
+     * @param serverProfiles     per-server profile map
+     * @param serverCalibrations per-server calibrated offsets from the latency model
      */
-    public static void save(Path filePath, JumpRuntimeConfig config, Map<String, JumpProfile> serverProfiles) {
+    public static void save(
+            Path filePath,
+            JumpRuntimeConfig config,
+            Map<String, JumpProfile> serverProfiles,
+            Map<String, Integer> serverCalibrations
+    ) {
         Objects.requireNonNull(filePath, "filePath");
         Objects.requireNonNull(config, "config");
         Objects.requireNonNull(serverProfiles, "serverProfiles");
+        Objects.requireNonNull(serverCalibrations, "serverCalibrations");
 
         Properties properties = new Properties();
 
@@ -123,6 +153,11 @@ public final class JumpConfigStorage {
         properties.setProperty(KEY_HUD_ENABLED, Boolean.toString(config.hudEnabled()));
         properties.setProperty(KEY_SHADOW_MODE, Boolean.toString(config.shadowMode()));
         properties.setProperty(KEY_SAFETY_FAILSAFE, Boolean.toString(config.safetyFailsafe()));
+        properties.setProperty(KEY_MOVEMENT_PHASE_DISPATCH, Boolean.toString(config.movementPhaseDispatch()));
+        properties.setProperty(KEY_JUMP_BUFFER_MS, Integer.toString(config.jumpBufferMs()));
+        properties.setProperty(KEY_LATENCY_JITTER_WEIGHT, Double.toString(config.latencyJitterWeight()));
+        properties.setProperty(KEY_CALIBRATION_MODE, Boolean.toString(config.calibrationMode()));
+        properties.setProperty(KEY_BANDIT_PROFILE_SELECTION, Boolean.toString(config.banditProfileSelection()));
         properties.setProperty(KEY_HUD_OFFSET_X, Integer.toString(config.hudOffsetX()));
         properties.setProperty(KEY_HUD_OFFSET_Y, Integer.toString(config.hudOffsetY()));
         properties.setProperty(KEY_HUD_SCALE, Double.toString(config.hudScale()));
@@ -141,6 +176,11 @@ public final class JumpConfigStorage {
                 properties.setProperty(KEY_SERVER_PROFILE_PREFIX + encodeServerId(serverId), profile.name());
             }
         });
+        serverCalibrations.forEach((serverId, offset) -> {
+            if (serverId != null && !serverId.isBlank() && offset != null && isValidCalibrationOffset(offset)) {
+                properties.setProperty(KEY_SERVER_CALIBRATION_PREFIX + encodeServerId(serverId), Integer.toString(offset));
+            }
+        });
 
         try {
             Path parent = filePath.getParent();
@@ -176,6 +216,10 @@ public final class JumpConfigStorage {
         return value == null ? fallback : Boolean.parseBoolean(value);
     }
 
+    private static boolean isValidCalibrationOffset(int offset) {
+        return offset >= -MAX_CALIBRATION_OFFSET_TICKS && offset <= MAX_CALIBRATION_OFFSET_TICKS;
+    }
+
     private static int getInt(Properties properties, String key, int fallback) {
         String value = properties.getProperty(key);
         if (value == null) {
@@ -228,9 +272,14 @@ public final class JumpConfigStorage {
     /**
      * Loaded config bundle.
      *
-     * @param config         runtime configuration
-     * @param serverProfiles remembered per-server profile selection
+     * @param config             runtime configuration
+     * @param serverProfiles     remembered per-server profile selection
+     * @param serverCalibrations calibrated offsets from the latency model per server
      */
-    public record LoadedConfig(JumpRuntimeConfig config, Map<String, JumpProfile> serverProfiles) {
+    public record LoadedConfig(
+            JumpRuntimeConfig config,
+            Map<String, JumpProfile> serverProfiles,
+            Map<String, Integer> serverCalibrations
+    ) {
     }
 }
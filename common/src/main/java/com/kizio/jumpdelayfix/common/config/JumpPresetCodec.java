@@ -34,6 +34,11 @@ public final class JumpPresetCodec {
                 "hudBar=" + boolToFlag(config.hudShowQualityBar()),
                 "shadow=" + boolToFlag(config.shadowMode()),
                 "failsafe=" + boolToFlag(config.safetyFailsafe()),
+                "movePhase=" + boolToFlag(config.movementPhaseDispatch()),
+                "bufferMs=" + config.jumpBufferMs(),
+                "jitterWeight=" + config.latencyJitterWeight(),
+                "calibrate=" + boolToFlag(config.calibrationMode()),
+                "bandit=" + boolToFlag(config.banditProfileSelection()),
                 "minAttempts=" + config.minAttemptsForProfileSwitch(),
                 "compRate=" + config.competitiveRollbackRateMax(),
                 "stableRate=" + config.stableRollbackRateMin(),
@@ -137,6 +142,26 @@ public final class JumpPresetCodec {
                 updatedConfig.setSafetyFailsafe("1".equals(value));
                 yield updatedProfile;
             }
+            case "movePhase" -> {
+                updatedConfig.setMovementPhaseDispatch("1".equals(value));
+                yield updatedProfile;
+            }
+            case "bufferMs" -> {
+                parseInt(value, updatedConfig::setJumpBufferMs);
+                yield updatedProfile;
+            }
+            case "jitterWeight" -> {
+                parseDouble(value, updatedConfig::setLatencyJitterWeight);
+                yield updatedProfile;
+            }
+            case "calibrate" -> {
+                updatedConfig.setCalibrationMode("1".equals(value));
+                yield updatedProfile;
+            }
+            case "bandit" -> {
+                updatedConfig.setBanditProfileSelection("1".equals(value));
+                yield updatedProfile;
+            }
             case "minAttempts" -> {
                 parseInt(value, updatedConfig::setMinAttemptsForProfileSwitch);
                 yield updatedProfile;
@@ -12,11 +12,18 @@ public final class JumpRuntimeConfig {
     private static final int HUD_POSITION_LIMIT = 10_000;
     private static final double HUD_SCALE_MIN = 0.60D;
     private static final double HUD_SCALE_MAX = 2.20D;
+    private static final int JUMP_BUFFER_MAX_MS = 250;
+    private static final double LATENCY_JITTER_WEIGHT_MAX = 3.0D;
 
     private boolean autoProfileSwitch = true;
     private boolean hudEnabled;
     private boolean shadowMode;
     private boolean safetyFailsafe = true;
+    private boolean movementPhaseDispatch;
+    private int jumpBufferMs;
+    private double latencyJitterWeight = 1.0D;
+    private boolean calibrationMode;
+    private boolean banditProfileSelection;
 
     private int hudOffsetX = 6;
     private int hudOffsetY = 6;
@@ -66,6 +73,48 @@ public final class JumpRuntimeConfig {
         this.safetyFailsafe = safetyFailsafe;
     }
 
+    public boolean movementPhaseDispatch() {
+        return movementPhaseDispatch;
+    }
+
+    public void setMovementPhaseDispatch(boolean movementPhaseDispatch) {
+        this.movementPhaseDispatch = movementPhaseDispatch;
+    }
+
+    public int jumpBufferMs() {
+        return jumpBufferMs;
+    }
+
+    public void setJumpBufferMs(int jumpBufferMs) {
+        this.jumpBufferMs = Math.max(0, Math.min(JUMP_BUFFER_MAX_MS, jumpBufferMs));
+    }
+
+    public double latencyJitterWeight() {
+        return latencyJitterWeight;
+    }
+
+    public void setLatencyJitterWeight(double latencyJitterWeight) {
+        this.latencyJitterWeight = Double.isNaN(latencyJitterWeight)
+                ? 1.0D
+                : Math.max(0.0D, Math.min(LATENCY_JITTER_WEIGHT_MAX, latencyJitterWeight));
+    }
+
+    public boolean calibrationMode() {
+        return calibrationMode;
+    }
+
+    public void setCalibrationMode(boolean calibrationMode) {
+        this.calibrationMode = calibrationMode;
+    }
+
+    public boolean banditProfileSelection() {
+        return banditProfileSelection;
+    }
+
+    public void setBanditProfileSelection(boolean banditProfileSelection) {
+        this.banditProfileSelection = banditProfileSelection;
+    }
+
     public int hudOffsetX() {
         return hudOffsetX;
     }
@@ -171,6 +220,11 @@ public final class JumpRuntimeConfig {
         copy.hudEnabled = hudEnabled;
         copy.shadowMode = shadowMode;
         copy.safetyFailsafe = safetyFailsafe;
+        copy.movementPhaseDispatch = movementPhaseDispatch;
+        copy.jumpBufferMs = jumpBufferMs;
+        copy.latencyJitterWeight = latencyJitterWeight;
+        copy.calibrationMode = calibrationMode;
+        copy.banditProfileSelection = banditProfileSelection;
         copy.hudOffsetX = hudOffsetX;
         copy.hudOffsetY = hudOffsetY;
         copy.hudScale = hudScale;
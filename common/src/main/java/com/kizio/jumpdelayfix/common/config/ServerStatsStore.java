@@ -0,0 +1,305 @@
+package com.kizio.jumpdelayfix.common.config;
+
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import com.kizio.jumpdelayfix.common.model.ServerAdaptiveStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Memory-mapped store of per-server {@link ServerAdaptiveStats}.
+ * <p>
+ * The file holds a small header followed by fixed-size records keyed by a 64-bit hash of the server id.
+ * Opening only builds the hash-to-slot index; individual records are decoded on demand when a server
+ * becomes active. Writes go straight into the mapping and reach the disk when the OS flushes the page
+ * or when {@link #force()} is called.
+ */
+public final class ServerStatsStore implements AutoCloseable {
+
+    public static final String FILE_NAME = "jumpdelayfix-stats.bin";
+    public static final int NO_SLOT = -1;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ServerStatsStore.class);
+
+    private static final int MAGIC = 0x4A444653; // "JDFS"
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_BYTES = 64;
+
+    private static final int OFFSET_MAGIC = 0;
+    private static final int OFFSET_VERSION = 4;
+    private static final int OFFSET_COUNT = 8;
+
+    private static final int RECORD_KEY = 0;
+    private static final int RECORD_UPDATED = 8;
+    private static final int RECORD_CONFIRMED = 16;
+    private static final int RECORD_REJECTED = 20;
+    private static final int RECORD_SHADOW = 24;
+    private static final int RECORD_RATE = 32;
+    private static final int RECORD_ARM_PULLS = 40;
+    private static final int RECORD_ARM_REWARDS = 52;
+
+    private static final JumpProfile[] PROFILES = JumpProfile.values();
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int capacity;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final Map<Long, Integer> slotsByKey = new HashMap<>();
+    private int recordCount;
+
+    private ServerStatsStore(int capacity, FileChannel channel, MappedByteBuffer buffer) {
+        this.capacity = capacity;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Opens or creates the store. Falls back to a detached store that persists nothing when the file
+     * cannot be mapped.
+     *
+     * @param filePath store file path
+     * @param capacity maximum number of servers kept
+     * @return opened store
+     */
+    public static ServerStatsStore open(Path filePath, int capacity) {
+        Objects.requireNonNull(filePath, "filePath");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+
+        long fileBytes = HEADER_BYTES + (long) capacity * RECORD_BYTES;
+        FileChannel channel = null;
+        try {
+            Path parent = filePath.getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean reset = channel.size() != fileBytes;
+            if (reset) {
+                channel.truncate(0L);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, fileBytes);
+            ServerStatsStore store = new ServerStatsStore(capacity, channel, buffer);
+            if (reset || !store.hasValidHeader()) {
+                store.reset();
+            } else {
+                store.indexRecords();
+            }
+            return store;
+        } catch (IOException | RuntimeException exception) {
+            LOGGER.warn("Failed to open server stats store {}. Stats will not persist.", filePath, exception);
+            closeQuietly(channel);
+            return detached();
+        }
+    }
+
+    /**
+     * @return store that keeps nothing; used when persistence is unavailable
+     */
+    public static ServerStatsStore detached() {
+        return new ServerStatsStore(0, null, null);
+    }
+
+    /**
+     * Resolves the record slot for a server, allocating one (evicting the least recently updated record
+     * when full) if the server is new.
+     *
+     * @param serverId normalized server id
+     * @return slot index, or {@link #NO_SLOT} for a detached store
+     */
+    public int slotFor(String serverId) {
+        if (buffer == null) {
+            return NO_SLOT;
+        }
+
+        long key = hashServerId(serverId);
+        Integer existing = slotsByKey.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        int slot;
+        if (recordCount < capacity) {
+            slot = recordCount++;
+            buffer.putInt(OFFSET_COUNT, recordCount);
+        } else {
+            slot = leastRecentlyUpdatedSlot();
+            slotsByKey.remove(buffer.getLong(recordOffset(slot) + RECORD_KEY));
+        }
+
+        int offset = recordOffset(slot);
+        buffer.putLong(offset + RECORD_KEY, key);
+        buffer.putLong(offset + RECORD_UPDATED, 0L);
+        buffer.putInt(offset + RECORD_CONFIRMED, 0);
+        buffer.putInt(offset + RECORD_REJECTED, 0);
+        buffer.putInt(offset + RECORD_SHADOW, 0);
+        buffer.putDouble(offset + RECORD_RATE, 0.0D);
+        for (int arm = 0; arm < PROFILES.length; arm++) {
+            buffer.putInt(offset + RECORD_ARM_PULLS + arm * Integer.BYTES, 0);
+            buffer.putFloat(offset + RECORD_ARM_REWARDS + arm * Float.BYTES, 0.0F);
+        }
+        slotsByKey.put(key, slot);
+        return slot;
+    }
+
+    /**
+     * @param serverId normalized server id
+     * @return persisted stats, or {@code null} when the server has no record
+     */
+    public ServerAdaptiveStats load(String serverId) {
+        if (buffer == null) {
+            return null;
+        }
+
+        Integer slot = slotsByKey.get(hashServerId(serverId));
+        if (slot == null) {
+            return null;
+        }
+
+        int offset = recordOffset(slot);
+        ServerAdaptiveStats stats = ServerAdaptiveStats.restore(
+                buffer.getInt(offset + RECORD_CONFIRMED),
+                buffer.getInt(offset + RECORD_REJECTED),
+                buffer.getInt(offset + RECORD_SHADOW),
+                buffer.getDouble(offset + RECORD_RATE)
+        );
+        for (int arm = 0; arm < PROFILES.length; arm++) {
+            stats.restoreArm(
+                    PROFILES[arm],
+                    buffer.getInt(offset + RECORD_ARM_PULLS + arm * Integer.BYTES),
+                    buffer.getFloat(offset + RECORD_ARM_REWARDS + arm * Float.BYTES)
+            );
+        }
+        return stats;
+    }
+
+    /**
+     * Writes stats into a slot previously returned by {@link #slotFor(String)}.
+     *
+     * @param slot  record slot
+     * @param stats stats to store
+     */
+    public void write(int slot, ServerAdaptiveStats stats) {
+        if (buffer == null || slot < 0 || slot >= recordCount) {
+            return;
+        }
+
+        int offset = recordOffset(slot);
+        buffer.putLong(offset + RECORD_UPDATED, System.currentTimeMillis());
+        buffer.putInt(offset + RECORD_CONFIRMED, stats.confirmedJumps());
+        buffer.putInt(offset + RECORD_REJECTED, stats.rejectedJumps());
+        buffer.putInt(offset + RECORD_SHADOW, stats.shadowPredictions());
+        buffer.putDouble(offset + RECORD_RATE, stats.rollbackRate());
+        for (int arm = 0; arm < PROFILES.length; arm++) {
+            buffer.putInt(offset + RECORD_ARM_PULLS + arm * Integer.BYTES, stats.armPulls(PROFILES[arm]));
+            buffer.putFloat(offset + RECORD_ARM_REWARDS + arm * Float.BYTES, (float) stats.armRewardSum(PROFILES[arm]));
+        }
+    }
+
+    /**
+     * Drops every record.
+     */
+    public void clear() {
+        if (buffer != null) {
+            reset();
+        }
+    }
+
+    /**
+     * @return number of stored server records
+     */
+    public int size() {
+        return recordCount;
+    }
+
+    /**
+     * Flushes dirty pages to disk. Blocking; keep off the per-tick path.
+     */
+    public void force() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    @Override
+    public void close() {
+        force();
+        closeQuietly(channel);
+    }
+
+    static long hashServerId(String serverId) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int index = 0; index < serverId.length(); index++) {
+            char character = serverId.charAt(index);
+            hash = (hash ^ (character & 0xFF)) * FNV_PRIME;
+            hash = (hash ^ (character >>> 8)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private boolean hasValidHeader() {
+        int count = buffer.getInt(OFFSET_COUNT);
+        return buffer.getInt(OFFSET_MAGIC) == MAGIC
+                && buffer.getInt(OFFSET_VERSION) == FORMAT_VERSION
+                && count >= 0
+                && count <= capacity;
+    }
+
+    private void reset() {
+        buffer.putInt(OFFSET_MAGIC, MAGIC);
+        buffer.putInt(OFFSET_VERSION, FORMAT_VERSION);
+        buffer.putInt(OFFSET_COUNT, 0);
+        slotsByKey.clear();
+        recordCount = 0;
+    }
+
+    private void indexRecords() {
+        recordCount = buffer.getInt(OFFSET_COUNT);
+        for (int slot = 0; slot < recordCount; slot++) {
+            slotsByKey.put(buffer.getLong(recordOffset(slot) + RECORD_KEY), slot);
+        }
+    }
+
+    private int leastRecentlyUpdatedSlot() {
+        int oldestSlot = 0;
+        long oldestUpdate = Long.MAX_VALUE;
+        for (int slot = 0; slot < recordCount; slot++) {
+            long updated = buffer.getLong(recordOffset(slot) + RECORD_UPDATED);
+            if (updated < oldestUpdate) {
+                oldestUpdate = updated;
+                oldestSlot = slot;
+            }
+        }
+        return oldestSlot;
+    }
+
+    private static int recordOffset(int slot) {
+        return HEADER_BYTES + slot * RECORD_BYTES;
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException exception) {
+            LOGGER.debug("Failed to close server stats store", exception);
+        }
+    }
+}
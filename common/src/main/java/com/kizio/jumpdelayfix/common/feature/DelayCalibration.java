@@ -0,0 +1,125 @@
+package com.kizio.jumpdelayfix.common.feature;
+
+/**
+ * Binary search for the lowest grounded-tick requirement a server accepts.
+ * <p>
+ * Each step probes the midpoint of the open range with a batch of real jumps. A batch passes when its
+ * rejections stay within the target rollback rate and fails as soon as they exceed it, so failing steps
+ * cost only a few jumps. The upper bound is never probed; with the default range a calibration finishes
+ * after three steps, i.e. at most a few dozen jumps. A run in which every step failed ends at that
+ * unverified bound, for example when a lag burst hit the whole run, and reports no verified result.
+ */
+public final class DelayCalibration {
+
+    public static final int DEFAULT_MIN_TICKS = 1;
+    public static final int DEFAULT_MAX_TICKS = 6;
+    public static final int DEFAULT_TRIALS_PER_STEP = 10;
+
+    private final int trialsPerStep;
+    private final int allowedRejectionsPerStep;
+
+    private int lowTicks;
+    private int highTicks;
+    private int probeTicks;
+    private int stepTrials;
+    private int stepRejections;
+    private int totalTrials;
+    private boolean anyStepPassed;
+
+    /**
+     * @param minTicks           lowest requirement worth probing
+     * @param maxTicks           upper bound of the search; never probed itself
+     * @param trialsPerStep      jumps needed for a probe to pass
+     * @param targetRollbackRate highest rejection share a passing probe may show
+     */
+    public DelayCalibration(int minTicks, int maxTicks, int trialsPerStep, double targetRollbackRate) {
+        if (minTicks < 1 || maxTicks < minTicks || trialsPerStep < 1) {
+            throw new IllegalArgumentException("invalid calibration range");
+        }
+
+        this.trialsPerStep = trialsPerStep;
+        this.allowedRejectionsPerStep = (int) Math.floor(Math.max(0.0D, Math.min(1.0D, targetRollbackRate)) * trialsPerStep);
+        this.lowTicks = minTicks;
+        this.highTicks = maxTicks;
+        this.probeTicks = midpoint();
+    }
+
+    /**
+     * @param targetRollbackRate highest rejection share a passing probe may show
+     * @return calibration over the default range and batch size
+     */
+    public static DelayCalibration standard(double targetRollbackRate) {
+        return new DelayCalibration(DEFAULT_MIN_TICKS, DEFAULT_MAX_TICKS, DEFAULT_TRIALS_PER_STEP, targetRollbackRate);
+    }
+
+    /**
+     * Records one resolved jump. Outcomes of jumps sent under another requirement (for example still in
+     * flight from the previous step) are ignored.
+     *
+     * @param requiredTicks requirement the jump was dispatched with
+     * @param confirmed     {@code true} when the server accepted the jump
+     */
+    public void record(int requiredTicks, boolean confirmed) {
+        if (isComplete() || requiredTicks != probeTicks) {
+            return;
+        }
+
+        totalTrials++;
+        stepTrials++;
+        if (!confirmed) {
+            stepRejections++;
+        }
+
+        if (stepRejections > allowedRejectionsPerStep) {
+            lowTicks = probeTicks + 1;
+            nextStep();
+        } else if (stepTrials >= trialsPerStep) {
+            highTicks = probeTicks;
+            anyStepPassed = true;
+            nextStep();
+        }
+    }
+
+    /**
+     * @return requirement the next jumps should be dispatched with
+     */
+    public int probeTicks() {
+        return probeTicks;
+    }
+
+    public boolean isComplete() {
+        return lowTicks >= highTicks;
+    }
+
+    /**
+     * @return lowest accepted requirement; only meaningful once {@link #isComplete()}
+     */
+    public int resultTicks() {
+        return highTicks;
+    }
+
+    /**
+     * @return whether a probe passed, so {@link #resultTicks()} was actually seen accepted rather than
+     * being the untested upper bound
+     */
+    public boolean hasVerifiedResult() {
+        return anyStepPassed;
+    }
+
+    /**
+     * @return jumps counted so far across all steps
+     */
+    public int totalTrials() {
+        return totalTrials;
+    }
+
+    private void nextStep() {
+        stepTrials = 0;
+        stepRejections = 0;
+        probeTicks = isComplete() ? highTicks : midpoint();
+    }
+
+    private int midpoint() {
+        return (lowTicks + highTicks) >>> 1;
+    }
+}
@@ -0,0 +1,114 @@
+package com.kizio.jumpdelayfix.common.feature;
+
+/**
+ * Latency-to-grounded-ticks timing model shared by every loader.
+ * <p>
+ * The landing has to reach the server before the jump does, so the requirement follows the one-way
+ * delay plus a one-way jitter allowance: {@code 1 + ceil((rtt + jitterWeight * jitter) / (2 * tickMs))},
+ * clamped to {@code [minRemoteTicks, maxTicks]}. The latency is a typical round trip (the median), not a
+ * tail estimate: the jitter term already supplies the margin, and a p95 would count the variance twice.
+ * Values are precomputed into a flat lookup table of 5 ms latency and jitter buckets (evaluated at each
+ * bucket's lower edge), so a lookup is two clamps and an array read. The profile offset and adaptive
+ * penalty are added by {@link JumpHandler}.
+ * <p>
+ * With no reported jitter the remote requirement therefore steps from 2 to 3, 4 and 5 ticks at 105, 205
+ * and 305 ms round trip (one tick per 50 ms of one-way delay, rounded to the 5 ms bucket). The loader
+ * step table this replaced stepped at 80, 150 and 250 ms on the same median ping, so a quiet connection
+ * in those gaps now waits one tick less; measured jitter adds its allowance on top.
+ * <p>
+ * Each {@code JumpController} builds its own model from the runtime config and rebuilds it when the
+ * jitter weight changes; the table is immutable once built, so loaders may read it from any thread.
+ * <p>
+ * On servers running another tick rate the delays are rescaled to the model's tick length before the
+ * lookup, which is exact for the formula above up to bucket rounding.
+ */
+public final class GroundedTicksModel {
+
+    public static final int LOCAL_TICKS = 1;
+
+    static final int BUCKET_MS = 5;
+    static final int LATENCY_BUCKETS = 120;
+    static final int JITTER_BUCKETS = 21;
+
+    static final int MIN_REMOTE_TICKS = 2;
+    static final int MAX_TICKS = 5;
+    static final int UNKNOWN_LATENCY_TICKS = 3;
+
+    private final double tickMs;
+    private final double jitterWeight;
+    private final byte[] table = new byte[LATENCY_BUCKETS * JITTER_BUCKETS];
+    private final int unknownLatencyTicks;
+
+    /**
+     * @param tickMs              client tick length in milliseconds
+     * @param jitterWeight        multiplier applied to the jitter estimate
+     * @param minRemoteTicks      lower bound for any remote session
+     * @param maxTicks            upper bound
+     * @param unknownLatencyTicks value used while latency is unknown
+     */
+    public GroundedTicksModel(double tickMs, double jitterWeight, int minRemoteTicks, int maxTicks, int unknownLatencyTicks) {
+        if (tickMs <= 0.0D || jitterWeight < 0.0D || minRemoteTicks < 1 || maxTicks < minRemoteTicks) {
+            throw new IllegalArgumentException("invalid timing model parameters");
+        }
+
+        this.tickMs = tickMs;
+        this.jitterWeight = jitterWeight;
+        this.unknownLatencyTicks = Math.max(minRemoteTicks, Math.min(maxTicks, unknownLatencyTicks));
+        for (int jitterBucket = 0; jitterBucket < JITTER_BUCKETS; jitterBucket++) {
+            double jitterMs = jitterBucket * BUCKET_MS;
+            for (int latencyBucket = 0; latencyBucket < LATENCY_BUCKETS; latencyBucket++) {
+                double rttMs = latencyBucket * BUCKET_MS;
+                int ticks = 1 + (int) Math.ceil((rttMs + jitterWeight * jitterMs) / (2.0D * tickMs));
+                table[jitterBucket * LATENCY_BUCKETS + latencyBucket] = (byte) Math.max(minRemoteTicks, Math.min(maxTicks, ticks));
+            }
+        }
+    }
+
+    /**
+     * @param jitterWeight multiplier applied to the jitter estimate
+     * @return model for vanilla 50 ms ticks, 2 to 5 remote ticks and 3 while latency is unknown
+     */
+    public static GroundedTicksModel withJitterWeight(double jitterWeight) {
+        return new GroundedTicksModel(TickTiming.VANILLA_MILLIS_PER_TICK, jitterWeight, MIN_REMOTE_TICKS, MAX_TICKS, UNKNOWN_LATENCY_TICKS);
+    }
+
+    /**
+     * @return multiplier applied to the jitter estimate
+     */
+    public double jitterWeight() {
+        return jitterWeight;
+    }
+
+    /**
+     * @param latencyMs median round-trip latency, negative when unknown
+     * @param jitterMs  round-trip jitter, negative when unknown (treated as zero)
+     * @return grounded ticks required on a remote server before the platform considers a jump safe
+     */
+    public int requiredTicks(int latencyMs, int jitterMs) {
+        if (latencyMs < 0) {
+            return unknownLatencyTicks;
+        }
+
+        int latencyBucket = Math.min(latencyMs / BUCKET_MS, LATENCY_BUCKETS - 1);
+        int jitterBucket = Math.min(Math.max(jitterMs, 0) / BUCKET_MS, JITTER_BUCKETS - 1);
+        return table[jitterBucket * LATENCY_BUCKETS + latencyBucket];
+    }
+
+    /**
+     * @param latencyMs           median round-trip latency, negative when unknown
+     * @param jitterMs            round-trip jitter, negative when unknown (treated as zero)
+     * @param serverMillisPerTick current server tick length
+     * @return grounded server ticks required on a remote server before the platform considers a jump safe
+     */
+    public int requiredTicks(int latencyMs, int jitterMs, float serverMillisPerTick) {
+        double scale = tickMs / TickTiming.serverMillisPerTick(serverMillisPerTick);
+        if (scale == 1.0D || latencyMs < 0) {
+            return requiredTicks(latencyMs, jitterMs);
+        }
+        return requiredTicks(scaleMillis(latencyMs, scale), jitterMs < 0 ? jitterMs : scaleMillis(jitterMs, scale));
+    }
+
+    private static int scaleMillis(int millis, double scale) {
+        return (int) Math.min(Integer.MAX_VALUE, Math.ceil(millis * scale));
+    }
+}
@@ -0,0 +1,95 @@
+package com.kizio.jumpdelayfix.common.feature;
+
+/**
+ * Fixed-capacity FIFO of dispatched jumps whose outcome is not final yet.
+ * <p>
+ * Backed by parallel primitive arrays so tracking never allocates. Entries are addressed by logical
+ * index, {@code 0} being the oldest attempt.
+ */
+final class InFlightJumps {
+
+    static final int CAPACITY = 4;
+    static final long NOT_SETTLING = Long.MAX_VALUE;
+
+    private final long[] tickSent = new long[CAPACITY];
+    private final double[] startY = new double[CAPACITY];
+    private final int[] requiredTicks = new int[CAPACITY];
+    private final long[] settleTick = new long[CAPACITY];
+    private int head;
+    private int size;
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean isFull() {
+        return size == CAPACITY;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void add(long sentTick, double sentY, int requiredGroundedTicks) {
+        if (isFull()) {
+            throw new IllegalStateException("in-flight jump capacity exceeded");
+        }
+
+        int slot = slot(size);
+        tickSent[slot] = sentTick;
+        startY[slot] = sentY;
+        requiredTicks[slot] = requiredGroundedTicks;
+        settleTick[slot] = NOT_SETTLING;
+        size++;
+    }
+
+    long tickSent(int index) {
+        return tickSent[slot(index)];
+    }
+
+    double startY(int index) {
+        return startY[slot(index)];
+    }
+
+    int requiredTicks(int index) {
+        return requiredTicks[slot(index)];
+    }
+
+    /**
+     * @return tick at which a client-confirmed attempt becomes final, or {@link #NOT_SETTLING}
+     */
+    long settleTick(int index) {
+        return settleTick[slot(index)];
+    }
+
+    void markSettling(int index, long tick) {
+        settleTick[slot(index)] = tick;
+    }
+
+    /**
+     * Removes the attempt at {@code index}, keeping the remaining attempts in dispatch order.
+     */
+    void remove(int index) {
+        for (int i = index; i > 0; i--) {
+            copy(slot(i - 1), slot(i));
+        }
+        head = (head + 1) % CAPACITY;
+        size--;
+    }
+
+    void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    private void copy(int from, int to) {
+        tickSent[to] = tickSent[from];
+        startY[to] = startY[from];
+        requiredTicks[to] = requiredTicks[from];
+        settleTick[to] = settleTick[from];
+    }
+
+    private int slot(int index) {
+        return (head + index) % CAPACITY;
+    }
+}
@@ -1,37 +1,82 @@
 package com.kizio.jumpdelayfix.common.feature;
 
 import com.kizio.jumpdelayfix.common.api.JumpInput;
+import com.kizio.jumpdelayfix.common.api.JumpInputFrame;
+import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
 import com.kizio.jumpdelayfix.common.model.JumpProfile;
 import com.kizio.jumpdelayfix.common.state.ModState;
+import com.kizio.jumpdelayfix.common.state.SessionState;
 
 import java.util.Objects;
 
 /**
  * Core jump execution controller independent from loader APIs.
+ * <p>
+ * Grounded time is counted in server ticks derived from the frame's tick length, because that is what
+ * the server checks. Outcome observation runs on the client's own ticks, and millisecond values are
+ * converted with the client tick length (see {@link TickTiming}).
  */
 public final class JumpHandler {
 
     private static final JumpHandler NO_OP = new JumpHandler(NoOpJumpInput.INSTANCE);
+    // Client ticks: the local player's physics show liftoff within this many ticks at any server rate.
     private static final int JUMP_RESULT_TIMEOUT_TICKS = 3;
-    private static final double JUMP_SUCCESS_MIN_HEIGHT_DELTA = 0.005D;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    // Corrections below this distance (blocks) are server nudges, not rolled-back jumps.
+    static final double MIN_CORRECTION_DISTANCE = 0.03D;
+    // A correction of at least this distance (blocks) weighs as one full rejection for the penalty.
+    static final double FULL_CORRECTION_DISTANCE = 0.4D;
+    // Corrections beyond this distance (blocks) are teleports or setbacks, not rolled-back jumps: a refused
+    // jump never carries the player more than its height plus a few ticks of sprint-jump travel away.
+    public static final double MAX_CORRECTION_DISTANCE = 4.0D;
+    // Client ticks an attempt may wait for its acknowledgement beyond one round trip plus jitter.
+    static final int ACK_TIMEOUT_GRACE_TICKS = 10;
+    private static final long NO_ACKS = -1L;
+    private static final long NO_PENDING_PRESS = Long.MIN_VALUE;
 
     private final JumpInput input;
-    private int groundedTicks;
-    private int ticksSinceLastJumpAttempt;
+    private final SessionState state;
+    private final JumpInputFrame frame = new JumpInputFrame();
+    private final JumpInputQueue.Sink inputSink = this::onJumpKeyEvent;
+    private JumpInputQueue inputQueue;
+    private long jumpBufferNanos;
+    private long pendingPressNanos = NO_PENDING_PRESS;
+    private double groundedTicks;
+    private double ticksSinceLastJumpAttempt;
     private int adaptivePenaltyTicks;
     private int successfulJumpStreak;
     private int confirmedJumpCount;
     private int rejectedJumpCount;
+    private int inconclusiveJumpCount;
+    private double penaltyDebt;
     private int shadowJumpPredictionCount;
     private int lastRequiredGroundedTicks = 1;
+    private int calibrationProbeTicks;
+    private int calibratedOffsetTicks = JumpDiagnostics.NO_CALIBRATED_OFFSET;
+    private int lagAllowanceTicks;
     private boolean shadowMode;
+    private OutcomeListener outcomeListener = OutcomeListener.NONE;
 
-    private boolean awaitingJumpResult;
-    private int jumpResultTicksLeft;
-    private double jumpStartY = Double.NaN;
+    private final InFlightJumps inFlightJumps = new InFlightJumps();
+    private long tickCounter;
+    private long lastCorrectionCount;
+    private double lastCorrectionDistance;
+    private long lastAcknowledgedJumps = NO_ACKS;
+    private boolean airborneSinceLastDispatch;
+    private boolean integratedJumpPending;
+    private double integratedJumpStartY;
 
     public JumpHandler(JumpInput input) {
+        this(input, ModState.global());
+    }
+
+    /**
+     * @param input loader input sampled every tick
+     * @param state enabled flag and profile of the owning controller
+     */
+    public JumpHandler(JumpInput input, SessionState state) {
         this.input = Objects.requireNonNull(input, "input");
+        this.state = Objects.requireNonNull(state, "state");
     }
 
     public static JumpHandler noOp() {
@@ -42,37 +87,45 @@ public final class JumpHandler {
      * Ticks jump handling once per client tick.
      */
     public void tick() {
-        if (!ModState.isEnabled()) {
+        input.sample(frame);
+        tickCounter++;
+        if (!state.isEnabled()) {
+            discardQueuedInput();
+            lastCorrectionCount = frame.positionCorrectionCount();
+            lastCorrectionDistance = frame.positionCorrectionDistance();
+            lastAcknowledgedJumps = frame.serverAcknowledgedJumps();
+            integratedJumpPending = false;
             return;
         }
 
-        updateAdaptivePenaltyFromJumpResult();
-
-        boolean onGround = input.isPlayerOnGround();
-        if (!onGround) {
-            groundedTicks = 0;
-            ticksSinceLastJumpAttempt = 0;
+        drainInputQueue();
+        if (frame.integratedServer()) {
+            tickIntegratedServer();
             return;
         }
 
-        groundedTicks++;
-        ticksSinceLastJumpAttempt++;
+        integratedJumpPending = false;
+        lagAllowanceTicks = TickTiming.lagAllowanceTicks(
+                frame.serverMillisPerTick(),
+                frame.serverTps(),
+                frame.serverTickJitterMs()
+        );
+        resolveInFlightJumps();
 
-        if (!input.isJumpPressed()) {
+        if (!countGroundedTicks()) {
             return;
         }
 
-        if (awaitingJumpResult) {
+        if (!frame.jumpPressed() && !hasBufferedPress()) {
             return;
         }
 
-        JumpProfile profile = ModState.getProfile();
-        int requiredGroundedTicks = Math.max(
-                1,
-                input.requiredGroundedTicksBeforeJump()
-                        + profile.groundedTicksOffset()
-                        + adaptivePenaltyTicks
-        );
+        // Chain a new attempt only once the previous one visibly left the ground; otherwise wait for it.
+        if (inFlightJumps.isFull() || (!inFlightJumps.isEmpty() && !airborneSinceLastDispatch)) {
+            return;
+        }
+
+        int requiredGroundedTicks = resolveRequiredGroundedTicks();
         lastRequiredGroundedTicks = requiredGroundedTicks;
 
         if (groundedTicks < requiredGroundedTicks || ticksSinceLastJumpAttempt < requiredGroundedTicks) {
@@ -82,57 +135,350 @@ public final class JumpHandler {
         if (shadowMode) {
             shadowJumpPredictionCount++;
             ticksSinceLastJumpAttempt = 0;
+            pendingPressNanos = NO_PENDING_PRESS;
             return;
         }
 
         input.jump();
         ticksSinceLastJumpAttempt = 0;
-        startJumpResultTracking();
+        pendingPressNanos = NO_PENDING_PRESS;
+        airborneSinceLastDispatch = false;
+        inFlightJumps.add(tickCounter, frame.playerY(), requiredGroundedTicks);
+    }
+
+    /**
+     * Singleplayer fast path. The integrated server applies the client's own movement, so nothing is ever
+     * rolled back: a jump is resolved on the next tick from whether the local player left the ground or
+     * gained height, and one that did neither (a block overhead, for example) is dropped as inconclusive.
+     * Profile offsets, penalties, lag allowance, calibration and outcome reporting are all skipped.
+     */
+    private void tickIntegratedServer() {
+        lastCorrectionCount = frame.positionCorrectionCount();
+        lastCorrectionDistance = frame.positionCorrectionDistance();
+        lastAcknowledgedJumps = NO_ACKS;
+        lagAllowanceTicks = 0;
+        if (!inFlightJumps.isEmpty()) {
+            inFlightJumps.clear();
+        }
+        if (integratedJumpPending) {
+            integratedJumpPending = false;
+            // jump() sets the upward velocity at once, so only the next sample shows whether it took effect.
+            if (!frame.playerOnGround() || frame.playerY() > integratedJumpStartY + JumpOutcomeClassifier.MIN_HEIGHT_DELTA) {
+                confirmedJumpCount++;
+            } else {
+                inconclusiveJumpCount++;
+            }
+        }
+
+        if (!countGroundedTicks() || (!frame.jumpPressed() && !hasBufferedPress())) {
+            return;
+        }
+
+        int requiredGroundedTicks = Math.max(1, frame.requiredGroundedTicks());
+        lastRequiredGroundedTicks = requiredGroundedTicks;
+        if (groundedTicks < requiredGroundedTicks || ticksSinceLastJumpAttempt < requiredGroundedTicks) {
+            return;
+        }
+
+        ticksSinceLastJumpAttempt = 0;
+        pendingPressNanos = NO_PENDING_PRESS;
+        if (shadowMode) {
+            shadowJumpPredictionCount++;
+            return;
+        }
+
+        input.jump();
+        integratedJumpPending = true;
+        integratedJumpStartY = frame.playerY();
+    }
+
+    /**
+     * Advances the grounded counters by one client tick expressed in server ticks.
+     *
+     * @return {@code false} while airborne, after resetting the counters
+     */
+    private boolean countGroundedTicks() {
+        if (!frame.playerOnGround()) {
+            airborneSinceLastDispatch = true;
+            groundedTicks = 0;
+            ticksSinceLastJumpAttempt = 0;
+            return false;
+        }
+
+        double serverTicks = TickTiming.serverTicksPerClientTick(frame.serverMillisPerTick());
+        groundedTicks += serverTicks;
+        ticksSinceLastJumpAttempt += serverTicks;
+        return true;
+    }
+
+    /**
+     * A calibration probe is used verbatim. A calibrated per-server offset is how far the lowest accepted
+     * requirement sat from the latency model, so it replaces the profile offset but still follows the model
+     * when latency changes; only the adaptive penalty and any server lag allowance go on top.
+     */
+    private int resolveRequiredGroundedTicks() {
+        if (calibrationProbeTicks > 0) {
+            return calibrationProbeTicks;
+        }
+
+        int offsetTicks = calibratedOffsetTicks != JumpDiagnostics.NO_CALIBRATED_OFFSET
+                ? calibratedOffsetTicks
+                : state.getProfile().groundedTicksOffset();
+        return Math.max(1, frame.requiredGroundedTicks() + offsetTicks + adaptivePenaltyTicks + lagAllowanceTicks);
+    }
+
+    private void drainInputQueue() {
+        if (inputQueue != null) {
+            inputQueue.drainTo(inputSink);
+        }
+    }
+
+    private void discardQueuedInput() {
+        if (inputQueue != null) {
+            inputQueue.clear();
+        }
+        pendingPressNanos = NO_PENDING_PRESS;
+    }
+
+    private void onJumpKeyEvent(boolean keyPressed, long timestampNanos) {
+        if (keyPressed) {
+            pendingPressNanos = timestampNanos;
+        }
+    }
+
+    /**
+     * A press counts until it is consumed by a jump or falls out of the buffer window. The window never
+     * drops below one client tick, so a tap that starts and ends between two ticks is still seen.
+     */
+    private boolean hasBufferedPress() {
+        if (pendingPressNanos == NO_PENDING_PRESS || inputQueue == null) {
+            return false;
+        }
+
+        long tapGraceNanos = (long) (TickTiming.clientMillisPerTick(frame.serverMillisPerTick()) * NANOS_PER_MILLI);
+        long window = Math.max(jumpBufferNanos, tapGraceNanos);
+        if (inputQueue.nanoTime() - pendingPressNanos <= window) {
+            return true;
+        }
+
+        pendingPressNanos = NO_PENDING_PRESS;
+        return false;
     }
 
-    private void updateAdaptivePenaltyFromJumpResult() {
-        if (!awaitingJumpResult) {
+    /**
+     * Resolves in-flight attempts oldest first.
+     * <p>
+     * Each new server position correction rejects the oldest unresolved attempt, since the server answers
+     * movement in order, and weighs on the penalty by how far the player was moved; teleport-sized moves
+     * reject nothing. Attempts the client already sees rising stay open for one round trip plus jitter so a
+     * late correction can still reject them; without a latency estimate they are confirmed immediately. Height and velocity only decide
+     * rejections when the loader cannot report corrections authoritatively; otherwise an attempt that
+     * never leaves the ground is dropped as obstructed. On a server running the companion, its
+     * acknowledgements replace the local heuristics entirely (see {@link #resolveByAcknowledgements()}).
+     */
+    private void resolveInFlightJumps() {
+        long correctionCount = frame.positionCorrectionCount();
+        double correctionDistance = frame.positionCorrectionDistance();
+        long newCorrections = correctionCount - lastCorrectionCount;
+        double newDistance = correctionDistance - lastCorrectionDistance;
+        lastCorrectionCount = correctionCount;
+        lastCorrectionDistance = correctionDistance;
+        if (newCorrections > 0) {
+            double weight = frame.authoritativeCorrections() ? correctionWeight(newDistance / newCorrections) : 1.0D;
+            while (weight > 0.0D && newCorrections > 0 && !inFlightJumps.isEmpty()) {
+                rejectInFlight(0, weight);
+                newCorrections--;
+            }
+        }
+
+        if (frame.serverAcknowledgedJumps() >= 0L) {
+            resolveByAcknowledgements();
             return;
         }
+        lastAcknowledgedJumps = NO_ACKS;
+
+        int index = 0;
+        while (index < inFlightJumps.size()) {
+            long settleTick = inFlightJumps.settleTick(index);
+            if (settleTick != InFlightJumps.NOT_SETTLING) {
+                if (tickCounter >= settleTick) {
+                    confirmInFlight(index);
+                } else {
+                    index++;
+                }
+                continue;
+            }
+
+            switch (JumpOutcomeClassifier.classify(frame, inFlightJumps.startY(index))) {
+                case CONFIRMED -> {
+                    int settleTicks = settleTicks();
+                    if (settleTicks == 0) {
+                        confirmInFlight(index);
+                    } else {
+                        inFlightJumps.markSettling(index, tickCounter + settleTicks);
+                        index++;
+                    }
+                }
+                case REJECTED -> rejectUnconfirmed(index);
+                case PENDING -> {
+                    if (tickCounter - inFlightJumps.tickSent(index) >= JUMP_RESULT_TIMEOUT_TICKS) {
+                        rejectUnconfirmed(index);
+                    } else {
+                        index++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Resolves open attempts from the companion's cumulative acknowledgement count.
+     * <p>
+     * The server handles the player's movement in order, so the accepted jumps are an ordered subsequence of
+     * the attempts and an acknowledgement can never skip back to an older attempt: once an attempt is
+     * acknowledged, every older open one was not applied. The count carries no sequence number, so each new
+     * acknowledgement is matched to the open attempt whose age is closest to one round trip, ties going to
+     * the older one. Consecutive attempts are at least a jump's airtime apart, well beyond the round trip
+     * jitter, so this only differs from plain FIFO order when the server skipped an attempt.
+     * <p>
+     * An attempt that is skipped, or neither acknowledged nor corrected well past one round trip, is
+     * rejected: the server never applied the jump and vanilla sends no correction for it. Attempts that never
+     * visibly left the ground on the client were obstructed rather than rejected and are dropped without
+     * blame. The first value seen on a connection, or a count that went backwards after a reconnect, only
+     * sets the baseline.
+     */
+    private void resolveByAcknowledgements() {
+        long acknowledged = frame.serverAcknowledgedJumps();
+        long newAcknowledgements = lastAcknowledgedJumps == NO_ACKS || acknowledged < lastAcknowledgedJumps
+                ? 0L
+                : acknowledged - lastAcknowledgedJumps;
+        lastAcknowledgedJumps = acknowledged;
+
+        // Settling carries no delay here; it only records that the client saw the attempt lift off.
+        for (int index = 0; index < inFlightJumps.size(); index++) {
+            if (inFlightJumps.settleTick(index) == InFlightJumps.NOT_SETTLING
+                    && JumpOutcomeClassifier.classify(frame, inFlightJumps.startY(index)) == JumpOutcomeClassifier.Outcome.CONFIRMED) {
+                inFlightJumps.markSettling(index, tickCounter);
+            }
+        }
+
+        while (newAcknowledgements > 0L && !inFlightJumps.isEmpty()) {
+            int acknowledgedIndex = matchAcknowledgement(newAcknowledgements);
+            for (int skipped = 0; skipped < acknowledgedIndex; skipped++) {
+                expireUnacknowledged(0);
+            }
+            confirmInFlight(0);
+            newAcknowledgements--;
+        }
+
+        long timeoutTicks = settleTicks() + ACK_TIMEOUT_GRACE_TICKS;
+        int index = 0;
+        while (index < inFlightJumps.size()) {
+            if (tickCounter - inFlightJumps.tickSent(index) > timeoutTicks) {
+                expireUnacknowledged(index);
+            } else {
+                index++;
+            }
+        }
+    }
 
-        double currentY = input.getPlayerY();
-        if (!Double.isNaN(currentY) && !Double.isNaN(jumpStartY) && currentY > jumpStartY + JUMP_SUCCESS_MIN_HEIGHT_DELTA) {
-            onJumpConfirmed();
+    /**
+     * @param pendingAcknowledgements acknowledgements still to match this tick, the oldest first; later ones
+     *                                need a younger attempt each, which bounds how young this match can be
+     * @return index of the open attempt the oldest pending acknowledgement belongs to
+     */
+    private int matchAcknowledgement(long pendingAcknowledgements) {
+        int lastCandidate = (int) Math.max(0L, inFlightJumps.size() - pendingAcknowledgements);
+        long expectedAgeTicks = Math.round(Math.max(0, frame.latencyMs())
+                / (double) TickTiming.clientMillisPerTick(frame.serverMillisPerTick()));
+        int match = 0;
+        long bestDistance = Long.MAX_VALUE;
+        for (int index = 0; index <= lastCandidate; index++) {
+            long distance = Math.abs(tickCounter - inFlightJumps.tickSent(index) - expectedAgeTicks);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                match = index;
+            }
+        }
+        return match;
+    }
+
+    private void expireUnacknowledged(int index) {
+        if (inFlightJumps.settleTick(index) == InFlightJumps.NOT_SETTLING) {
+            inFlightJumps.remove(index);
+            inconclusiveJumpCount++;
             return;
         }
+        rejectInFlight(index, 1.0D);
+    }
 
-        jumpResultTicksLeft--;
-        if (jumpResultTicksLeft <= 0) {
-            onJumpRejected();
+    private int settleTicks() {
+        int latencyMs = frame.latencyMs();
+        if (latencyMs <= 0) {
+            return 0;
         }
+        int waitMs = latencyMs + Math.max(0, frame.latencyJitterMs());
+        return (int) Math.ceil(waitMs / (double) TickTiming.clientMillisPerTick(frame.serverMillisPerTick()));
     }
 
-    private void startJumpResultTracking() {
-        awaitingJumpResult = true;
-        jumpResultTicksLeft = JUMP_RESULT_TIMEOUT_TICKS;
-        jumpStartY = input.getPlayerY();
+    /**
+     * @param distance mean distance of the new corrections in blocks
+     * @return penalty weight in {@code [0, 1]}; {@code 0} for nudges and for teleport-sized moves (/tp,
+     *         warps, anti-cheat setbacks), neither of which rejects anything
+     */
+    static double correctionWeight(double distance) {
+        if (!(distance >= MIN_CORRECTION_DISTANCE) || distance > MAX_CORRECTION_DISTANCE) {
+            return 0.0D;
+        }
+        return Math.min(1.0D, distance / FULL_CORRECTION_DISTANCE);
+    }
+
+    private void rejectUnconfirmed(int index) {
+        if (frame.authoritativeCorrections()) {
+            inFlightJumps.remove(index);
+            inconclusiveJumpCount++;
+            return;
+        }
+        rejectInFlight(index, 1.0D);
     }
 
-    private void onJumpConfirmed() {
-        awaitingJumpResult = false;
-        jumpStartY = Double.NaN;
+    private void confirmInFlight(int index) {
+        int requiredTicksUsed = inFlightJumps.requiredTicks(index);
+        inFlightJumps.remove(index);
         confirmedJumpCount++;
+        outcomeListener.onOutcome(requiredTicksUsed, true);
 
-        JumpProfile profile = ModState.getProfile();
+        JumpProfile profile = state.getProfile();
         successfulJumpStreak++;
         if (adaptivePenaltyTicks > 0 && successfulJumpStreak >= profile.successfulJumpsToReducePenalty()) {
             adaptivePenaltyTicks--;
             successfulJumpStreak = 0;
+            penaltyDebt = 0.0D;
         }
     }
 
-    private void onJumpRejected() {
-        awaitingJumpResult = false;
-        jumpStartY = Double.NaN;
+    /**
+     * @param weight share of a full penalty step; fractions accumulate until they add up to a tick
+     */
+    private void rejectInFlight(int index, double weight) {
+        int requiredTicksUsed = inFlightJumps.requiredTicks(index);
+        inFlightJumps.remove(index);
         successfulJumpStreak = 0;
         rejectedJumpCount++;
+        outcomeListener.onOutcome(requiredTicksUsed, false);
+
+        // Calibration probes are expected to fail sometimes, an attempt sent under a lower requirement than
+        // the current one has already been compensated, and server lag is covered by the lag allowance.
+        if (calibrationProbeTicks > 0 || requiredTicksUsed < lastRequiredGroundedTicks || lagAllowanceTicks > 0) {
+            return;
+        }
 
-        JumpProfile profile = ModState.getProfile();
+        penaltyDebt += weight;
+        if (penaltyDebt < 1.0D) {
+            return;
+        }
+        penaltyDebt -= 1.0D;
+        JumpProfile profile = state.getProfile();
         adaptivePenaltyTicks = Math.min(profile.maxAdaptivePenaltyTicks(), adaptivePenaltyTicks + 1);
     }
 
@@ -140,14 +486,72 @@ public final class JumpHandler {
         this.shadowMode = shadowMode;
     }
 
+    /**
+     * Attaches the timestamped key event queue drained at the start of every tick.
+     *
+     * @param inputQueue queue fed by the loader, or {@code null} to rely on held-key sampling only
+     */
+    public void setInputQueue(JumpInputQueue inputQueue) {
+        this.inputQueue = inputQueue;
+        pendingPressNanos = NO_PENDING_PRESS;
+    }
+
+    /**
+     * Sets how long a press made while airborne stays eligible for the landing jump.
+     *
+     * @param jumpBufferMs buffer window in milliseconds, {@code 0} keeps only the one-tick tap grace
+     */
+    public void setJumpBufferMs(int jumpBufferMs) {
+        this.jumpBufferNanos = Math.max(0, jumpBufferMs) * NANOS_PER_MILLI;
+    }
+
+    /**
+     * Pins the requirement to an exact value while a calibration probe runs; rejections under a probe do
+     * not raise the adaptive penalty.
+     *
+     * @param calibrationProbeTicks probed requirement, or {@code 0} when no calibration is running
+     */
+    public void setCalibrationProbeTicks(int calibrationProbeTicks) {
+        this.calibrationProbeTicks = Math.max(0, calibrationProbeTicks);
+    }
+
+    /**
+     * @param calibratedOffsetTicks calibrated offset from the latency model for the current server, or
+     *                              {@link JumpDiagnostics#NO_CALIBRATED_OFFSET} to use the profile offset
+     */
+    public void setCalibratedOffsetTicks(int calibratedOffsetTicks) {
+        this.calibratedOffsetTicks = calibratedOffsetTicks;
+    }
+
+    /**
+     * @param outcomeListener receives every resolved attempt, or {@code null} to stop reporting
+     */
+    public void setOutcomeListener(OutcomeListener outcomeListener) {
+        this.outcomeListener = outcomeListener == null ? OutcomeListener.NONE : outcomeListener;
+    }
+
     public int getAdaptivePenaltyTicks() {
         return adaptivePenaltyTicks;
     }
 
+    /**
+     * @return extra grounded ticks added while the server runs behind its announced tick rate
+     */
+    public int getLagAllowanceTicks() {
+        return lagAllowanceTicks;
+    }
+
     public int getRequiredGroundedTicks() {
         return Math.max(1, lastRequiredGroundedTicks);
     }
 
+    /**
+     * @return requirement the latency model gave for the most recent tick sample, before any offset
+     */
+    public int getModelGroundedTicks() {
+        return frame.requiredGroundedTicks();
+    }
+
     public int getConfirmedJumpCount() {
         return confirmedJumpCount;
     }
@@ -156,16 +560,55 @@ public final class JumpHandler {
         return rejectedJumpCount;
     }
 
+    /**
+     * @return attempts dropped because they never left the ground and the server did not correct them
+     */
+    public int getInconclusiveJumpCount() {
+        return inconclusiveJumpCount;
+    }
+
+    /**
+     * @return number of dispatched jumps whose outcome is still open
+     */
+    public int getInFlightJumpCount() {
+        return inFlightJumps.size();
+    }
+
     public int getShadowJumpPredictionCount() {
         return shadowJumpPredictionCount;
     }
 
+    /**
+     * @return {@code true} when the most recent tick ran the singleplayer fast path
+     */
+    public boolean isIntegratedServerSession() {
+        return frame.integratedServer();
+    }
+
+    /**
+     * @return latency from the most recent tick sample
+     */
     public int getLatencyMs() {
-        return input.getLatencyMs();
+        return frame.latencyMs();
     }
 
+    /**
+     * @return server identifier from the most recent tick sample
+     */
     public String getServerIdentifier() {
-        return input.getServerIdentifier();
+        return frame.serverIdentifier();
+    }
+
+    /**
+     * Receives resolved jump attempts together with the requirement they were dispatched under.
+     */
+    @FunctionalInterface
+    public interface OutcomeListener {
+
+        OutcomeListener NONE = (requiredTicks, confirmed) -> {
+        };
+
+        void onOutcome(int requiredTicks, boolean confirmed);
     }
 
     private enum NoOpJumpInput implements JumpInput {
@@ -0,0 +1,122 @@
+package com.kizio.jumpdelayfix.common.feature;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, allocation-free ring buffer of timestamped jump key transitions.
+ * <p>
+ * Single producer (key callback or render-frame poll) and single consumer ({@link JumpHandler} once per
+ * tick). Indices are published through volatile fields so the two sides never lock. When the buffer is
+ * full, new events are dropped and counted; with a 50 ms tick this only happens on pathological input.
+ */
+public final class JumpInputQueue {
+
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final long[] timestamps;
+    private final boolean[] pressed;
+    private final int mask;
+    private final LongSupplier clock;
+
+    private volatile long writeIndex;
+    private volatile long readIndex;
+    private volatile long droppedEvents;
+
+    public JumpInputQueue() {
+        this(DEFAULT_CAPACITY, System::nanoTime);
+    }
+
+    /**
+     * @param capacity power-of-two event capacity
+     * @param clock    nanosecond clock used to timestamp events and by consumers for window checks
+     */
+    public JumpInputQueue(int capacity, LongSupplier clock) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a positive power of two: " + capacity);
+        }
+        this.timestamps = new long[capacity];
+        this.pressed = new boolean[capacity];
+        this.mask = capacity - 1;
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    /**
+     * Records a jump key transition stamped with the queue clock.
+     *
+     * @param keyPressed {@code true} for press, {@code false} for release
+     * @return {@code false} when the event was dropped because the buffer is full
+     */
+    public boolean offer(boolean keyPressed) {
+        return offer(keyPressed, clock.getAsLong());
+    }
+
+    /**
+     * Records a jump key transition with an explicit timestamp.
+     *
+     * @param keyPressed     {@code true} for press, {@code false} for release
+     * @param timestampNanos event time on the queue clock
+     * @return {@code false} when the event was dropped because the buffer is full
+     */
+    public boolean offer(boolean keyPressed, long timestampNanos) {
+        long write = writeIndex;
+        if (write - readIndex >= timestamps.length) {
+            droppedEvents++;
+            return false;
+        }
+
+        int slot = (int) (write & mask);
+        timestamps[slot] = timestampNanos;
+        pressed[slot] = keyPressed;
+        writeIndex = write + 1;
+        return true;
+    }
+
+    /**
+     * Hands every queued event to the sink in arrival order and empties the queue.
+     *
+     * @param sink event consumer
+     * @return number of drained events
+     */
+    public int drainTo(Sink sink) {
+        long read = readIndex;
+        long write = writeIndex;
+        for (long index = read; index < write; index++) {
+            int slot = (int) (index & mask);
+            sink.onJumpKeyEvent(pressed[slot], timestamps[slot]);
+        }
+        readIndex = write;
+        return (int) (write - read);
+    }
+
+    /**
+     * Discards queued events. Must be called from the consumer side.
+     */
+    public void clear() {
+        readIndex = writeIndex;
+    }
+
+    /**
+     * @return current time on the queue clock
+     */
+    public long nanoTime() {
+        return clock.getAsLong();
+    }
+
+    public long droppedEvents() {
+        return droppedEvents;
+    }
+
+    /**
+     * Receives drained key events.
+     */
+    @FunctionalInterface
+    public interface Sink {
+
+        /**
+         * @param keyPressed     {@code true} for press, {@code false} for release
+         * @param timestampNanos event time on the queue clock
+         */
+        void onJumpKeyEvent(boolean keyPressed, long timestampNanos);
+    }
+}
@@ -0,0 +1,49 @@
+package com.kizio.jumpdelayfix.common.feature;
+
+import com.kizio.jumpdelayfix.common.api.JumpInputFrame;
+
+/**
+ * Classifies a dispatched jump from the first samples taken after it.
+ * <p>
+ * Upward velocity or height gain confirms it, while still standing on the ground with no upward
+ * velocity means the jump never left the ground. Anything else stays pending until the caller's timeout.
+ * Server position corrections are attributed by the caller, which knows the order of in-flight attempts.
+ */
+final class JumpOutcomeClassifier {
+
+    static final double MIN_HEIGHT_DELTA = 0.005D;
+    static final double MIN_RISE_VELOCITY = 0.1D;
+
+    private JumpOutcomeClassifier() {
+    }
+
+    /**
+     * @param frame  tick sample taken after the jump was dispatched
+     * @param startY player Y when the jump was dispatched
+     * @return classification for this tick
+     */
+    static Outcome classify(JumpInputFrame frame, double startY) {
+        double currentY = frame.playerY();
+        if (!Double.isNaN(currentY) && !Double.isNaN(startY) && currentY > startY + MIN_HEIGHT_DELTA) {
+            return Outcome.CONFIRMED;
+        }
+
+        double velocity = frame.verticalVelocity();
+        if (Double.isNaN(velocity)) {
+            return Outcome.PENDING;
+        }
+        if (velocity > MIN_RISE_VELOCITY) {
+            return Outcome.CONFIRMED;
+        }
+        if (frame.playerOnGround() && velocity <= 0.0D) {
+            return Outcome.REJECTED;
+        }
+        return Outcome.PENDING;
+    }
+
+    enum Outcome {
+        CONFIRMED,
+        REJECTED,
+        PENDING
+    }
+}
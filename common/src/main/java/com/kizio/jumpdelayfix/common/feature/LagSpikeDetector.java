@@ -0,0 +1,137 @@
+package com.kizio.jumpdelayfix.common.feature;
+
+import com.kizio.jumpdelayfix.common.model.LagRegime;
+
+/**
+ * Streaming change-point detector for sudden server lag.
+ * <p>
+ * Two signals are watched: per-attempt outcomes (1 for a rejection, 0 for a confirmation) and ping round
+ * trips. A Page-Hinkley test on each flags a {@link LagRegime#SPIKE} within a handful of samples of an
+ * upward shift. Recovery is the mirror image: a CUSUM against the level seen when the spike was flagged
+ * has to accumulate enough evidence that the signal dropped back. A latency rise that simply persists is
+ * accepted as the new baseline after a while, so a worse connection does not pin the spike forever.
+ */
+public final class LagSpikeDetector {
+
+    static final double OUTCOME_DELTA = 0.10D;
+    static final double OUTCOME_SPIKE_THRESHOLD = 2.5D;
+    static final double OUTCOME_RECOVERY_THRESHOLD = 3.0D;
+
+    static final double LATENCY_DELTA_MS = 10.0D;
+    static final double LATENCY_SPIKE_THRESHOLD_MS = 300.0D;
+    static final double LATENCY_RECOVERY_THRESHOLD_MS = 250.0D;
+    static final int LATENCY_SETTLE_SAMPLES = 30;
+
+    private static final int BASELINE_MEMORY = 50;
+    private static final double LEVEL_GAIN = 0.3D;
+
+    private final Signal outcomes = new Signal(OUTCOME_DELTA, OUTCOME_SPIKE_THRESHOLD, OUTCOME_RECOVERY_THRESHOLD, Integer.MAX_VALUE);
+    private final Signal latency = new Signal(LATENCY_DELTA_MS, LATENCY_SPIKE_THRESHOLD_MS, LATENCY_RECOVERY_THRESHOLD_MS, LATENCY_SETTLE_SAMPLES);
+    private LagRegime regime = LagRegime.STEADY;
+
+    /**
+     * @param confirmed {@code true} when the server accepted the attempt
+     * @return regime after this sample
+     */
+    public LagRegime recordOutcome(boolean confirmed) {
+        return update(outcomes, confirmed ? 0.0D : 1.0D);
+    }
+
+    /**
+     * @param rttMs measured ping round trip
+     * @return regime after this sample
+     */
+    public LagRegime recordLatency(int rttMs) {
+        if (rttMs < 0) {
+            return regime;
+        }
+        return update(latency, rttMs);
+    }
+
+    public LagRegime regime() {
+        return regime;
+    }
+
+    /**
+     * Forgets both baselines, for example after switching servers.
+     */
+    public void reset() {
+        outcomes.reset();
+        latency.reset();
+        regime = LagRegime.STEADY;
+    }
+
+    private LagRegime update(Signal signal, double value) {
+        boolean alarm = signal.add(value);
+        if (alarm) {
+            signal.trigger();
+            regime = LagRegime.SPIKE;
+        } else if (signal.triggered) {
+            signal.trackRecovery(value);
+        }
+
+        if (regime == LagRegime.SPIKE && !outcomes.triggered && !latency.triggered) {
+            // Re-learn both baselines from the recovered regime.
+            outcomes.resetBaseline();
+            latency.resetBaseline();
+            regime = LagRegime.STEADY;
+        }
+        return regime;
+    }
+
+    private static final class Signal {
+
+        private final double delta;
+        private final double recoveryThreshold;
+        private final int settleSamples;
+        private final PageHinkley test;
+
+        private boolean hasLevel;
+        private double level;
+        private boolean triggered;
+        private double spikeLevel;
+        private double recovery;
+        private int samplesSinceTrigger;
+
+        private Signal(double delta, double spikeThreshold, double recoveryThreshold, int settleSamples) {
+            this.delta = delta;
+            this.recoveryThreshold = recoveryThreshold;
+            this.settleSamples = settleSamples;
+            this.test = new PageHinkley(delta, spikeThreshold, BASELINE_MEMORY);
+        }
+
+        private boolean add(double value) {
+            level = hasLevel ? level + LEVEL_GAIN * (value - level) : value;
+            hasLevel = true;
+            return test.add(value);
+        }
+
+        private void trigger() {
+            triggered = true;
+            spikeLevel = level;
+            recovery = 0.0D;
+            samplesSinceTrigger = 0;
+            test.reset();
+        }
+
+        private void trackRecovery(double value) {
+            recovery = Math.max(0.0D, recovery + spikeLevel - value - delta);
+            if (recovery > recoveryThreshold || ++samplesSinceTrigger >= settleSamples) {
+                triggered = false;
+            }
+        }
+
+        private void resetBaseline() {
+            test.reset();
+        }
+
+        private void reset() {
+            test.reset();
+            hasLevel = false;
+            level = 0.0D;
+            triggered = false;
+            recovery = 0.0D;
+            samplesSinceTrigger = 0;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.kizio.jumpdelayfix.common.feature;
+
+/**
+ * One-sided Page-Hinkley test for an upward shift in the mean of a stream.
+ * <p>
+ * The reference mean is a running average whose weight is capped at {@code memory} samples, so a slow
+ * drift is absorbed into the baseline while a sudden shift accumulates quickly.
+ */
+final class PageHinkley {
+
+    private final double delta;
+    private final double threshold;
+    private final int memory;
+
+    private int count;
+    private double mean;
+    private double cumulative;
+    private double minimum;
+
+    /**
+     * @param delta     magnitude of change tolerated without accumulating
+     * @param threshold accumulated deviation that raises an alarm
+     * @param memory    maximum number of samples weighted into the reference mean
+     */
+    PageHinkley(double delta, double threshold, int memory) {
+        this.delta = delta;
+        this.threshold = threshold;
+        this.memory = memory;
+    }
+
+    /**
+     * @param value next observation
+     * @return {@code true} when the accumulated upward deviation crossed the threshold
+     */
+    boolean add(double value) {
+        if (count < memory) {
+            count++;
+        }
+        mean += (value - mean) / count;
+        cumulative += value - mean - delta;
+        minimum = Math.min(minimum, cumulative);
+        return statistic() > threshold;
+    }
+
+    /**
+     * @return current accumulated deviation above the running minimum
+     */
+    double statistic() {
+        return cumulative - minimum;
+    }
+
+    void reset() {
+        count = 0;
+        mean = 0.0D;
+        cumulative = 0.0D;
+        minimum = 0.0D;
+    }
+}
@@ -0,0 +1,108 @@
+package com.kizio.jumpdelayfix.common.feature;
+
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import com.kizio.jumpdelayfix.common.model.ServerAdaptiveStats;
+
+/**
+ * UCB1 profile selector that treats every {@link JumpProfile} as a bandit arm.
+ * <p>
+ * A profile is played for a fixed evaluation window. Windows with at least one resolved jump are
+ * rewarded by confirmed jumps per second minus a weighted rejection term, normalized to {@code [0, 1]},
+ * and credited to the per-server arm statistics in {@link ServerAdaptiveStats}; idle windows carry no
+ * signal and are dropped. Untried arms are played first, safest first. The selector itself only holds
+ * the open window, so ticking it never allocates.
+ */
+public final class ProfileBandit {
+
+    static final int WINDOW_TICKS = 200;
+    static final double REJECTION_WEIGHT = 2.0D;
+
+    private static final double TICKS_PER_SECOND = 20.0D;
+    // Vanilla bunny hopping peaks at roughly 1.7 jumps per second; this scale keeps rewards below 1.
+    private static final double MAX_JUMPS_PER_SECOND = 2.0D;
+    private static final double EXPLORATION = Math.sqrt(2.0D);
+    private static final JumpProfile[] PROFILES = JumpProfile.values();
+
+    private JumpProfile windowProfile;
+    private int windowTicks;
+    private int windowStartConfirmed;
+    private int windowStartRejected;
+
+    /**
+     * Advances the open window by one tick and picks the profile for the next one when it closes.
+     * <p>
+     * A window is restarted whenever the active profile differs from the one it was opened for, so
+     * manual or failsafe switches are never credited to the wrong arm.
+     *
+     * @param stats         active server stats holding the arm statistics
+     * @param activeProfile profile currently applied
+     * @return profile to apply from now on
+     */
+    public JumpProfile onTick(ServerAdaptiveStats stats, JumpProfile activeProfile) {
+        if (activeProfile != windowProfile) {
+            openWindow(stats, activeProfile);
+            return activeProfile;
+        }
+
+        if (++windowTicks < WINDOW_TICKS) {
+            return activeProfile;
+        }
+
+        int confirmed = stats.confirmedJumps() - windowStartConfirmed;
+        int rejected = stats.rejectedJumps() - windowStartRejected;
+        if (confirmed + rejected > 0) {
+            stats.recordArmReward(activeProfile, reward(confirmed, rejected));
+        }
+
+        JumpProfile next = select(stats);
+        openWindow(stats, next);
+        return next;
+    }
+
+    /**
+     * Drops the open window; call when the active server changes or a lag spike starts or ends.
+     */
+    public void reset() {
+        windowProfile = null;
+        windowTicks = 0;
+    }
+
+    /**
+     * @param stats server stats holding the arm statistics
+     * @return untried arm (safest first), otherwise the arm with the highest upper confidence bound
+     */
+    static JumpProfile select(ServerAdaptiveStats stats) {
+        for (int arm = PROFILES.length - 1; arm >= 0; arm--) {
+            if (stats.armPulls(PROFILES[arm]) == 0) {
+                return PROFILES[arm];
+            }
+        }
+
+        double logTotal = Math.log(stats.totalArmPulls());
+        JumpProfile best = JumpProfile.STABLE;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int arm = PROFILES.length - 1; arm >= 0; arm--) {
+            JumpProfile profile = PROFILES[arm];
+            int pulls = stats.armPulls(profile);
+            double score = stats.armRewardSum(profile) / pulls + EXPLORATION * Math.sqrt(logTotal / pulls);
+            if (score > bestScore) {
+                bestScore = score;
+                best = profile;
+            }
+        }
+        return best;
+    }
+
+    static double reward(int confirmed, int rejected) {
+        double windowSeconds = WINDOW_TICKS / TICKS_PER_SECOND;
+        double netJumpsPerSecond = (confirmed - REJECTION_WEIGHT * rejected) / windowSeconds;
+        return Math.max(0.0D, Math.min(1.0D, netJumpsPerSecond / MAX_JUMPS_PER_SECOND));
+    }
+
+    private void openWindow(ServerAdaptiveStats stats, JumpProfile profile) {
+        windowProfile = profile;
+        windowTicks = 0;
+        windowStartConfirmed = stats.confirmedJumps();
+        windowStartRejected = stats.rejectedJumps();
+    }
+}
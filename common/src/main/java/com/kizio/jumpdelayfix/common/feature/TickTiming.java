@@ -0,0 +1,71 @@
+package com.kizio.jumpdelayfix.common.feature;
+
+/**
+ * Conversions between wall-clock time, client ticks and server ticks.
+ * <p>
+ * A vanilla client follows the server's tick-rate manager when the server ticks slower than 20 TPS, but
+ * never ticks faster than that: on a 40 TPS server one client tick spans two server ticks. Requirements
+ * the server enforces are therefore counted in server ticks, while anything measured in milliseconds is
+ * converted with the client's own tick length.
+ */
+public final class TickTiming {
+
+    public static final float VANILLA_MILLIS_PER_TICK = 50.0F;
+
+    static final double LAGGING_TPS_RATIO = 0.9D;
+    static final int MAX_LAG_ALLOWANCE_TICKS = 3;
+
+    private TickTiming() {
+    }
+
+    /**
+     * @param serverMillisPerTick server tick length reported by the tick-rate manager
+     * @return usable server tick length; invalid values fall back to vanilla
+     */
+    public static float serverMillisPerTick(float serverMillisPerTick) {
+        if (!(serverMillisPerTick > 0.0F) || Float.isInfinite(serverMillisPerTick)) {
+            return VANILLA_MILLIS_PER_TICK;
+        }
+        return serverMillisPerTick;
+    }
+
+    /**
+     * @param serverMillisPerTick server tick length reported by the tick-rate manager
+     * @return length of one client tick in milliseconds
+     */
+    public static float clientMillisPerTick(float serverMillisPerTick) {
+        return Math.max(VANILLA_MILLIS_PER_TICK, serverMillisPerTick(serverMillisPerTick));
+    }
+
+    /**
+     * @param serverMillisPerTick server tick length reported by the tick-rate manager
+     * @return server ticks elapsed per client tick, never below {@code 1}
+     */
+    public static double serverTicksPerClientTick(float serverMillisPerTick) {
+        float serverMillis = serverMillisPerTick(serverMillisPerTick);
+        return Math.max(VANILLA_MILLIS_PER_TICK, serverMillis) / serverMillis;
+    }
+
+    /**
+     * Extra grounded ticks while the server falls behind the rate it announced.
+     * <p>
+     * A server below {@value #LAGGING_TPS_RATIO} of its announced rate processes the landing late by the
+     * lost time per tick plus its tick jitter; that delay is expressed in client ticks and capped at
+     * {@value #MAX_LAG_ALLOWANCE_TICKS}. A server keeping its rate needs no allowance, whatever its jitter.
+     *
+     * @param serverMillisPerTick announced server tick length
+     * @param measuredTps         measured ticks per second, negative when unknown
+     * @param tickJitterMs        measured tick jitter, negative when unknown
+     * @return allowance in ticks, {@code 0} while the server keeps up
+     */
+    public static int lagAllowanceTicks(float serverMillisPerTick, double measuredTps, int tickJitterMs) {
+        float announcedMillis = serverMillisPerTick(serverMillisPerTick);
+        if (!(measuredTps > 0.0D) || measuredTps >= LAGGING_TPS_RATIO * 1_000.0D / announcedMillis) {
+            return 0;
+        }
+
+        double lostMillis = 1_000.0D / measuredTps - announcedMillis + Math.max(0, tickJitterMs);
+        int ticks = (int) Math.ceil(lostMillis / clientMillisPerTick(serverMillisPerTick));
+        return Math.max(1, Math.min(MAX_LAG_ALLOWANCE_TICKS, ticks));
+    }
+}
@@ -2,6 +2,12 @@ package com.kizio.jumpdelayfix.common.model;
 
 /**
  * Snapshot used by HUD and settings screens.
+ * <p>
+ * {@code recentWindow} covers the last 30 seconds and {@code longWindow} the last 5 minutes of wall-clock
+ * time on the active server. {@code serverTps} and {@code serverTickJitterMs} are negative while unknown;
+ * {@code lagAllowanceTicks} is the delay currently added because the server runs behind its tick rate.
+ * {@code calibratedOffsetTicks} is the active server's calibrated offset from the latency model, or
+ * {@link #NO_CALIBRATED_OFFSET} when it has none.
  */
 public record JumpDiagnostics(
         String serverId,
@@ -17,9 +23,22 @@ public record JumpDiagnostics(
         int confirmedJumps,
         int rejectedJumps,
         int shadowJumpPredictions,
-        double rollbackRate
+        double rollbackRate,
+        LagRegime lagRegime,
+        WindowedSummary recentWindow,
+        WindowedSummary longWindow,
+        double serverTps,
+        int serverTickJitterMs,
+        int lagAllowanceTicks,
+        boolean calibrating,
+        int calibratedOffsetTicks
 ) {
 
+    public static final int RECENT_WINDOW_SECONDS = 30;
+    public static final int LONG_WINDOW_SECONDS = WindowedStats.MAX_WINDOW_SECONDS;
+    // An offset of 0 is a valid calibration result, so the absence of one needs its own value.
+    public static final int NO_CALIBRATED_OFFSET = Integer.MIN_VALUE;
+
     /**
      * @return safe empty diagnostics used before initialization
      */
@@ -38,7 +57,15 @@ public record JumpDiagnostics(
                 0,
                 0,
                 0,
-                0.0D
+                0.0D,
+                LagRegime.STEADY,
+                WindowedSummary.empty(RECENT_WINDOW_SECONDS),
+                WindowedSummary.empty(LONG_WINDOW_SECONDS),
+                -1.0D,
+                -1,
+                0,
+                false,
+                NO_CALIBRATED_OFFSET
         );
     }
 }
@@ -0,0 +1,17 @@
+package com.kizio.jumpdelayfix.common.model;
+
+/**
+ * Server lag regime reported by the change-point detector.
+ */
+public enum LagRegime {
+
+    /**
+     * Outcomes and latency match the learned baseline.
+     */
+    STEADY,
+
+    /**
+     * A sudden rise in rejections or latency was detected and has not recovered yet.
+     */
+    SPIKE
+}
@@ -1,15 +1,58 @@
 package com.kizio.jumpdelayfix.common.model;
 
+import java.util.function.LongSupplier;
+
 /**
  * Rolling per-server counters used for auto profile adaptation.
+ * <p>
+ * Besides the jump counters, each {@link JumpProfile} keeps bandit arm statistics: how many evaluation
+ * windows it was played for and the sum of their rewards. Recent outcomes and ping samples are also kept
+ * in a {@link WindowedStats} ring for wall-clock windowed rates and latency percentiles.
  */
 public final class ServerAdaptiveStats {
 
+    private static final JumpProfile[] PROFILES = JumpProfile.values();
+
     private int confirmedJumps;
     private int rejectedJumps;
     private int shadowPredictions;
     private double smoothedRollbackRate;
 
+    private final int[] armPulls = new int[PROFILES.length];
+    private final double[] armRewardSums = new double[PROFILES.length];
+    private int totalArmPulls;
+
+    private final WindowedStats windowedStats;
+
+    public ServerAdaptiveStats() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock wall-clock source in milliseconds for the windowed history
+     */
+    public ServerAdaptiveStats(LongSupplier clock) {
+        this.windowedStats = new WindowedStats(clock);
+    }
+
+    /**
+     * Restores previously persisted counters.
+     *
+     * @param confirmedJumps    confirmed jump count
+     * @param rejectedJumps     rejected jump count
+     * @param shadowPredictions shadow prediction count
+     * @param rollbackRate      smoothed rollback rate in {@code [0, 1]}
+     * @return restored stats
+     */
+    public static ServerAdaptiveStats restore(int confirmedJumps, int rejectedJumps, int shadowPredictions, double rollbackRate) {
+        ServerAdaptiveStats stats = new ServerAdaptiveStats();
+        stats.confirmedJumps = Math.max(0, confirmedJumps);
+        stats.rejectedJumps = Math.max(0, rejectedJumps);
+        stats.shadowPredictions = Math.max(0, shadowPredictions);
+        stats.smoothedRollbackRate = Double.isFinite(rollbackRate) ? Math.max(0.0D, Math.min(1.0D, rollbackRate)) : 0.0D;
+        return stats;
+    }
+
     /**
      * Updates counters and exponentially-smoothed rollback rate.
      *
@@ -21,6 +64,7 @@ public final class ServerAdaptiveStats {
         confirmedJumps += Math.max(0, confirmedDelta);
         rejectedJumps += Math.max(0, rejectedDelta);
         shadowPredictions += Math.max(0, shadowDelta);
+        windowedStats.recordOutcomes(confirmedDelta, rejectedDelta);
 
         int sampleSize = Math.max(0, confirmedDelta) + Math.max(0, rejectedDelta);
         if (sampleSize > 0) {
@@ -31,6 +75,76 @@ public final class ServerAdaptiveStats {
         }
     }
 
+    /**
+     * Credits one finished evaluation window to a profile arm.
+     *
+     * @param profile profile that was active for the whole window
+     * @param reward  window reward in {@code [0, 1]}
+     */
+    public void recordArmReward(JumpProfile profile, double reward) {
+        int arm = profile.ordinal();
+        armPulls[arm]++;
+        armRewardSums[arm] += Math.max(0.0D, Math.min(1.0D, reward));
+        totalArmPulls++;
+    }
+
+    /**
+     * Restores persisted arm statistics for one profile.
+     *
+     * @param profile   profile arm
+     * @param pulls     evaluation windows played
+     * @param rewardSum sum of window rewards
+     */
+    public void restoreArm(JumpProfile profile, int pulls, double rewardSum) {
+        int arm = profile.ordinal();
+        int restoredPulls = Math.max(0, pulls);
+        totalArmPulls += restoredPulls - armPulls[arm];
+        armPulls[arm] = restoredPulls;
+        armRewardSums[arm] = Double.isFinite(rewardSum) ? Math.max(0.0D, Math.min(restoredPulls, rewardSum)) : 0.0D;
+    }
+
+    public int armPulls(JumpProfile profile) {
+        return armPulls[profile.ordinal()];
+    }
+
+    public double armRewardSum(JumpProfile profile) {
+        return armRewardSums[profile.ordinal()];
+    }
+
+    public int totalArmPulls() {
+        return totalArmPulls;
+    }
+
+    /**
+     * Counts outcomes without folding them into the smoothed rollback rate or the windowed history; used
+     * while a transient lag spike is being handled so it does not skew the server's steady-state rates,
+     * including once the spike is over and its outcomes would still be inside the window.
+     *
+     * @param confirmedDelta newly observed confirmed jumps
+     * @param rejectedDelta  newly observed rejected jumps
+     * @param shadowDelta    newly observed shadow predictions
+     */
+    public void updateExcludingRate(int confirmedDelta, int rejectedDelta, int shadowDelta) {
+        confirmedJumps += Math.max(0, confirmedDelta);
+        rejectedJumps += Math.max(0, rejectedDelta);
+        shadowPredictions += Math.max(0, shadowDelta);
+    }
+
+    /**
+     * @param rttMs ping round trip measured while this server was active
+     */
+    public void recordLatency(int rttMs) {
+        windowedStats.recordLatency(rttMs);
+    }
+
+    /**
+     * @param windowSeconds wall-clock window length
+     * @return outcomes and latency percentiles over the window
+     */
+    public WindowedSummary windowSummary(int windowSeconds) {
+        return windowedStats.summary(windowSeconds);
+    }
+
     public int confirmedJumps() {
         return confirmedJumps;
     }
@@ -0,0 +1,143 @@
+package com.kizio.jumpdelayfix.common.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Fixed-size, wall-clock bucketed history of jump outcomes and ping samples.
+ * <p>
+ * Outcomes go into one-second buckets in a ring covering {@link #MAX_WINDOW_SECONDS}; each bucket
+ * remembers the second it belongs to, so buckets left over from before an idle period are simply skipped
+ * on read instead of being decayed every tick. Ping samples are kept with their timestamps in a second
+ * ring, sized so the longest window holds every sample at up to {@link #MAX_LATENCY_SAMPLES_PER_SECOND}
+ * pings a second; faster sampling keeps only the newest ones. Memory per instance is constant.
+ */
+public final class WindowedStats {
+
+    public static final int MAX_WINDOW_SECONDS = 300;
+    // The loaders probe once a second; the rest leaves room for pongs to other pings, such as the debug screen's.
+    public static final int MAX_LATENCY_SAMPLES_PER_SECOND = 2;
+    static final int LATENCY_CAPACITY = MAX_WINDOW_SECONDS * MAX_LATENCY_SAMPLES_PER_SECOND;
+
+    private static final long MILLIS_PER_SECOND = 1_000L;
+    private static final long EMPTY_BUCKET = Long.MIN_VALUE;
+
+    private final LongSupplier clock;
+
+    private final long[] bucketSeconds = new long[MAX_WINDOW_SECONDS];
+    private final int[] bucketAttempts = new int[MAX_WINDOW_SECONDS];
+    private final int[] bucketRejections = new int[MAX_WINDOW_SECONDS];
+
+    private final long[] latencyTimes = new long[LATENCY_CAPACITY];
+    private final int[] latencyValues = new int[LATENCY_CAPACITY];
+    private final int[] latencyScratch = new int[LATENCY_CAPACITY];
+    private int latencyHead;
+    private int latencyCount;
+
+    public WindowedStats() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock wall-clock source in milliseconds
+     */
+    public WindowedStats(LongSupplier clock) {
+        this.clock = Objects.requireNonNull(clock, "clock");
+        Arrays.fill(bucketSeconds, EMPTY_BUCKET);
+    }
+
+    /**
+     * @param confirmed newly confirmed attempts
+     * @param rejected  newly rejected attempts
+     */
+    public void recordOutcomes(int confirmed, int rejected) {
+        int attempts = Math.max(0, confirmed) + Math.max(0, rejected);
+        if (attempts == 0) {
+            return;
+        }
+
+        long second = clock.getAsLong() / MILLIS_PER_SECOND;
+        int index = (int) Math.floorMod(second, (long) MAX_WINDOW_SECONDS);
+        if (bucketSeconds[index] != second) {
+            bucketSeconds[index] = second;
+            bucketAttempts[index] = 0;
+            bucketRejections[index] = 0;
+        }
+        bucketAttempts[index] += attempts;
+        bucketRejections[index] += Math.max(0, rejected);
+    }
+
+    /**
+     * @param rttMs measured ping round trip
+     */
+    public void recordLatency(int rttMs) {
+        if (rttMs < 0) {
+            return;
+        }
+
+        latencyTimes[latencyHead] = clock.getAsLong();
+        latencyValues[latencyHead] = rttMs;
+        latencyHead = (latencyHead + 1) % LATENCY_CAPACITY;
+        latencyCount = Math.min(LATENCY_CAPACITY, latencyCount + 1);
+    }
+
+    /**
+     * Summarizes the last {@code windowSeconds} of wall-clock time, including the current second.
+     *
+     * @param windowSeconds window length, clamped to {@code [1, MAX_WINDOW_SECONDS]}
+     * @return outcome counts and latency percentiles for the window
+     */
+    public WindowedSummary summary(int windowSeconds) {
+        int window = Math.max(1, Math.min(MAX_WINDOW_SECONDS, windowSeconds));
+        long nowMillis = clock.getAsLong();
+        long oldestSecond = nowMillis / MILLIS_PER_SECOND - window + 1;
+
+        int attempts = 0;
+        int rejections = 0;
+        for (int index = 0; index < MAX_WINDOW_SECONDS; index++) {
+            if (bucketSeconds[index] >= oldestSecond) {
+                attempts += bucketAttempts[index];
+                rejections += bucketRejections[index];
+            }
+        }
+
+        long oldestMillis = oldestSecond * MILLIS_PER_SECOND;
+        int samples = 0;
+        for (int offset = 0; offset < latencyCount; offset++) {
+            int index = Math.floorMod(latencyHead - 1 - offset, LATENCY_CAPACITY);
+            if (latencyTimes[index] < oldestMillis) {
+                break;
+            }
+            latencyScratch[samples++] = latencyValues[index];
+        }
+
+        if (samples == 0) {
+            return new WindowedSummary(window, attempts, rejections, -1, -1, -1);
+        }
+
+        Arrays.sort(latencyScratch, 0, samples);
+        return new WindowedSummary(
+                window,
+                attempts,
+                rejections,
+                nearestRank(samples, 0.50D),
+                nearestRank(samples, 0.95D),
+                nearestRank(samples, 0.99D)
+        );
+    }
+
+    /**
+     * Drops every bucket and sample.
+     */
+    public void clear() {
+        Arrays.fill(bucketSeconds, EMPTY_BUCKET);
+        latencyHead = 0;
+        latencyCount = 0;
+    }
+
+    private int nearestRank(int samples, double quantile) {
+        int rank = (int) Math.ceil(quantile * samples);
+        return latencyScratch[Math.max(0, Math.min(samples - 1, rank - 1))];
+    }
+}
@@ -0,0 +1,36 @@
+package com.kizio.jumpdelayfix.common.model;
+
+/**
+ * Jump outcomes and latency percentiles over one wall-clock window.
+ *
+ * @param windowSeconds window length
+ * @param attempts      resolved jump attempts in the window
+ * @param rejections    rejected attempts in the window
+ * @param latencyP50Ms  median ping round trip, or {@code -1} without samples
+ * @param latencyP95Ms  95th percentile ping round trip, or {@code -1} without samples
+ * @param latencyP99Ms  99th percentile ping round trip, or {@code -1} without samples
+ */
+public record WindowedSummary(
+        int windowSeconds,
+        int attempts,
+        int rejections,
+        int latencyP50Ms,
+        int latencyP95Ms,
+        int latencyP99Ms
+) {
+
+    /**
+     * @param windowSeconds window length
+     * @return summary of a window without any samples
+     */
+    public static WindowedSummary empty(int windowSeconds) {
+        return new WindowedSummary(windowSeconds, 0, 0, -1, -1, -1);
+    }
+
+    /**
+     * @return rejected share of the window's attempts, {@code 0} without attempts
+     */
+    public double rollbackRate() {
+        return attempts == 0 ? 0.0D : (double) rejections / attempts;
+    }
+}
@@ -1,7 +1,18 @@
 package com.kizio.jumpdelayfix.common.network;
 
+/**
+ * Loader-agnostic networking state.
+ * <p>
+ * The only custom channel is the optional jump acknowledgement sent by servers that also run the mod.
+ * Both sides register it as optional, so vanilla clients and servers connect as before.
+ */
 public final class CommonNetworking {
 
+    public static final String JUMP_ACK_CHANNEL = "jump_ack";
+    public static final String PROTOCOL_VERSION = "1";
+
+    private static final JumpAckTracker serverJumpAcks = new JumpAckTracker();
+
     private static boolean registered;
 
     private CommonNetworking() {
@@ -15,7 +26,15 @@ public final class CommonNetworking {
         return registered;
     }
 
+    /**
+     * @return server-side acknowledgement bookkeeping fed by the loaders' movement hooks
+     */
+    public static JumpAckTracker serverJumpAcks() {
+        return serverJumpAcks;
+    }
+
     public static void resetForTests() {
         registered = false;
+        serverJumpAcks.clear();
     }
 }
@@ -0,0 +1,103 @@
+package com.kizio.jumpdelayfix.common.network;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Server-side count of accepted jumps per player, flushed as batched acknowledgements.
+ * <p>
+ * Only players whose client announced the acknowledgement channel are tracked. Each acknowledgement
+ * carries the player's cumulative accepted count, so a batch of any size is one small payload and a
+ * client that missed one catches up with the next. A freshly tracked player gets an initial
+ * acknowledgement of {@code 0}, which tells the client the channel is live. Flushing happens once per
+ * server tick; packet handlers and the tick run on the server thread, but all methods are synchronized
+ * so an integrated server sharing the JVM with a client stays safe.
+ */
+public final class JumpAckTracker {
+
+    private static final int NOT_SENT = -1;
+
+    private final Map<UUID, Counter> counters = new HashMap<>();
+
+    /**
+     * Starts tracking a player whose client can receive acknowledgements.
+     *
+     * @param playerId player to track
+     */
+    public synchronized void track(UUID playerId) {
+        counters.put(playerId, new Counter());
+    }
+
+    /**
+     * Stops tracking a player, for example on disconnect.
+     *
+     * @param playerId player to forget
+     */
+    public synchronized void forget(UUID playerId) {
+        counters.remove(playerId);
+    }
+
+    /**
+     * Counts one jump the server applied without correcting the player. Untracked players are ignored.
+     *
+     * @param playerId jumping player
+     */
+    public synchronized void recordAccepted(UUID playerId) {
+        Counter counter = counters.get(playerId);
+        if (counter != null) {
+            counter.accepted++;
+        }
+    }
+
+    /**
+     * Hands every player with unsent acknowledgements to the sink, at most once per player.
+     *
+     * @param sink receives the player and their cumulative accepted count
+     */
+    public synchronized void flush(Sink sink) {
+        Iterator<Map.Entry<UUID, Counter>> iterator = counters.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Counter> entry = iterator.next();
+            Counter counter = entry.getValue();
+            if (counter.accepted == counter.sent) {
+                continue;
+            }
+
+            if (sink.send(entry.getKey(), counter.accepted)) {
+                counter.sent = counter.accepted;
+            } else {
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized int trackedPlayers() {
+        return counters.size();
+    }
+
+    public synchronized void clear() {
+        counters.clear();
+    }
+
+    /**
+     * Delivers one batched acknowledgement.
+     */
+    @FunctionalInterface
+    public interface Sink {
+
+        /**
+         * @param playerId      receiving player
+         * @param acceptedTotal cumulative accepted jumps of that player
+         * @return {@code false} when the player is gone, which stops tracking them
+         */
+        boolean send(UUID playerId, int acceptedTotal);
+    }
+
+    private static final class Counter {
+
+        private int accepted;
+        private int sent = NOT_SENT;
+    }
+}
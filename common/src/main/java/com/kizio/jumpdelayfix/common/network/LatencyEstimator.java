@@ -0,0 +1,146 @@
+package com.kizio.jumpdelayfix.common.network;
+
+/**
+ * Round-trip latency statistics built from raw ping samples.
+ * <p>
+ * Keeps an RFC 6298 style smoothed mean and mean deviation (jitter) plus streaming p50/p95 estimates,
+ * all in constant memory. Quantiles come from two overlapping P² windows that are rotated every
+ * {@value #QUANTILE_WINDOW_SAMPLES} samples, so they reflect the last 64 to 128 samples rather than the
+ * whole session. Samples may arrive on the network thread; all methods are synchronized.
+ */
+public final class LatencyEstimator {
+
+    public static final int UNKNOWN = -1;
+
+    static final int QUANTILE_WINDOW_SAMPLES = 64;
+
+    private static final long MAX_SAMPLE_MS = 60_000L;
+    private static final double MEAN_GAIN = 0.125D;
+    private static final double JITTER_GAIN = 0.25D;
+
+    private P2Quantile activeP50 = new P2Quantile(0.50D);
+    private P2Quantile activeP95 = new P2Quantile(0.95D);
+    private P2Quantile standbyP50 = new P2Quantile(0.50D);
+    private P2Quantile standbyP95 = new P2Quantile(0.95D);
+
+    private double smoothedRtt;
+    private double rttVariation;
+    private long sampleCount;
+    private long lastRtt;
+    private long lastSentAtMillis = Long.MIN_VALUE;
+
+    /**
+     * Records one ping exchange. The same request seen twice (for example when a packet handler is
+     * re-dispatched onto the client thread) is only counted once.
+     *
+     * @param sentAtMillis     timestamp echoed back by the server
+     * @param receivedAtMillis local receive time on the same clock
+     * @return {@code true} when the sample was accepted
+     */
+    public synchronized boolean recordExchange(long sentAtMillis, long receivedAtMillis) {
+        if (sentAtMillis == lastSentAtMillis) {
+            return false;
+        }
+        lastSentAtMillis = sentAtMillis;
+        return record(receivedAtMillis - sentAtMillis);
+    }
+
+    /**
+     * @param rttMillis measured round trip in milliseconds
+     * @return {@code true} when the sample was within the accepted range
+     */
+    public synchronized boolean record(long rttMillis) {
+        if (rttMillis < 0L || rttMillis > MAX_SAMPLE_MS) {
+            return false;
+        }
+
+        double sample = rttMillis;
+        if (sampleCount == 0L) {
+            smoothedRtt = sample;
+            rttVariation = sample / 2.0D;
+        } else {
+            rttVariation += JITTER_GAIN * (Math.abs(sample - smoothedRtt) - rttVariation);
+            smoothedRtt += MEAN_GAIN * (sample - smoothedRtt);
+        }
+        sampleCount++;
+        lastRtt = rttMillis;
+
+        activeP50.add(sample);
+        activeP95.add(sample);
+        standbyP50.add(sample);
+        standbyP95.add(sample);
+        if (standbyP50.count() >= QUANTILE_WINDOW_SAMPLES) {
+            rotateQuantileWindows();
+        }
+        return true;
+    }
+
+    public synchronized boolean hasSamples() {
+        return sampleCount > 0L;
+    }
+
+    public synchronized long sampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * @return most recent accepted round trip, or {@link #UNKNOWN}
+     */
+    public synchronized int lastRttMs() {
+        return sampleCount == 0L ? UNKNOWN : (int) lastRtt;
+    }
+
+    /**
+     * @return smoothed round trip, or {@link #UNKNOWN}
+     */
+    public synchronized int meanMs() {
+        return sampleCount == 0L ? UNKNOWN : (int) Math.round(smoothedRtt);
+    }
+
+    /**
+     * @return smoothed mean deviation of the round trip, or {@link #UNKNOWN}
+     */
+    public synchronized int jitterMs() {
+        return sampleCount == 0L ? UNKNOWN : (int) Math.round(rttVariation);
+    }
+
+    /**
+     * @return median round trip over the recent window, or {@link #UNKNOWN}
+     */
+    public synchronized int p50Ms() {
+        return sampleCount == 0L ? UNKNOWN : (int) Math.round(activeP50.value());
+    }
+
+    /**
+     * @return 95th percentile round trip over the recent window, or {@link #UNKNOWN}
+     */
+    public synchronized int p95Ms() {
+        return sampleCount == 0L ? UNKNOWN : (int) Math.round(activeP95.value());
+    }
+
+    /**
+     * Forgets every sample, for example after switching servers.
+     */
+    public synchronized void reset() {
+        activeP50.reset();
+        activeP95.reset();
+        standbyP50.reset();
+        standbyP95.reset();
+        smoothedRtt = 0.0D;
+        rttVariation = 0.0D;
+        sampleCount = 0L;
+        lastRtt = 0L;
+        lastSentAtMillis = Long.MIN_VALUE;
+    }
+
+    private void rotateQuantileWindows() {
+        P2Quantile previousP50 = activeP50;
+        P2Quantile previousP95 = activeP95;
+        activeP50 = standbyP50;
+        activeP95 = standbyP95;
+        previousP50.reset();
+        previousP95.reset();
+        standbyP50 = previousP50;
+        standbyP95 = previousP95;
+    }
+}
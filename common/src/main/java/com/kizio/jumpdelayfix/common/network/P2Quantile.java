@@ -0,0 +1,126 @@
+package com.kizio.jumpdelayfix.common.network;
+
+import java.util.Arrays;
+
+/**
+ * Streaming quantile estimate using the P² algorithm (Jain and Chlamtac), five markers in constant memory.
+ */
+final class P2Quantile {
+
+    private static final int MARKERS = 5;
+
+    private final double quantile;
+    private final double[] heights = new double[MARKERS];
+    private final int[] positions = new int[MARKERS];
+    private final double[] desiredPositions = new double[MARKERS];
+    private final double[] increments = new double[MARKERS];
+    private final double[] warmup = new double[MARKERS];
+    private int count;
+
+    P2Quantile(double quantile) {
+        if (!(quantile > 0.0D && quantile < 1.0D)) {
+            throw new IllegalArgumentException("quantile must be in (0, 1): " + quantile);
+        }
+        this.quantile = quantile;
+        increments[0] = 0.0D;
+        increments[1] = quantile / 2.0D;
+        increments[2] = quantile;
+        increments[3] = (1.0D + quantile) / 2.0D;
+        increments[4] = 1.0D;
+    }
+
+    void add(double value) {
+        if (count < MARKERS) {
+            heights[count++] = value;
+            if (count == MARKERS) {
+                Arrays.sort(heights);
+                for (int index = 0; index < MARKERS; index++) {
+                    positions[index] = index + 1;
+                }
+                desiredPositions[0] = 1.0D;
+                desiredPositions[1] = 1.0D + 2.0D * quantile;
+                desiredPositions[2] = 1.0D + 4.0D * quantile;
+                desiredPositions[3] = 3.0D + 2.0D * quantile;
+                desiredPositions[4] = 5.0D;
+            }
+            return;
+        }
+
+        count++;
+        int cell;
+        if (value < heights[0]) {
+            heights[0] = value;
+            cell = 0;
+        } else if (value < heights[1]) {
+            cell = 0;
+        } else if (value < heights[2]) {
+            cell = 1;
+        } else if (value < heights[3]) {
+            cell = 2;
+        } else if (value <= heights[4]) {
+            cell = 3;
+        } else {
+            heights[4] = value;
+            cell = 3;
+        }
+
+        for (int index = cell + 1; index < MARKERS; index++) {
+            positions[index]++;
+        }
+        for (int index = 0; index < MARKERS; index++) {
+            desiredPositions[index] += increments[index];
+        }
+
+        for (int index = 1; index < MARKERS - 1; index++) {
+            double offset = desiredPositions[index] - positions[index];
+            if ((offset >= 1.0D && positions[index + 1] - positions[index] > 1)
+                    || (offset <= -1.0D && positions[index - 1] - positions[index] < -1)) {
+                int step = offset >= 0.0D ? 1 : -1;
+                double candidate = parabolic(index, step);
+                if (heights[index - 1] < candidate && candidate < heights[index + 1]) {
+                    heights[index] = candidate;
+                } else {
+                    heights[index] = linear(index, step);
+                }
+                positions[index] += step;
+            }
+        }
+    }
+
+    /**
+     * @return current estimate, or {@link Double#NaN} before the first sample
+     */
+    double value() {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (count < MARKERS) {
+            System.arraycopy(heights, 0, warmup, 0, count);
+            Arrays.sort(warmup, 0, count);
+            return warmup[Math.min(count - 1, (int) (quantile * count))];
+        }
+        return heights[2];
+    }
+
+    int count() {
+        return count;
+    }
+
+    void reset() {
+        count = 0;
+    }
+
+    private double parabolic(int index, int step) {
+        double previous = positions[index - 1];
+        double current = positions[index];
+        double next = positions[index + 1];
+        return heights[index] + step / (next - previous) * (
+                (current - previous + step) * (heights[index + 1] - heights[index]) / (next - current)
+                        + (next - current - step) * (heights[index] - heights[index - 1]) / (current - previous)
+        );
+    }
+
+    private double linear(int index, int step) {
+        return heights[index] + step * (heights[index + step] - heights[index]) / (positions[index + step] - positions[index]);
+    }
+}
@@ -0,0 +1,93 @@
+package com.kizio.jumpdelayfix.common.network;
+
+/**
+ * Effective server tick rate inferred from the spacing of world-time updates.
+ * <p>
+ * Vanilla servers broadcast their game time every 20 ticks. Dividing the game ticks between two updates
+ * by the local time between their arrivals gives the milliseconds per tick the server actually achieves,
+ * which is smoothed into a TPS estimate. Tick jitter is the smoothed deviation of each update's arrival
+ * from where the current estimate places it, so it captures stalls as well as network noise. Updates
+ * after a long gap (loading screens, a frozen world) only re-anchor the estimate. Samples may arrive on
+ * the network thread; all methods are synchronized.
+ */
+public final class ServerTickRateEstimator {
+
+    public static final double UNKNOWN_TPS = -1.0D;
+    public static final int UNKNOWN = -1;
+
+    static final int MIN_SAMPLES = 3;
+
+    private static final long MAX_GAP_MS = 5_000L;
+    private static final double RATE_GAIN = 0.25D;
+    private static final double JITTER_GAIN = 0.25D;
+
+    private long lastGameTime = Long.MIN_VALUE;
+    private long lastReceivedAtMillis;
+    private double smoothedMillisPerTick;
+    private double tickJitter;
+    private long sampleCount;
+
+    /**
+     * Records one world-time update. The same update seen twice (for example when a packet handler is
+     * re-dispatched onto the client thread) is only counted once.
+     *
+     * @param gameTime         total game time carried by the update
+     * @param receivedAtMillis local receive time in milliseconds
+     * @return {@code true} when the update produced a sample
+     */
+    public synchronized boolean recordWorldTime(long gameTime, long receivedAtMillis) {
+        if (gameTime == lastGameTime) {
+            return false;
+        }
+
+        boolean anchored = lastGameTime != Long.MIN_VALUE;
+        long elapsedTicks = gameTime - lastGameTime;
+        long elapsedMillis = receivedAtMillis - lastReceivedAtMillis;
+        lastGameTime = gameTime;
+        lastReceivedAtMillis = receivedAtMillis;
+        if (!anchored || elapsedTicks <= 0L || elapsedMillis <= 0L || elapsedMillis > MAX_GAP_MS) {
+            return false;
+        }
+
+        double millisPerTick = (double) elapsedMillis / elapsedTicks;
+        if (sampleCount == 0L) {
+            smoothedMillisPerTick = millisPerTick;
+            tickJitter = 0.0D;
+        } else {
+            double expectedMillis = elapsedTicks * smoothedMillisPerTick;
+            tickJitter += JITTER_GAIN * (Math.abs(elapsedMillis - expectedMillis) - tickJitter);
+            smoothedMillisPerTick += RATE_GAIN * (millisPerTick - smoothedMillisPerTick);
+        }
+        sampleCount++;
+        return true;
+    }
+
+    public synchronized long sampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * @return estimated ticks per second, or {@link #UNKNOWN_TPS} until enough updates arrived
+     */
+    public synchronized double tps() {
+        return sampleCount < MIN_SAMPLES ? UNKNOWN_TPS : 1_000.0D / smoothedMillisPerTick;
+    }
+
+    /**
+     * @return smoothed deviation of update arrivals in milliseconds, or {@link #UNKNOWN}
+     */
+    public synchronized int tickJitterMs() {
+        return sampleCount < MIN_SAMPLES ? UNKNOWN : (int) Math.round(tickJitter);
+    }
+
+    /**
+     * Forgets every update, for example after switching servers.
+     */
+    public synchronized void reset() {
+        lastGameTime = Long.MIN_VALUE;
+        lastReceivedAtMillis = 0L;
+        smoothedMillisPerTick = 0.0D;
+        tickJitter = 0.0D;
+        sampleCount = 0L;
+    }
+}
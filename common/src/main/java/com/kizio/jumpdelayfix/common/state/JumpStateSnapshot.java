@@ -0,0 +1,31 @@
+package com.kizio.jumpdelayfix.common.state;
+
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
+
+import java.util.Objects;
+
+/**
+ * Immutable controller state published by the client tick for render-thread readers.
+ * <p>
+ * The {@code config} instance is owned by the snapshot and is never mutated after publication;
+ * readers must treat it as read-only and call {@link JumpRuntimeConfig#copy()} before editing.
+ *
+ * @param version     monotonically increasing stamp, bumped only when diagnostics or config change
+ * @param diagnostics diagnostics captured at publication time
+ * @param config      read-only runtime configuration captured at publication time
+ */
+public record JumpStateSnapshot(long version, JumpDiagnostics diagnostics, JumpRuntimeConfig config) {
+
+    public JumpStateSnapshot {
+        Objects.requireNonNull(diagnostics, "diagnostics");
+        Objects.requireNonNull(config, "config");
+    }
+
+    /**
+     * @return snapshot published before the controller is initialized
+     */
+    public static JumpStateSnapshot initial() {
+        return new JumpStateSnapshot(0L, JumpDiagnostics.empty(), JumpRuntimeConfig.defaults());
+    }
+}
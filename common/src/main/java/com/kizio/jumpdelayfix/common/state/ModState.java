@@ -2,53 +2,44 @@ package com.kizio.jumpdelayfix.common.state;
 
 import com.kizio.jumpdelayfix.common.model.JumpProfile;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
-
 /**
- * Atomic runtime state for enabled flag and selected profile.
+ * Atomic runtime state for enabled flag and selected profile of the default controller.
  */
 public final class ModState {
 
-    private static final AtomicBoolean ENABLED = new AtomicBoolean(true);
-    private static final AtomicReference<JumpProfile> PROFILE = new AtomicReference<>(JumpProfile.SMART);
+    private static final SessionState GLOBAL = new SessionState();
 
     private ModState() {
     }
 
+    /**
+     * @return state shared by the static facade and handlers created without an explicit state
+     */
+    public static SessionState global() {
+        return GLOBAL;
+    }
+
     public static boolean isEnabled() {
-        return ENABLED.get();
+        return GLOBAL.isEnabled();
     }
 
     public static boolean toggle() {
-        while (true) {
-            boolean current = ENABLED.get();
-            boolean next = !current;
-            if (ENABLED.compareAndSet(current, next)) {
-                return next;
-            }
-        }
+        return GLOBAL.toggle();
     }
 
     public static void setEnabled(boolean enabled) {
-        ENABLED.set(enabled);
+        GLOBAL.setEnabled(enabled);
     }
 
     public static JumpProfile getProfile() {
-        return PROFILE.get();
+        return GLOBAL.getProfile();
     }
 
     public static JumpProfile cycleProfile() {
-        while (true) {
-            JumpProfile current = PROFILE.get();
-            JumpProfile next = current.next();
-            if (PROFILE.compareAndSet(current, next)) {
-                return next;
-            }
-        }
+        return GLOBAL.cycleProfile();
     }
 
     public static void setProfile(JumpProfile profile) {
-        PROFILE.set(profile);
+        GLOBAL.setProfile(profile);
     }
 }
@@ -0,0 +1,54 @@
+package com.kizio.jumpdelayfix.common.state;
+
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Atomic enabled flag and selected profile of one controller.
+ * <p>
+ * Each {@link com.kizio.jumpdelayfix.common.JumpController} owns one; {@link ModState} exposes the one
+ * behind the default controller.
+ */
+public final class SessionState {
+
+    private final AtomicBoolean enabled = new AtomicBoolean(true);
+    private final AtomicReference<JumpProfile> profile = new AtomicReference<>(JumpProfile.SMART);
+
+    public boolean isEnabled() {
+        return enabled.get();
+    }
+
+    public boolean toggle() {
+        while (true) {
+            boolean current = enabled.get();
+            boolean next = !current;
+            if (enabled.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled.set(enabled);
+    }
+
+    public JumpProfile getProfile() {
+        return profile.get();
+    }
+
+    public JumpProfile cycleProfile() {
+        while (true) {
+            JumpProfile current = profile.get();
+            JumpProfile next = current.next();
+            if (profile.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    public void setProfile(JumpProfile profile) {
+        this.profile.set(profile);
+    }
+}
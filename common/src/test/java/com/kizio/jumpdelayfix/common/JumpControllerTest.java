@@ -0,0 +1,169 @@
+package com.kizio.jumpdelayfix.common;
+
+import com.kizio.jumpdelayfix.common.api.JumpInput;
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import com.kizio.jumpdelayfix.common.feature.GroundedTicksModel;
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import com.kizio.jumpdelayfix.common.state.ModState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JumpControllerTest {
+
+    @AfterEach
+    void tearDown() {
+        JumpDelayFix.resetForTests();
+    }
+
+    @Test
+    void shouldKeepStateSeparateFromOtherControllersAndTheFacade() {
+        JumpController first = detached(new BouncingInput("a.example.net"));
+        JumpController second = detached(new BouncingInput("b.example.net"));
+
+        first.toggleEnabled();
+        second.setProfile(JumpProfile.STABLE);
+
+        assertFalse(first.isEnabled());
+        assertTrue(second.isEnabled());
+        assertEquals(JumpProfile.SMART, first.getProfile());
+        assertEquals(JumpProfile.STABLE, second.getProfile());
+        assertTrue(ModState.isEnabled());
+        assertEquals(JumpProfile.SMART, ModState.getProfile());
+    }
+
+    @Test
+    void shouldTickManyControllersConcurrentlyWithIdenticalResults() throws Exception {
+        int sessions = 64;
+        int ticks = 400;
+        List<BouncingInput> inputs = new ArrayList<>();
+        List<JumpController> controllers = new ArrayList<>();
+        for (int index = 0; index < sessions; index++) {
+            BouncingInput input = new BouncingInput("server-" + index + ".example.net");
+            inputs.add(input);
+            controllers.add(detached(input));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int index = 0; index < sessions; index++) {
+                JumpController controller = controllers.get(index);
+                BouncingInput input = inputs.get(index);
+                futures.add(executor.submit(() -> {
+                    for (int tick = 0; tick < ticks; tick++) {
+                        controller.onClientTick();
+                        input.advance();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int expectedConfirmed = controllers.get(0).getDiagnostics().confirmedJumps();
+        assertTrue(expectedConfirmed > 0);
+        for (int index = 0; index < sessions; index++) {
+            assertEquals("server-" + index + ".example.net", controllers.get(index).getDiagnostics().serverId());
+            assertEquals(expectedConfirmed, controllers.get(index).getDiagnostics().confirmedJumps());
+        }
+        assertEquals(0, JumpDelayFix.getDiagnostics().confirmedJumps());
+    }
+
+    @Test
+    void shouldRebuildItsOwnGroundedTicksModelWhenJitterWeightChanges() {
+        JumpRuntimeConfig config = JumpRuntimeConfig.defaults();
+        config.setLatencyJitterWeight(0.0D);
+        JumpController tuned = new JumpController();
+        tuned.initDetached(new BouncingInput("a.example.net"), config);
+        JumpController standard = detached(new BouncingInput("b.example.net"));
+
+        tuned.onClientTick();
+        standard.onClientTick();
+
+        assertEquals(2, tuned.getGroundedTicksModel().requiredTicks(60, 60));
+        assertEquals(3, standard.getGroundedTicksModel().requiredTicks(60, 60));
+        assertEquals(1.0D, JumpDelayFix.getGroundedTicksModel().jitterWeight());
+
+        GroundedTicksModel before = tuned.getGroundedTicksModel();
+        tuned.onClientTick();
+        assertSame(before, tuned.getGroundedTicksModel());
+
+        assertEquals(3.0D, tuned.setLatencyJitterWeight(7.0D));
+        tuned.onClientTick();
+        assertEquals(3.0D, tuned.getGroundedTicksModel().jitterWeight());
+        assertEquals(4, tuned.getGroundedTicksModel().requiredTicks(60, 60));
+    }
+
+    private static JumpController detached(JumpInput input) {
+        JumpController controller = new JumpController();
+        controller.initDetached(input, JumpRuntimeConfig.defaults());
+        return controller;
+    }
+
+    private static final class BouncingInput implements JumpInput {
+
+        private static final double GROUND_Y = 64.0D;
+
+        private final String serverId;
+        private double y = GROUND_Y;
+        private double velocityY;
+
+        private BouncingInput(String serverId) {
+            this.serverId = serverId;
+        }
+
+        private void advance() {
+            y += velocityY;
+            if (y <= GROUND_Y) {
+                y = GROUND_Y;
+                velocityY = 0.0D;
+            } else {
+                velocityY -= 0.08D;
+            }
+        }
+
+        @Override
+        public boolean isJumpPressed() {
+            return true;
+        }
+
+        @Override
+        public boolean isPlayerOnGround() {
+            return y <= GROUND_Y;
+        }
+
+        @Override
+        public void jump() {
+            velocityY = 0.42D;
+        }
+
+        @Override
+        public double getPlayerY() {
+            return y;
+        }
+
+        @Override
+        public double getVerticalVelocity() {
+            return velocityY;
+        }
+
+        @Override
+        public String getServerIdentifier() {
+            return serverId;
+        }
+    }
+}
@@ -3,7 +3,11 @@ package com.kizio.jumpdelayfix.common;
 import com.kizio.jumpdelayfix.common.api.JumpInput;
 import com.kizio.jumpdelayfix.common.api.ToggleFeedback;
 import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import com.kizio.jumpdelayfix.common.feature.DelayCalibration;
+import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
 import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import com.kizio.jumpdelayfix.common.model.LagRegime;
+import com.kizio.jumpdelayfix.common.state.JumpStateSnapshot;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +22,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class JumpDelayFixTest {
@@ -196,6 +201,292 @@ class JumpDelayFixTest {
         assertTrue(storedProfiles <= 128, "Expected <= 128 server profiles, got " + storedProfiles);
     }
 
+    @Test
+    void shouldLiftOffOneTickEarlierWithMovementPhaseDispatch() {
+        int endOfTickLatency = ticksFromPressToLiftoff(false);
+        JumpDelayFix.resetForTests();
+        int movementPhaseLatency = ticksFromPressToLiftoff(true);
+
+        assertEquals(2, endOfTickLatency);
+        assertEquals(1, movementPhaseLatency);
+    }
+
+    @Test
+    void shouldFallBackToEndOfTickWhenMovementPhaseHookDoesNotFire() {
+        AtomicInteger jumpCalls = new AtomicInteger();
+        JumpDelayFix.init(new CountingJumpInput(jumpCalls), ToggleFeedback.NO_OP, tempDir);
+        JumpDelayFix.toggleMovementPhaseDispatch();
+
+        JumpDelayFix.onClientTick();
+
+        assertEquals(1, jumpCalls.get());
+    }
+
+    @Test
+    void shouldKeepSnapshotStableWhileNothingChanges() {
+        JumpDelayFix.init(new NoOpJumpInput(), ToggleFeedback.NO_OP, tempDir);
+        JumpDelayFix.onClientTick();
+
+        JumpStateSnapshot before = JumpDelayFix.getStateSnapshot();
+        JumpDelayFix.onClientTick();
+        JumpDelayFix.onClientTick();
+
+        assertSame(before, JumpDelayFix.getStateSnapshot());
+    }
+
+    @Test
+    void shouldPublishNewSnapshotVersionAfterMutation() {
+        JumpDelayFix.init(new NoOpJumpInput(), ToggleFeedback.NO_OP, tempDir);
+        JumpStateSnapshot before = JumpDelayFix.getStateSnapshot();
+
+        JumpDelayFix.toggleHudEnabled();
+        JumpStateSnapshot after = JumpDelayFix.getStateSnapshot();
+
+        assertTrue(after.version() > before.version());
+        assertFalse(before.config().hudEnabled());
+        assertTrue(after.config().hudEnabled());
+        assertTrue(after.diagnostics().hudEnabled());
+    }
+
+    @Test
+    void shouldWarmStartServerStatsAfterRestart() {
+        MutableServerJumpInput input = new MutableServerJumpInput();
+        input.serverId = "play.example.net";
+        input.jumpPressed = true;
+        input.onGround = true;
+        JumpDelayFix.init(input, ToggleFeedback.NO_OP, tempDir);
+        for (int tick = 0; tick < 20; tick++) {
+            JumpDelayFix.onClientTick();
+        }
+        JumpDiagnostics learned = JumpDelayFix.getDiagnostics();
+        assertTrue(learned.rejectedJumps() > 0);
+        JumpDelayFix.flushPendingConfiguration();
+
+        JumpDelayFix.resetForTests();
+        MutableServerJumpInput reconnected = new MutableServerJumpInput();
+        reconnected.serverId = "play.example.net";
+        JumpDelayFix.init(reconnected, ToggleFeedback.NO_OP, tempDir);
+        JumpDelayFix.onClientTick();
+
+        JumpDiagnostics restored = JumpDelayFix.getDiagnostics();
+        assertEquals("play.example.net", restored.serverId());
+        assertEquals(learned.rejectedJumps(), restored.rejectedJumps());
+        assertTrue(restored.rollbackRate() > 0.0D);
+    }
+
+    @Test
+    void shouldCalibrateServerOnceAndReuseResultAfterRestart() {
+        MutableServerJumpInput input = new MutableServerJumpInput();
+        input.serverId = "play.example.net";
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.liftOffOnJump = true;
+        input.requiredGroundedTicks = 3;
+        JumpDelayFix.init(input, ToggleFeedback.NO_OP, tempDir);
+        JumpDelayFix.toggleCalibrationMode();
+        JumpDelayFix.onClientTick();
+        assertTrue(JumpDelayFix.isCalibrating());
+
+        // Every jump lifts off, so every probe passes and the search ends at its lower bound, two ticks
+        // under what the latency model asked for.
+        for (int tick = 0; tick < 400 && JumpDelayFix.isCalibrating(); tick++) {
+            JumpDelayFix.onClientTick();
+        }
+        assertFalse(JumpDelayFix.isCalibrating());
+        assertEquals(DelayCalibration.DEFAULT_MIN_TICKS - 3, JumpDelayFix.getCalibratedOffsetTicks());
+        JumpDelayFix.flushPendingConfiguration();
+
+        JumpDelayFix.resetForTests();
+        MutableServerJumpInput reconnected = new MutableServerJumpInput();
+        reconnected.serverId = "play.example.net";
+        JumpDelayFix.init(reconnected, ToggleFeedback.NO_OP, tempDir);
+        JumpDelayFix.onClientTick();
+
+        assertTrue(JumpDelayFix.isCalibrationModeEnabled());
+        assertFalse(JumpDelayFix.isCalibrating());
+        assertEquals(DelayCalibration.DEFAULT_MIN_TICKS - 3, JumpDelayFix.getCalibratedOffsetTicks());
+
+        JumpDelayFix.recalibrateActiveServer();
+        assertTrue(JumpDelayFix.isCalibrating());
+    }
+
+    @Test
+    void shouldDiscardCalibrationInWhichNoProbePassed() {
+        MutableServerJumpInput input = new MutableServerJumpInput();
+        input.serverId = "play.example.net";
+        input.jumpPressed = true;
+        input.onGround = true;
+        JumpDelayFix.init(input, ToggleFeedback.NO_OP, tempDir);
+        JumpDelayFix.toggleCalibrationMode();
+        JumpDelayFix.onClientTick();
+
+        // The player never leaves the ground, so every probe is rejected and the search ends at its untested upper bound.
+        for (int tick = 0; tick < 200 && JumpDelayFix.isCalibrating(); tick++) {
+            JumpDelayFix.onClientTick();
+        }
+        assertFalse(JumpDelayFix.isCalibrating());
+        assertEquals(JumpDiagnostics.NO_CALIBRATED_OFFSET, JumpDelayFix.getCalibratedOffsetTicks());
+        JumpDelayFix.flushPendingConfiguration();
+
+        JumpDelayFix.resetForTests();
+        MutableServerJumpInput reconnected = new MutableServerJumpInput();
+        reconnected.serverId = "play.example.net";
+        JumpDelayFix.init(reconnected, ToggleFeedback.NO_OP, tempDir);
+        JumpDelayFix.onClientTick();
+
+        assertTrue(JumpDelayFix.isCalibrating());
+        assertEquals(JumpDiagnostics.NO_CALIBRATED_OFFSET, JumpDelayFix.getCalibratedOffsetTicks());
+    }
+
+    @Test
+    void shouldNotMistakeFailingCalibrationProbesForALagSpike() {
+        MutableServerJumpInput input = new MutableServerJumpInput();
+        input.serverId = "play.example.net";
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.liftOffOnJump = true;
+        JumpDelayFix.init(input, ToggleFeedback.NO_OP, tempDir);
+        JumpDelayFix.setProfile(JumpProfile.SMART);
+        for (int tick = 0; tick < 100; tick++) {
+            JumpDelayFix.onClientTick();
+        }
+
+        // Probes may now fail a few times per step, and on this server every one of them does.
+        JumpDelayFix.setCompetitiveRollbackRateMax(0.30D);
+        JumpDelayFix.toggleCalibrationMode();
+        input.liftOffOnJump = false;
+        input.velocityY = 0.0D;
+        for (int tick = 0; tick < 400 && JumpDelayFix.isCalibrating(); tick++) {
+            JumpDelayFix.onClientTick();
+        }
+
+        assertFalse(JumpDelayFix.isCalibrating());
+        assertTrue(JumpDelayFix.getDiagnostics().rejectedJumps() >= 9, JumpDelayFix.getDiagnostics().toString());
+        assertEquals(LagRegime.STEADY, JumpDelayFix.getDiagnostics().lagRegime());
+        assertEquals(JumpProfile.SMART, JumpDelayFix.getProfile());
+    }
+
+    @Test
+    void shouldHoldStableDuringLagSpikeAndRestoreProfileAfterwards() {
+        MutableServerJumpInput input = new MutableServerJumpInput();
+        input.serverId = "play.example.net";
+        JumpDelayFix.init(input, ToggleFeedback.NO_OP, tempDir);
+        JumpDelayFix.onClientTick();
+        JumpDelayFix.setProfile(JumpProfile.COMPETITIVE);
+
+        long clock = 1_000L;
+        for (int sample = 0; sample < 20; sample++) {
+            clock = feedPing(clock, 60);
+        }
+        assertEquals(JumpProfile.COMPETITIVE, JumpDelayFix.getProfile());
+
+        clock = feedPing(clock, 400);
+        clock = feedPing(clock, 400);
+        assertEquals(JumpProfile.STABLE, JumpDelayFix.getProfile());
+        assertEquals(LagRegime.SPIKE, JumpDelayFix.getDiagnostics().lagRegime());
+
+        for (int sample = 0; sample < 4; sample++) {
+            clock = feedPing(clock, 60);
+        }
+        assertEquals(JumpProfile.COMPETITIVE, JumpDelayFix.getProfile());
+        assertEquals(LagRegime.STEADY, JumpDelayFix.getDiagnostics().lagRegime());
+    }
+
+    @Test
+    void shouldKeepTheRestoredProfileOnceALagSpikeRecovers() {
+        MutableServerJumpInput input = new MutableServerJumpInput();
+        input.serverId = "play.example.net";
+        input.onGround = true;
+        JumpDelayFix.init(input, ToggleFeedback.NO_OP, tempDir);
+        JumpDelayFix.onClientTick();
+
+        long clock = 1_000L;
+        for (int sample = 0; sample < 20; sample++) {
+            clock = feedPing(clock, 60);
+        }
+        clock = feedPing(clock, 400);
+        clock = feedPing(clock, 400);
+        assertEquals(JumpProfile.STABLE, JumpDelayFix.getProfile());
+
+        // Every jump during the spike is rejected; once it recovers, every jump lifts off.
+        input.jumpPressed = true;
+        for (int tick = 0; tick < 200; tick++) {
+            JumpDelayFix.onClientTick();
+        }
+        JumpDiagnostics duringSpike = JumpDelayFix.getDiagnostics();
+        assertTrue(duringSpike.rejectedJumps() >= 10, duringSpike.toString());
+
+        input.liftOffOnJump = true;
+        for (int tick = 0; tick < 60; tick++) {
+            JumpDelayFix.onClientTick();
+        }
+        for (int sample = 0; sample < 4; sample++) {
+            clock = feedPing(clock, 60);
+        }
+        assertEquals(LagRegime.STEADY, JumpDelayFix.getDiagnostics().lagRegime());
+        assertEquals(JumpProfile.SMART, JumpDelayFix.getProfile());
+
+        for (int tick = 0; tick < 100; tick++) {
+            JumpDelayFix.onClientTick();
+            assertEquals(JumpProfile.SMART, JumpDelayFix.getProfile());
+        }
+        assertTrue(JumpDelayFix.getDiagnostics().confirmedJumps() > 10);
+    }
+
+    @Test
+    void shouldSkipStatsCalibrationAndProfileSwitchingOnIntegratedServer() {
+        MutableServerJumpInput input = new MutableServerJumpInput();
+        input.serverId = "singleplayer";
+        input.integratedServer = true;
+        input.jumpPressed = true;
+        input.onGround = true;
+        JumpDelayFix.init(input, ToggleFeedback.NO_OP, tempDir);
+        JumpDelayFix.toggleCalibrationMode();
+        JumpDelayFix.onClientTick();
+        JumpDelayFix.setProfile(JumpProfile.STABLE);
+
+        for (int tick = 0; tick < 40; tick++) {
+            JumpDelayFix.onClientTick();
+            // Each jump keeps the player in the air for the next tick, where its liftoff is confirmed.
+            input.onGround = input.velocityY <= 0.0D;
+            input.velocityY = 0.0D;
+        }
+
+        assertFalse(JumpDelayFix.isCalibrating());
+        assertEquals(JumpProfile.STABLE, JumpDelayFix.getProfile());
+        JumpDiagnostics diagnostics = JumpDelayFix.getDiagnostics();
+        assertEquals("singleplayer", diagnostics.serverId());
+        assertTrue(diagnostics.confirmedJumps() > 0);
+        assertEquals(0, diagnostics.rejectedJumps());
+        assertEquals(0.0D, diagnostics.rollbackRate());
+    }
+
+    private static long feedPing(long sentAt, int rttMs) {
+        JumpDelayFix.onLatencySample(sentAt, sentAt + rttMs);
+        JumpDelayFix.onClientTick();
+        return sentAt + 1_000L;
+    }
+
+    private int ticksFromPressToLiftoff(boolean movementPhaseDispatch) {
+        SimulatedPlayerInput input = new SimulatedPlayerInput();
+        JumpDelayFix.init(input, ToggleFeedback.NO_OP, tempDir);
+        if (movementPhaseDispatch) {
+            JumpDelayFix.toggleMovementPhaseDispatch();
+        }
+
+        input.jumpPressed = true;
+        for (int tick = 1; tick <= 10; tick++) {
+            // Vanilla order: movement phase (hook, then physics) followed by the end-of-tick callback.
+            JumpDelayFix.onMovementPhase();
+            input.applyMovement();
+            if (input.y > SimulatedPlayerInput.GROUND_Y) {
+                return tick;
+            }
+            JumpDelayFix.onClientTick();
+        }
+        return -1;
+    }
+
     private static final class NoOpJumpInput implements JumpInput {
 
         @Override
@@ -237,21 +528,79 @@ class JumpDelayFixTest {
         }
     }
 
+    private static final class SimulatedPlayerInput implements JumpInput {
+
+        private static final double GROUND_Y = 64.0D;
+
+        private boolean jumpPressed;
+        private double y = GROUND_Y;
+        private double velocityY;
+
+        private void applyMovement() {
+            y += velocityY;
+            velocityY = y > GROUND_Y ? velocityY - 0.08D : 0.0D;
+        }
+
+        @Override
+        public boolean isJumpPressed() {
+            return jumpPressed;
+        }
+
+        @Override
+        public boolean isPlayerOnGround() {
+            return y <= GROUND_Y && velocityY <= 0.0D;
+        }
+
+        @Override
+        public void jump() {
+            velocityY = 0.42D;
+        }
+
+        @Override
+        public double getPlayerY() {
+            return y;
+        }
+    }
+
     private static final class MutableServerJumpInput implements JumpInput {
         private String serverId = "global";
+        private boolean jumpPressed;
+        private boolean onGround;
+        private boolean integratedServer;
+        private boolean liftOffOnJump;
+        private double velocityY;
+        private int requiredGroundedTicks = 1;
 
         @Override
         public boolean isJumpPressed() {
-            return false;
+            return jumpPressed;
         }
 
         @Override
         public boolean isPlayerOnGround() {
-            return false;
+            return onGround;
         }
 
         @Override
         public void jump() {
+            if (integratedServer || liftOffOnJump) {
+                velocityY = 0.42D;
+            }
+        }
+
+        @Override
+        public int requiredGroundedTicksBeforeJump() {
+            return requiredGroundedTicks;
+        }
+
+        @Override
+        public double getVerticalVelocity() {
+            return velocityY;
+        }
+
+        @Override
+        public boolean isIntegratedServer() {
+            return integratedServer;
         }
 
         @Override
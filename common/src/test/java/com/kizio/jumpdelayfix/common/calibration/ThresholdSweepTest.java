@@ -0,0 +1,85 @@
+package com.kizio.jumpdelayfix.common.calibration;
+
+import com.kizio.jumpdelayfix.common.config.JumpPresetCodec;
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import com.kizio.jumpdelayfix.common.simulation.LatencyDistribution;
+import com.kizio.jumpdelayfix.common.simulation.NetworkConditions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ThresholdSweepTest {
+
+    @Test
+    void shouldSkipThresholdsThatAreOutOfOrder() {
+        List<ThresholdCandidate> grid = ThresholdCandidate.grid(
+                new double[]{0.10D, 0.40D},
+                new double[]{0.30D},
+                new double[]{0.20D, 0.50D},
+                new int[]{4, 8}
+        );
+
+        assertEquals(List.of(
+                new ThresholdCandidate(0.10D, 0.30D, 0.50D, 4),
+                new ThresholdCandidate(0.10D, 0.30D, 0.50D, 8)
+        ), grid);
+        assertTrue(ThresholdSweep.defaultGrid().contains(ThresholdCandidate.defaults()));
+    }
+
+    @Test
+    void shouldKeepOneOfEachUndominatedOutcomeOnTheParetoFront() {
+        CandidateScore fast = score(0.01D, 3.0D, 0.30D);
+        CandidateScore safe = score(0.02D, 2.0D, 0.05D);
+        CandidateScore balanced = score(0.03D, 2.5D, 0.10D);
+        CandidateScore worse = score(0.04D, 2.4D, 0.20D);
+        CandidateScore tied = score(0.05D, 2.5D, 0.10D);
+
+        assertEquals(List.of(fast, safe, balanced),
+                ThresholdSweep.paretoFront(List.of(fast, safe, balanced, worse, tied)));
+        assertFalse(balanced.dominates(tied));
+    }
+
+    @Test
+    void shouldScoreIdenticallyOnAnyParallelismAndExportImportablePresets() {
+        List<ThresholdCandidate> candidates = List.of(
+                ThresholdCandidate.defaults(),
+                new ThresholdCandidate(0.04D, 0.20D, 0.35D, 4),
+                new ThresholdCandidate(0.12D, 0.40D, 0.55D, 16)
+        );
+        List<NetworkConditions> scenarios = List.of(
+                new NetworkConditions(LatencyDistribution.normal(180, 40), 0.02D, 1, 3L),
+                new NetworkConditions(LatencyDistribution.normal(40, 10), 0.0D, 2, 4L)
+        );
+        ThresholdSweep sweep = new ThresholdSweep(candidates, scenarios, JumpRuntimeConfig.defaults(), 6_000L, 5.0D);
+
+        SweepReport sequential;
+        SweepReport parallel;
+        try (ForkJoinPool single = new ForkJoinPool(1); ForkJoinPool wide = new ForkJoinPool(4)) {
+            sequential = sweep.run(single);
+            parallel = sweep.run(wide);
+        }
+
+        assertEquals(sequential.scores(), parallel.scores());
+        assertEquals(sequential.paretoFront(), parallel.paretoFront());
+        assertFalse(sequential.paretoFront().isEmpty());
+        assertTrue(sequential.scores().getFirst().score() >= sequential.scores().getLast().score());
+
+        for (CandidateScore score : sequential.paretoFront()) {
+            JumpPresetCodec.ImportedPreset imported = JumpPresetCodec.importPreset(score.presetCode(), JumpRuntimeConfig.defaults(), JumpProfile.STABLE);
+            assertNotNull(imported);
+            assertEquals(score.candidate(), ThresholdCandidate.of(imported.runtimeConfig()));
+        }
+    }
+
+    private static CandidateScore score(double competitiveRollbackRateMax, double accepted, double rejected) {
+        ThresholdCandidate candidate = new ThresholdCandidate(competitiveRollbackRateMax, 0.30D, 0.45D, 8);
+        return new CandidateScore(candidate, accepted, rejected, accepted - 5.0D * rejected, "");
+    }
+}
@@ -0,0 +1,92 @@
+package com.kizio.jumpdelayfix.common.client.hud;
+
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import com.kizio.jumpdelayfix.common.model.LagRegime;
+import com.kizio.jumpdelayfix.common.model.WindowedSummary;
+import com.kizio.jumpdelayfix.common.state.JumpStateSnapshot;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class HudPresentationCacheTest {
+
+    @Test
+    void shouldReturnSameModelWhileVersionIsUnchanged() {
+        HudPresentationCache cache = new HudPresentationCache();
+        JumpStateSnapshot snapshot = new JumpStateSnapshot(1L, diagnosticsFor(55, 0.18D), JumpRuntimeConfig.defaults());
+
+        HudPresentationModel first = cache.model(snapshot);
+        HudPresentationModel second = cache.model(snapshot);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void shouldMatchUncachedBuildOutput() {
+        HudPresentationCache cache = new HudPresentationCache();
+        JumpDiagnostics diagnostics = diagnosticsFor(55, 0.18D);
+        JumpRuntimeConfig config = JumpRuntimeConfig.defaults();
+
+        HudPresentationModel cached = cache.model(new JumpStateSnapshot(1L, diagnostics, config));
+
+        assertEquals(HudPresentationService.build(diagnostics, config), cached);
+    }
+
+    @Test
+    void shouldReuseUnchangedLinesWhenOnlyPingChanges() {
+        HudPresentationCache cache = new HudPresentationCache();
+        JumpRuntimeConfig config = JumpRuntimeConfig.defaults();
+
+        HudPresentationModel before = cache.model(new JumpStateSnapshot(1L, diagnosticsFor(55, 0.18D), config));
+        HudPresentationModel after = cache.model(new JumpStateSnapshot(2L, diagnosticsFor(60, 0.18D), config));
+
+        assertNotSame(before, after);
+        assertEquals("Profile: SMART  Ping: 60ms", after.lines().get(0).text());
+        assertNotSame(before.lines().get(0), after.lines().get(0));
+        assertSame(before.lines().get(1), after.lines().get(1));
+        assertSame(before.lines().get(2), after.lines().get(2));
+        assertSame(before.lines().get(3), after.lines().get(3));
+    }
+
+    @Test
+    void shouldKeepModelWhenNewVersionRendersIdentically() {
+        HudPresentationCache cache = new HudPresentationCache();
+        JumpRuntimeConfig config = JumpRuntimeConfig.defaults();
+
+        HudPresentationModel before = cache.model(new JumpStateSnapshot(1L, diagnosticsFor(55, 0.18D), config));
+        HudPresentationModel after = cache.model(new JumpStateSnapshot(2L, diagnosticsFor(55, 0.181D), config));
+
+        assertSame(before, after);
+    }
+
+    private static JumpDiagnostics diagnosticsFor(int latencyMs, double rollbackRate) {
+        return new JumpDiagnostics(
+                "example.server.domain",
+                JumpProfile.SMART,
+                true,
+                true,
+                false,
+                true,
+                true,
+                latencyMs,
+                2,
+                3,
+                20,
+                4,
+                1,
+                rollbackRate,
+                LagRegime.STEADY,
+                WindowedSummary.empty(JumpDiagnostics.RECENT_WINDOW_SECONDS),
+                WindowedSummary.empty(JumpDiagnostics.LONG_WINDOW_SECONDS),
+                -1.0D,
+                -1,
+                0,
+                false,
+                JumpDiagnostics.NO_CALIBRATED_OFFSET
+        );
+    }
+}
@@ -3,6 +3,8 @@ package com.kizio.jumpdelayfix.common.client.hud;
 import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
 import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
 import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import com.kizio.jumpdelayfix.common.model.LagRegime;
+import com.kizio.jumpdelayfix.common.model.WindowedSummary;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -59,7 +61,71 @@ class HudPresentationServiceTest {
         assertEquals(39, serverLine.length());
     }
 
+    @Test
+    void shouldAppendWindowedStatsOnceAvailable() {
+        JumpRuntimeConfig config = JumpRuntimeConfig.defaults();
+        JumpDiagnostics diagnostics = diagnosticsFor(
+                "server",
+                0.18D,
+                new WindowedSummary(JumpDiagnostics.RECENT_WINDOW_SECONDS, 20, 5, 50, 70, 90),
+                new WindowedSummary(JumpDiagnostics.LONG_WINDOW_SECONDS, 200, 30, 52, 80, 140)
+        );
+
+        HudPresentationModel model = HudPresentationService.build(diagnostics, config);
+
+        assertEquals("Profile: SMART  Ping: 55ms (p99 140)", model.lines().get(0).text());
+        assertEquals("Rollback: 18% (30s 25%)  Penalty: 2  ReqTicks: 3", model.lines().get(1).text());
+    }
+
+    @Test
+    void shouldAppendMeasuredServerTpsToServerLine() {
+        JumpRuntimeConfig config = JumpRuntimeConfig.defaults();
+        JumpDiagnostics base = diagnosticsFor("server", 0.18D);
+        JumpDiagnostics diagnostics = new JumpDiagnostics(
+                base.serverId(),
+                base.profile(),
+                base.enabled(),
+                base.autoProfileSwitch(),
+                base.shadowMode(),
+                base.hudEnabled(),
+                base.safetyFailsafe(),
+                base.latencyMs(),
+                base.adaptivePenaltyTicks(),
+                base.requiredGroundedTicks(),
+                base.confirmedJumps(),
+                base.rejectedJumps(),
+                base.shadowJumpPredictions(),
+                base.rollbackRate(),
+                base.lagRegime(),
+                base.recentWindow(),
+                base.longWindow(),
+                14.26D,
+                35,
+                1,
+                base.calibrating(),
+                base.calibratedOffsetTicks()
+        );
+
+        HudPresentationModel model = HudPresentationService.build(diagnostics, config);
+
+        assertEquals("Server: server  TPS 14.3", model.lines().get(3).text());
+    }
+
     private static JumpDiagnostics diagnosticsFor(String serverId, double rollbackRate) {
+        return diagnosticsFor(
+                serverId,
+                rollbackRate,
+                WindowedSummary.empty(JumpDiagnostics.RECENT_WINDOW_SECONDS),
+                WindowedSummary.empty(JumpDiagnostics.LONG_WINDOW_SECONDS)
+        );
+    }
+
+    private static JumpDiagnostics diagnosticsFor(
+            String serverId,
+            double rollbackRate,
+            WindowedSummary recentWindow,
+            WindowedSummary longWindow
+    ) {
         return new JumpDiagnostics(
                 serverId,
                 JumpProfile.SMART,
@@ -74,7 +140,15 @@ class HudPresentationServiceTest {
                 20,
                 4,
                 1,
-                rollbackRate
+                rollbackRate,
+                LagRegime.STEADY,
+                recentWindow,
+                longWindow,
+                -1.0D,
+                -1,
+                0,
+                false,
+                JumpDiagnostics.NO_CALIBRATED_OFFSET
         );
     }
 }
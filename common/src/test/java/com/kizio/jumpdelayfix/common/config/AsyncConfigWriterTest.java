@@ -0,0 +1,68 @@
+package com.kizio.jumpdelayfix.common.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncConfigWriterTest {
+
+    private static final Path FILE = Path.of("jumpdelayfix.properties");
+
+    @Test
+    void shouldCoalesceBurstToNewestSnapshot() throws InterruptedException {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        List<Integer> writtenOffsets = new CopyOnWriteArrayList<>();
+        AsyncConfigWriter writer = new AsyncConfigWriter((filePath, config, profiles, calibrations) -> {
+            firstWriteStarted.countDown();
+            awaitQuietly(releaseFirstWrite);
+            writtenOffsets.add(config.hudOffsetX());
+        });
+
+        writer.submit(FILE, configWithOffset(1), Map.of(), Map.of());
+        assertTrue(firstWriteStarted.await(2, TimeUnit.SECONDS));
+        writer.submit(FILE, configWithOffset(2), Map.of(), Map.of());
+        writer.submit(FILE, configWithOffset(3), Map.of(), Map.of());
+        writer.submit(FILE, configWithOffset(4), Map.of(), Map.of());
+        releaseFirstWrite.countDown();
+
+        assertTrue(writer.flush(Duration.ofSeconds(2)));
+        assertEquals(List.of(1, 4), writtenOffsets);
+    }
+
+    @Test
+    void shouldReturnFalseWhenFlushTimesOut() {
+        CountDownLatch releaseWrite = new CountDownLatch(1);
+        AsyncConfigWriter writer = new AsyncConfigWriter((filePath, config, profiles, calibrations) -> awaitQuietly(releaseWrite));
+
+        writer.submit(FILE, configWithOffset(1), Map.of(), Map.of());
+
+        assertFalse(writer.flush(Duration.ofMillis(20)));
+        releaseWrite.countDown();
+        assertTrue(writer.flush(Duration.ofSeconds(2)));
+    }
+
+    private static JumpRuntimeConfig configWithOffset(int offset) {
+        JumpRuntimeConfig config = JumpRuntimeConfig.defaults();
+        config.setHudOffsetX(offset);
+        return config;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.kizio.jumpdelayfix.common.config;
+
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import com.kizio.jumpdelayfix.common.model.ServerAdaptiveStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ServerStatsStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRestoreStatsAfterReopen() {
+        Path file = tempDir.resolve(ServerStatsStore.FILE_NAME);
+        try (ServerStatsStore store = ServerStatsStore.open(file, 8)) {
+            store.write(store.slotFor("play.example.net"), ServerAdaptiveStats.restore(12, 3, 1, 0.25D));
+        }
+
+        try (ServerStatsStore store = ServerStatsStore.open(file, 8)) {
+            ServerAdaptiveStats restored = store.load("play.example.net");
+
+            assertNotNull(restored);
+            assertEquals(12, restored.confirmedJumps());
+            assertEquals(3, restored.rejectedJumps());
+            assertEquals(1, restored.shadowPredictions());
+            assertEquals(0.25D, restored.rollbackRate(), 1.0E-9D);
+            assertNull(store.load("unknown.example.net"));
+        }
+    }
+
+    @Test
+    void shouldRestoreBanditArmsAfterReopen() {
+        Path file = tempDir.resolve(ServerStatsStore.FILE_NAME);
+        ServerAdaptiveStats stats = new ServerAdaptiveStats();
+        stats.recordArmReward(JumpProfile.SMART, 0.75D);
+        stats.recordArmReward(JumpProfile.SMART, 0.25D);
+        stats.recordArmReward(JumpProfile.STABLE, 0.5D);
+        try (ServerStatsStore store = ServerStatsStore.open(file, 8)) {
+            store.write(store.slotFor("play.example.net"), stats);
+        }
+
+        try (ServerStatsStore store = ServerStatsStore.open(file, 8)) {
+            ServerAdaptiveStats restored = store.load("play.example.net");
+
+            assertNotNull(restored);
+            assertEquals(2, restored.armPulls(JumpProfile.SMART));
+            assertEquals(1.0D, restored.armRewardSum(JumpProfile.SMART), 1.0E-6D);
+            assertEquals(1, restored.armPulls(JumpProfile.STABLE));
+            assertEquals(0, restored.armPulls(JumpProfile.COMPETITIVE));
+            assertEquals(3, restored.totalArmPulls());
+        }
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUpdatedServerWhenFull() throws InterruptedException {
+        try (ServerStatsStore store = ServerStatsStore.open(tempDir.resolve(ServerStatsStore.FILE_NAME), 2)) {
+            store.write(store.slotFor("old.example.net"), ServerAdaptiveStats.restore(1, 0, 0, 0.0D));
+            Thread.sleep(5L);
+            store.write(store.slotFor("recent.example.net"), ServerAdaptiveStats.restore(2, 0, 0, 0.0D));
+
+            store.write(store.slotFor("new.example.net"), ServerAdaptiveStats.restore(3, 0, 0, 0.0D));
+
+            assertEquals(2, store.size());
+            assertNull(store.load("old.example.net"));
+            assertEquals(2, store.load("recent.example.net").confirmedJumps());
+            assertEquals(3, store.load("new.example.net").confirmedJumps());
+        }
+    }
+
+    @Test
+    void shouldResetCorruptedStore() throws IOException {
+        Path file = tempDir.resolve(ServerStatsStore.FILE_NAME);
+        Files.write(file, new byte[]{1, 2, 3, 4, 5});
+
+        try (ServerStatsStore store = ServerStatsStore.open(file, 4)) {
+            assertEquals(0, store.size());
+            assertNull(store.load("play.example.net"));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.kizio.jumpdelayfix.common.feature;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DelayCalibrationTest {
+
+    @Test
+    void shouldFindLowestAcceptedTicksWithinFewDozenJumps() {
+        for (int acceptedFrom = 1; acceptedFrom <= DelayCalibration.DEFAULT_MAX_TICKS; acceptedFrom++) {
+            DelayCalibration calibration = DelayCalibration.standard(0.08D);
+
+            while (!calibration.isComplete()) {
+                int probe = calibration.probeTicks();
+                calibration.record(probe, probe >= acceptedFrom);
+            }
+
+            assertEquals(acceptedFrom, calibration.resultTicks());
+            assertEquals(acceptedFrom < DelayCalibration.DEFAULT_MAX_TICKS, calibration.hasVerifiedResult());
+            assertTrue(calibration.totalTrials() <= 36, "took " + calibration.totalTrials() + " jumps");
+        }
+    }
+
+    @Test
+    void shouldFailStepEarlyOnceRejectionsExceedTarget() {
+        DelayCalibration calibration = new DelayCalibration(1, 6, 10, 0.20D);
+        assertEquals(3, calibration.probeTicks());
+
+        calibration.record(3, false);
+        calibration.record(3, false);
+        assertEquals(3, calibration.probeTicks());
+
+        calibration.record(3, false);
+        assertEquals(5, calibration.probeTicks());
+        assertEquals(3, calibration.totalTrials());
+    }
+
+    @Test
+    void shouldIgnoreOutcomesFromOtherRequirements() {
+        DelayCalibration calibration = new DelayCalibration(1, 6, 2, 0.0D);
+
+        calibration.record(6, false);
+        calibration.record(2, false);
+        assertEquals(0, calibration.totalTrials());
+
+        calibration.record(3, true);
+        calibration.record(3, true);
+        assertEquals(2, calibration.probeTicks());
+        assertFalse(calibration.isComplete());
+    }
+
+    @Test
+    void shouldRejectInvalidRange() {
+        assertThrows(IllegalArgumentException.class, () -> new DelayCalibration(0, 6, 10, 0.1D));
+        assertThrows(IllegalArgumentException.class, () -> new DelayCalibration(4, 3, 10, 0.1D));
+        assertThrows(IllegalArgumentException.class, () -> new DelayCalibration(1, 6, 0, 0.1D));
+    }
+}
@@ -0,0 +1,112 @@
+package com.kizio.jumpdelayfix.common.feature;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroundedTicksModelTest {
+
+    private final GroundedTicksModel model = GroundedTicksModel.withJitterWeight(1.0D);
+
+    @Test
+    void shouldMatchPreviousStepTableAwayFromBoundaries() {
+        assertEquals(2, model.requiredTicks(0, 0));
+        assertEquals(2, model.requiredTicks(40, 0));
+        assertEquals(3, model.requiredTicks(120, 0));
+        assertEquals(4, model.requiredTicks(220, 0));
+        assertEquals(5, model.requiredTicks(400, 0));
+    }
+
+    @Test
+    void shouldStepAtOneWayTickBoundariesInsteadOfThePreviousTable() {
+        assertEquals(2, model.requiredTicks(104, 0));
+        assertEquals(3, model.requiredTicks(105, 0));
+        assertEquals(3, model.requiredTicks(204, 0));
+        assertEquals(4, model.requiredTicks(205, 0));
+        assertEquals(4, model.requiredTicks(304, 0));
+        assertEquals(5, model.requiredTicks(305, 0));
+
+        // The old table asked for one more tick in each of these gaps.
+        assertEquals(2, model.requiredTicks(85, 0));
+        assertEquals(3, model.requiredTicks(160, 0));
+        assertEquals(4, model.requiredTicks(260, 0));
+    }
+
+    @Test
+    void shouldNotAskMoreThanThePreviousTableOnTypicalConnections() {
+        int[][] medianAndJitter = {{30, 5}, {50, 10}, {80, 15}, {120, 20}, {140, 10}, {200, 25}, {240, 10}, {300, 40}};
+        for (int[] connection : medianAndJitter) {
+            int medianMs = connection[0];
+            assertEquals(previousStepTable(medianMs), model.requiredTicks(medianMs, connection[1]), "median " + medianMs);
+        }
+    }
+
+    @Test
+    void shouldScaleJitterAllowanceWithTheConfiguredWeight() {
+        assertEquals(2, GroundedTicksModel.withJitterWeight(0.0D).requiredTicks(60, 100));
+        assertEquals(3, GroundedTicksModel.withJitterWeight(0.5D).requiredTicks(60, 100));
+        assertEquals(3, GroundedTicksModel.withJitterWeight(3.0D).requiredTicks(60, 40));
+        assertEquals(2.0D, GroundedTicksModel.withJitterWeight(2.0D).jitterWeight());
+    }
+
+    @Test
+    void shouldUseFallbackWhileLatencyIsUnknown() {
+        assertEquals(3, model.requiredTicks(-1, 0));
+        assertEquals(3, model.requiredTicks(-1, 80));
+    }
+
+    @Test
+    void shouldTreatUnknownJitterAsZero() {
+        assertEquals(model.requiredTicks(120, 0), model.requiredTicks(120, -1));
+    }
+
+    @Test
+    void shouldGrowMonotonicallyWithLatencyAndJitter() {
+        for (int jitter = 0; jitter <= 120; jitter += 7) {
+            int previous = 0;
+            for (int latency = 0; latency <= 700; latency += 3) {
+                int ticks = model.requiredTicks(latency, jitter);
+                assertTrue(ticks >= previous, "latency " + latency + " jitter " + jitter);
+                assertTrue(ticks >= model.requiredTicks(latency, Math.max(0, jitter - 7)));
+                previous = ticks;
+            }
+        }
+    }
+
+    @Test
+    void shouldRaiseRequirementUnderJitter() {
+        assertEquals(2, model.requiredTicks(60, 0));
+        assertEquals(3, model.requiredTicks(60, 50));
+        assertEquals(model.requiredTicks(60, 100), model.requiredTicks(60, 10_000));
+        assertEquals(5, model.requiredTicks(Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void shouldScaleDelaysToTheServerTickLength() {
+        assertEquals(model.requiredTicks(120, 10), model.requiredTicks(120, 10, 50.0F));
+        assertEquals(model.requiredTicks(120, 10), model.requiredTicks(120, 10, Float.NaN));
+        assertEquals(2, model.requiredTicks(120, 0, 100.0F));
+        assertEquals(4, model.requiredTicks(120, 0, 25.0F));
+        assertEquals(3, model.requiredTicks(-1, 0, 25.0F));
+    }
+
+    @Test
+    void shouldRejectInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new GroundedTicksModel(0.0D, 1.0D, 2, 5, 3));
+        assertThrows(IllegalArgumentException.class, () -> new GroundedTicksModel(50.0D, -1.0D, 2, 5, 3));
+        assertThrows(IllegalArgumentException.class, () -> new GroundedTicksModel(50.0D, 1.0D, 0, 5, 3));
+        assertThrows(IllegalArgumentException.class, () -> new GroundedTicksModel(50.0D, 1.0D, 4, 3, 3));
+    }
+
+    private static int previousStepTable(int latencyMs) {
+        if (latencyMs <= 80) {
+            return 2;
+        }
+        if (latencyMs <= 150) {
+            return 3;
+        }
+        return latencyMs <= 250 ? 4 : 5;
+    }
+}
@@ -1,12 +1,17 @@
 package com.kizio.jumpdelayfix.common.feature;
 
 import com.kizio.jumpdelayfix.common.api.JumpInput;
+import com.kizio.jumpdelayfix.common.api.JumpInputFrame;
 import com.kizio.jumpdelayfix.common.model.JumpProfile;
 import com.kizio.jumpdelayfix.common.state.ModState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class JumpHandlerTest {
 
@@ -64,6 +69,40 @@ class JumpHandlerTest {
         assertEquals(1, input.jumpCalls);
     }
 
+    @Test
+    void shouldApplyCalibratedOffsetInsteadOfTheProfileOffset() {
+        ModState.setProfile(JumpProfile.COMPETITIVE);
+        handler.setCalibratedOffsetTicks(0);
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.requiredGroundedTicksBeforeJump = 3;
+
+        handler.tick();
+        handler.tick();
+        assertEquals(0, input.jumpCalls);
+        handler.tick();
+
+        assertEquals(1, input.jumpCalls);
+        assertEquals(3, handler.getRequiredGroundedTicks());
+    }
+
+    @Test
+    void shouldKeepCalibratedOffsetFollowingTheLatencyModel() {
+        handler.setCalibratedOffsetTicks(-2);
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.requiredGroundedTicksBeforeJump = 5;
+
+        handler.tick();
+        handler.tick();
+        assertEquals(0, input.jumpCalls);
+        handler.tick();
+
+        assertEquals(1, input.jumpCalls);
+        assertEquals(3, handler.getRequiredGroundedTicks());
+        assertEquals(5, handler.getModelGroundedTicks());
+    }
+
     @Test
     void shouldIncreaseSafetyAfterRejectedJumpAndRetry() {
         input.jumpPressed = true;
@@ -91,13 +130,508 @@ class JumpHandlerTest {
         assertEquals(1, input.jumpCalls);
     }
 
+    @Test
+    void shouldJumpOnTapThatStartedAndEndedBetweenTicks() {
+        long[] now = {0L};
+        JumpInputQueue queue = new JumpInputQueue(8, () -> now[0]);
+        handler.setInputQueue(queue);
+        input.onGround = true;
+
+        now[0] = 10_000_000L;
+        queue.offer(true);
+        now[0] = 25_000_000L;
+        queue.offer(false);
+        now[0] = 50_000_000L;
+        handler.tick();
+
+        assertEquals(1, input.jumpCalls);
+    }
+
+    @Test
+    void shouldJumpOnLandingWhenPressWasBuffered() {
+        long[] now = {0L};
+        JumpInputQueue queue = new JumpInputQueue(8, () -> now[0]);
+        handler.setInputQueue(queue);
+        handler.setJumpBufferMs(120);
+
+        queue.offer(true);
+        queue.offer(false);
+        handler.tick();
+        now[0] = 50_000_000L;
+        handler.tick();
+        now[0] = 100_000_000L;
+        input.onGround = true;
+        handler.tick();
+
+        assertEquals(1, input.jumpCalls);
+    }
+
+    @Test
+    void shouldDropBufferedPressOutsideWindow() {
+        long[] now = {0L};
+        JumpInputQueue queue = new JumpInputQueue(8, () -> now[0]);
+        handler.setInputQueue(queue);
+        handler.setJumpBufferMs(0);
+
+        queue.offer(true);
+        queue.offer(false);
+        handler.tick();
+        now[0] = 50_000_000L;
+        handler.tick();
+        now[0] = 100_000_000L;
+        input.onGround = true;
+        handler.tick();
+
+        assertEquals(0, input.jumpCalls);
+    }
+
+    @Test
+    void shouldRejectOnFirstTickWhenJumpNeverLeftTheGround() {
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.verticalVelocity = 0.0D;
+
+        handler.tick(); // attempt
+        handler.tick(); // still grounded without upward velocity -> rejected immediately
+
+        assertEquals(1, handler.getRejectedJumpCount());
+        assertEquals(1, handler.getAdaptivePenaltyTicks());
+
+        handler.tick(); // retry once the raised requirement is met
+        assertEquals(2, input.jumpCalls);
+    }
+
+    @Test
+    void shouldConfirmOnFirstTickFromUpwardVelocity() {
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.verticalVelocity = 0.0D;
+
+        handler.tick();
+        input.onGround = false;
+        input.verticalVelocity = 0.33D;
+        handler.tick();
+
+        assertEquals(1, handler.getConfirmedJumpCount());
+        assertEquals(0, handler.getRejectedJumpCount());
+    }
+
+    @Test
+    void shouldRejectWhenServerCorrectsPositionAfterJump() {
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+
+        handler.tick();
+        input.onGround = false;
+        input.positionCorrectionCount = 1L;
+        input.playerY = 64.4D;
+        handler.tick();
+
+        assertEquals(0, handler.getConfirmedJumpCount());
+        assertEquals(1, handler.getRejectedJumpCount());
+    }
+
+    @Test
+    void shouldDropObstructedJumpWhenCorrectionsAreAuthoritative() {
+        input.authoritativeCorrections = true;
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.verticalVelocity = 0.0D;
+
+        handler.tick(); // attempt under a low ceiling
+        input.jumpPressed = false;
+        handler.tick(); // never left the ground and the server did not object
+
+        assertEquals(0, handler.getRejectedJumpCount());
+        assertEquals(1, handler.getInconclusiveJumpCount());
+        assertEquals(0, handler.getAdaptivePenaltyTicks());
+        assertEquals(0, handler.getInFlightJumpCount());
+    }
+
+    @Test
+    void shouldWeighAuthoritativeCorrectionsByDistance() {
+        input.authoritativeCorrections = true;
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.verticalVelocity = 0.0D;
+        input.latencyMs = 200;
+
+        handler.tick(); // attempt A
+        input.onGround = false;
+        input.playerY = 64.4D;
+        input.verticalVelocity = 0.33D;
+        input.positionCorrectionCount = 1L;
+        input.positionCorrectionDistance = 0.015625D;
+        handler.tick(); // a nudge: A keeps settling
+        assertEquals(0, handler.getRejectedJumpCount());
+        assertEquals(1, handler.getInFlightJumpCount());
+
+        input.positionCorrectionCount = 2L;
+        input.positionCorrectionDistance = 0.265625D;
+        handler.tick(); // a 0.25 block rubber band rejects A at partial weight
+        assertEquals(1, handler.getRejectedJumpCount());
+        assertEquals(0, handler.getAdaptivePenaltyTicks());
+
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.verticalVelocity = 0.0D;
+        handler.tick(); // attempt B
+        input.onGround = false;
+        input.playerY = 64.4D;
+        input.verticalVelocity = 0.33D;
+        input.positionCorrectionCount = 3L;
+        input.positionCorrectionDistance = 0.515625D;
+        handler.tick(); // the second partial rejection completes a penalty step
+
+        assertEquals(2, handler.getRejectedJumpCount());
+        assertEquals(1, handler.getAdaptivePenaltyTicks());
+    }
+
+    @Test
+    void shouldIgnoreTeleportSizedCorrectionsWhileAJumpIsInFlight() {
+        input.authoritativeCorrections = true;
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.verticalVelocity = 0.0D;
+        input.latencyMs = 200;
+
+        handler.tick(); // attempt A
+        input.onGround = false;
+        input.playerY = 64.4D;
+        input.verticalVelocity = 0.33D;
+        input.positionCorrectionCount = 1L;
+        input.positionCorrectionDistance = 250.0D;
+        handler.tick(); // a /tp lands while A is still settling
+
+        assertEquals(0, handler.getRejectedJumpCount());
+        assertEquals(1, handler.getInFlightJumpCount());
+        assertEquals(0, handler.getAdaptivePenaltyTicks());
+        assertEquals(0.0D, JumpHandler.correctionWeight(JumpHandler.MAX_CORRECTION_DISTANCE + 0.01D));
+        assertEquals(1.0D, JumpHandler.correctionWeight(JumpHandler.MAX_CORRECTION_DISTANCE));
+    }
+
+    @Test
+    void shouldConfirmIntegratedServerJumpOnTheNextTickWithoutPenalties() {
+        input.integratedServer = true;
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.verticalVelocity = -0.0784D;
+        input.velocityAfterJump = 0.42D;
+        input.positionCorrectionCount = 3L;
+        input.positionCorrectionDistance = 2.0D;
+        input.serverTps = 5.0D;
+
+        handler.tick();
+
+        assertEquals(1, input.jumpCalls);
+        assertEquals(0, handler.getConfirmedJumpCount());
+
+        input.onGround = false;
+        input.playerY = 64.42D;
+        handler.tick();
+
+        assertEquals(1, handler.getConfirmedJumpCount());
+        assertEquals(0, handler.getInconclusiveJumpCount());
+        assertEquals(0, handler.getInFlightJumpCount());
+        assertEquals(0, handler.getRejectedJumpCount());
+        assertEquals(0, handler.getLagAllowanceTicks());
+        assertEquals(0, handler.getAdaptivePenaltyTicks());
+        assertTrue(handler.isIntegratedServerSession());
+    }
+
+    @Test
+    void shouldDropIntegratedServerJumpThatDidNotLiftOff() {
+        input.integratedServer = true;
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.verticalVelocity = 0.0D;
+        input.velocityAfterJump = 0.42D;
+
+        handler.tick(); // jump() sets the velocity even though a block overhead stops the player
+
+        input.jumpPressed = false;
+        input.verticalVelocity = 0.0D;
+        handler.tick(); // still on the ground at the same height
+
+        assertEquals(1, input.jumpCalls);
+        assertEquals(0, handler.getConfirmedJumpCount());
+        assertEquals(1, handler.getInconclusiveJumpCount());
+        assertEquals(0, handler.getRejectedJumpCount());
+    }
+
+    @Test
+    void shouldConfirmFromServerAcknowledgementsInsteadOfHeight() {
+        input.authoritativeCorrections = true;
+        input.serverAcknowledgedJumps = 5L;
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.verticalVelocity = 0.0D;
+        input.latencyMs = 100;
+
+        handler.tick(); // attempt; the existing count is only a baseline
+        input.jumpPressed = false;
+        handler.tick(); // still on the ground locally, but no verdict without an acknowledgement
+        assertEquals(0, handler.getRejectedJumpCount());
+        assertEquals(1, handler.getInFlightJumpCount());
+
+        input.serverAcknowledgedJumps = 6L;
+        handler.tick();
+        assertEquals(1, handler.getConfirmedJumpCount());
+        assertEquals(0, handler.getInFlightJumpCount());
+    }
+
+    @Test
+    void shouldRejectLiftedOffAttemptTheServerNeverAcknowledged() {
+        input.authoritativeCorrections = true;
+        input.serverAcknowledgedJumps = 0L;
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.velocityAfterJump = 0.42D;
+
+        handler.tick();
+        input.jumpPressed = false;
+        for (int tick = 0; tick <= JumpHandler.ACK_TIMEOUT_GRACE_TICKS; tick++) {
+            handler.tick();
+        }
+
+        assertEquals(0, handler.getInFlightJumpCount());
+        assertEquals(1, handler.getRejectedJumpCount());
+        assertEquals(0, handler.getInconclusiveJumpCount());
+        assertEquals(1, handler.getAdaptivePenaltyTicks());
+    }
+
+    @Test
+    void shouldMatchAcknowledgementToTheJumpTheServerApplied() {
+        input.authoritativeCorrections = true;
+        input.serverAcknowledgedJumps = 0L;
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.velocityAfterJump = 0.42D;
+        input.latencyMs = 100;
+
+        handler.tick(); // first attempt, which the server drops
+        input.onGround = false;
+        for (int tick = 0; tick < 5; tick++) {
+            handler.tick();
+        }
+        input.onGround = true;
+        input.verticalVelocity = 0.0D;
+        handler.tick(); // second attempt, which the server applies
+        assertEquals(2, input.jumpCalls);
+        assertEquals(2, handler.getInFlightJumpCount());
+
+        input.jumpPressed = false;
+        handler.tick();
+        handler.tick();
+        input.serverAcknowledgedJumps = 1L;
+        handler.tick();
+
+        assertEquals(0, handler.getInFlightJumpCount());
+        assertEquals(1, handler.getConfirmedJumpCount());
+        assertEquals(1, handler.getRejectedJumpCount());
+    }
+
+    @Test
+    void shouldDropUnacknowledgedAttemptThatNeverLiftedOff() {
+        input.authoritativeCorrections = true;
+        input.serverAcknowledgedJumps = 0L;
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+
+        handler.tick();
+        input.jumpPressed = false;
+        for (int tick = 0; tick <= JumpHandler.ACK_TIMEOUT_GRACE_TICKS; tick++) {
+            handler.tick();
+        }
+
+        assertEquals(0, handler.getInFlightJumpCount());
+        assertEquals(0, handler.getRejectedJumpCount());
+        assertEquals(1, handler.getInconclusiveJumpCount());
+        assertEquals(0, handler.getAdaptivePenaltyTicks());
+    }
+
+    @Test
+    void shouldChainJumpWhileEarlierAttemptIsStillSettling() {
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.verticalVelocity = 0.0D;
+        input.latencyMs = 200;
+
+        handler.tick(); // attempt A
+        input.onGround = false;
+        input.playerY = 64.4D;
+        input.verticalVelocity = 0.33D;
+        handler.tick(); // A rises, settles for one round trip
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.verticalVelocity = 0.0D;
+        handler.tick(); // landed again, attempt B while A is open
+
+        assertEquals(2, input.jumpCalls);
+        assertEquals(2, handler.getInFlightJumpCount());
+
+        input.positionCorrectionCount = 1L;
+        input.onGround = false;
+        input.playerY = 64.4D;
+        input.verticalVelocity = 0.33D;
+        handler.tick(); // correction is charged to A, B keeps settling
+
+        assertEquals(1, handler.getRejectedJumpCount());
+        assertEquals(0, handler.getConfirmedJumpCount());
+        assertEquals(1, handler.getInFlightJumpCount());
+    }
+
+    @Test
+    void shouldConfirmSettlingAttemptAfterOneRoundTrip() {
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.verticalVelocity = 0.0D;
+        input.latencyMs = 100;
+
+        handler.tick();
+        input.jumpPressed = false;
+        input.onGround = false;
+        input.playerY = 64.4D;
+        input.verticalVelocity = 0.33D;
+        handler.tick();
+        handler.tick();
+        assertEquals(0, handler.getConfirmedJumpCount());
+
+        handler.tick();
+        assertEquals(1, handler.getConfirmedJumpCount());
+        assertEquals(0, handler.getInFlightJumpCount());
+    }
+
+    @Test
+    void shouldUseCalibrationProbeVerbatimAndReportOutcomes() {
+        List<String> outcomes = new ArrayList<>();
+        handler.setOutcomeListener((requiredTicks, confirmed) -> outcomes.add(requiredTicks + ":" + confirmed));
+        handler.setCalibrationProbeTicks(2);
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.verticalVelocity = 0.0D;
+
+        handler.tick();
+        assertEquals(0, input.jumpCalls);
+        handler.tick(); // attempt on the second grounded tick
+        handler.tick(); // never left the ground -> rejected
+
+        assertEquals(1, input.jumpCalls);
+        assertEquals(List.of("2:false"), outcomes);
+        assertEquals(0, handler.getAdaptivePenaltyTicks());
+    }
+
+    @Test
+    void shouldCountGroundedTimeInServerTicksOnFastServers() {
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.requiredGroundedTicksBeforeJump = 4;
+        input.serverMillisPerTick = 25.0F; // 40 TPS: two server ticks per client tick
+
+        handler.tick();
+        assertEquals(0, input.jumpCalls);
+        handler.tick();
+
+        assertEquals(1, input.jumpCalls);
+    }
+
+    @Test
+    void shouldConvertRoundTripWithClientTickLengthOnSlowServers() {
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.verticalVelocity = 0.0D;
+        input.latencyMs = 200;
+        input.serverMillisPerTick = 100.0F; // 10 TPS: the client slows down with the server
+
+        handler.tick();
+        input.jumpPressed = false;
+        input.onGround = false;
+        input.playerY = 64.4D;
+        input.verticalVelocity = 0.33D;
+        handler.tick();
+        handler.tick();
+        assertEquals(0, handler.getConfirmedJumpCount());
+
+        handler.tick();
+        assertEquals(1, handler.getConfirmedJumpCount());
+    }
+
+    @Test
+    void shouldAddLagAllowanceOnlyWhileServerRunsBehind() {
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.playerY = 64.0D;
+        input.verticalVelocity = 0.0D;
+        input.serverTps = 12.0D;
+        input.serverTickJitterMs = 10;
+
+        handler.tick();
+        assertEquals(1, handler.getLagAllowanceTicks());
+        assertEquals(2, handler.getRequiredGroundedTicks());
+        assertEquals(0, input.jumpCalls);
+
+        handler.tick(); // attempt under the lag allowance
+        handler.tick(); // never left the ground -> rejected without raising the penalty
+        assertEquals(1, handler.getRejectedJumpCount());
+        assertEquals(0, handler.getAdaptivePenaltyTicks());
+
+        input.serverTps = 19.8D;
+        handler.tick();
+        assertEquals(0, handler.getLagAllowanceTicks());
+        assertEquals(1, handler.getRequiredGroundedTicks());
+    }
+
+    @Test
+    void shouldSampleInputOncePerTickAndExposeLastFrame() {
+        input.jumpPressed = true;
+        input.onGround = true;
+        input.latencyMs = 42;
+        input.serverIdentifier = "play.example.net";
+
+        handler.tick();
+        handler.tick();
+
+        assertEquals(2, input.sampleCalls);
+        assertEquals(42, handler.getLatencyMs());
+        assertEquals("play.example.net", handler.getServerIdentifier());
+    }
+
     private static final class FakeJumpInput implements JumpInput {
 
+        private int sampleCalls;
+        private int latencyMs = -1;
+        private String serverIdentifier = "global";
         private boolean jumpPressed;
         private boolean onGround;
         private int jumpCalls;
         private int requiredGroundedTicksBeforeJump = 1;
         private double playerY;
+        private double verticalVelocity = Double.NaN;
+        private long positionCorrectionCount;
+        private double positionCorrectionDistance;
+        private boolean authoritativeCorrections;
+        private long serverAcknowledgedJumps = -1L;
+        private boolean integratedServer;
+        private double velocityAfterJump = Double.NaN;
+        private float serverMillisPerTick = 50.0F;
+        private double serverTps = -1.0D;
+        private int serverTickJitterMs = -1;
 
         @Override
         public boolean isJumpPressed() {
@@ -112,6 +646,9 @@ class JumpHandlerTest {
         @Override
         public void jump() {
             jumpCalls++;
+            if (!Double.isNaN(velocityAfterJump)) {
+                verticalVelocity = velocityAfterJump;
+            }
         }
 
         @Override
@@ -123,5 +660,66 @@ class JumpHandlerTest {
         public double getPlayerY() {
             return playerY;
         }
+
+        @Override
+        public double getVerticalVelocity() {
+            return verticalVelocity;
+        }
+
+        @Override
+        public long getPositionCorrectionCount() {
+            return positionCorrectionCount;
+        }
+
+        @Override
+        public double getPositionCorrectionDistance() {
+            return positionCorrectionDistance;
+        }
+
+        @Override
+        public boolean hasAuthoritativeCorrections() {
+            return authoritativeCorrections;
+        }
+
+        @Override
+        public long getServerAcknowledgedJumps() {
+            return serverAcknowledgedJumps;
+        }
+
+        @Override
+        public boolean isIntegratedServer() {
+            return integratedServer;
+        }
+
+        @Override
+        public int getLatencyMs() {
+            return latencyMs;
+        }
+
+        @Override
+        public float getServerMillisPerTick() {
+            return serverMillisPerTick;
+        }
+
+        @Override
+        public double getServerTps() {
+            return serverTps;
+        }
+
+        @Override
+        public int getServerTickJitterMs() {
+            return serverTickJitterMs;
+        }
+
+        @Override
+        public String getServerIdentifier() {
+            return serverIdentifier;
+        }
+
+        @Override
+        public void sample(JumpInputFrame frame) {
+            sampleCalls++;
+            JumpInput.super.sample(frame);
+        }
     }
 }
@@ -0,0 +1,47 @@
+package com.kizio.jumpdelayfix.common.feature;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JumpInputQueueTest {
+
+    @Test
+    void shouldDrainEventsInArrivalOrder() {
+        JumpInputQueue queue = new JumpInputQueue(4, () -> 0L);
+        queue.offer(true, 5L);
+        queue.offer(false, 9L);
+        List<String> drained = new ArrayList<>();
+
+        int count = queue.drainTo((pressed, timestamp) -> drained.add(pressed + "@" + timestamp));
+
+        assertEquals(2, count);
+        assertEquals(List.of("true@5", "false@9"), drained);
+        assertEquals(0, queue.drainTo((pressed, timestamp) -> drained.add("unexpected")));
+    }
+
+    @Test
+    void shouldDropEventsWhenFullAndRecoverAfterDrain() {
+        JumpInputQueue queue = new JumpInputQueue(2, () -> 0L);
+
+        assertTrue(queue.offer(true, 1L));
+        assertTrue(queue.offer(false, 2L));
+        assertFalse(queue.offer(true, 3L));
+        assertEquals(1L, queue.droppedEvents());
+
+        queue.drainTo((pressed, timestamp) -> {
+        });
+        assertTrue(queue.offer(true, 4L));
+    }
+
+    @Test
+    void shouldRejectNonPowerOfTwoCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new JumpInputQueue(3, () -> 0L));
+    }
+}
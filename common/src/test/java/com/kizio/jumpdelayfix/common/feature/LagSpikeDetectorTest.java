@@ -0,0 +1,94 @@
+package com.kizio.jumpdelayfix.common.feature;
+
+import com.kizio.jumpdelayfix.common.model.LagRegime;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LagSpikeDetectorTest {
+
+    @Test
+    void shouldFlagRejectionBurstWithinHandfulOfAttemptsAndRecover() {
+        LagSpikeDetector detector = new LagSpikeDetector();
+        for (int attempt = 0; attempt < 30; attempt++) {
+            detector.recordOutcome(true);
+        }
+
+        assertEquals(LagRegime.STEADY, detector.recordOutcome(false));
+        assertEquals(LagRegime.STEADY, detector.recordOutcome(false));
+        assertEquals(LagRegime.SPIKE, detector.recordOutcome(false));
+
+        int confirmationsToRecover = 0;
+        while (detector.regime() == LagRegime.SPIKE && confirmationsToRecover < 20) {
+            detector.recordOutcome(true);
+            confirmationsToRecover++;
+        }
+        assertEquals(LagRegime.STEADY, detector.regime());
+        assertEquals(6, confirmationsToRecover);
+    }
+
+    @Test
+    void shouldFlagLatencyJumpAndRecoverWhenItDrops() {
+        LagSpikeDetector detector = new LagSpikeDetector();
+        for (int sample = 0; sample < 20; sample++) {
+            detector.recordLatency(60);
+        }
+
+        assertEquals(LagRegime.STEADY, detector.recordLatency(250));
+        assertEquals(LagRegime.SPIKE, detector.recordLatency(250));
+
+        assertEquals(LagRegime.SPIKE, detector.recordLatency(60));
+        assertEquals(LagRegime.SPIKE, detector.recordLatency(60));
+        assertEquals(LagRegime.STEADY, detector.recordLatency(60));
+    }
+
+    @Test
+    void shouldAcceptPersistentLatencyRiseAsNewBaseline() {
+        LagSpikeDetector detector = new LagSpikeDetector();
+        for (int sample = 0; sample < 20; sample++) {
+            detector.recordLatency(60);
+        }
+        detector.recordLatency(250);
+        detector.recordLatency(250);
+        assertEquals(LagRegime.SPIKE, detector.regime());
+
+        for (int sample = 0; sample < LagSpikeDetector.LATENCY_SETTLE_SAMPLES; sample++) {
+            detector.recordLatency(250);
+        }
+        assertEquals(LagRegime.STEADY, detector.regime());
+    }
+
+    @Test
+    void shouldStaySteadyUnderOrdinaryNoise() {
+        LagSpikeDetector detector = new LagSpikeDetector();
+        Random random = new Random(42L);
+        int spikes = 0;
+
+        for (int sample = 0; sample < 2_000; sample++) {
+            detector.recordOutcome(random.nextDouble() >= 0.03D);
+            detector.recordLatency(60 + random.nextInt(41) - 20);
+            if (detector.regime() == LagRegime.SPIKE) {
+                spikes++;
+            }
+        }
+
+        assertEquals(0, spikes);
+    }
+
+    @Test
+    void shouldForgetSpikeOnReset() {
+        LagSpikeDetector detector = new LagSpikeDetector();
+        for (int attempt = 0; attempt < 30; attempt++) {
+            detector.recordOutcome(true);
+        }
+        for (int attempt = 0; attempt < 5; attempt++) {
+            detector.recordOutcome(false);
+        }
+        assertEquals(LagRegime.SPIKE, detector.regime());
+
+        detector.reset();
+        assertEquals(LagRegime.STEADY, detector.regime());
+    }
+}
@@ -0,0 +1,93 @@
+package com.kizio.jumpdelayfix.common.feature;
+
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import com.kizio.jumpdelayfix.common.model.ServerAdaptiveStats;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProfileBanditTest {
+
+    @Test
+    void shouldTryUntriedProfilesSafestFirst() {
+        ServerAdaptiveStats stats = new ServerAdaptiveStats();
+        assertEquals(JumpProfile.STABLE, ProfileBandit.select(stats));
+
+        stats.recordArmReward(JumpProfile.STABLE, 0.5D);
+        assertEquals(JumpProfile.SMART, ProfileBandit.select(stats));
+
+        stats.recordArmReward(JumpProfile.SMART, 0.5D);
+        assertEquals(JumpProfile.COMPETITIVE, ProfileBandit.select(stats));
+    }
+
+    @Test
+    void shouldSettleOnProfileWithMostNetConfirmedJumps() {
+        // Per-window outcomes: COMPETITIVE is fastest but gets rolled back, SMART nets the most.
+        Map<JumpProfile, int[]> outcomes = new EnumMap<>(JumpProfile.class);
+        outcomes.put(JumpProfile.COMPETITIVE, new int[]{16, 5});
+        outcomes.put(JumpProfile.SMART, new int[]{15, 0});
+        outcomes.put(JumpProfile.STABLE, new int[]{11, 0});
+
+        ServerAdaptiveStats stats = new ServerAdaptiveStats();
+        ProfileBandit bandit = new ProfileBandit();
+        Map<JumpProfile, Integer> windowsPlayed = new EnumMap<>(JumpProfile.class);
+        JumpProfile active = JumpProfile.SMART;
+
+        for (int tick = 0; tick < ProfileBandit.WINDOW_TICKS * 60; tick++) {
+            if (tick % ProfileBandit.WINDOW_TICKS == 1) {
+                int[] window = outcomes.get(active);
+                stats.update(window[0], window[1], 0);
+                windowsPlayed.merge(active, 1, Integer::sum);
+            }
+            active = bandit.onTick(stats, active);
+        }
+
+        assertTrue(windowsPlayed.get(JumpProfile.SMART) > windowsPlayed.get(JumpProfile.STABLE));
+        assertTrue(windowsPlayed.get(JumpProfile.SMART) > windowsPlayed.get(JumpProfile.COMPETITIVE));
+        assertTrue(stats.totalArmPulls() >= 55);
+    }
+
+    @Test
+    void shouldNotCreditIdleWindows() {
+        ServerAdaptiveStats stats = new ServerAdaptiveStats();
+        ProfileBandit bandit = new ProfileBandit();
+
+        JumpProfile active = JumpProfile.SMART;
+        for (int tick = 0; tick <= ProfileBandit.WINDOW_TICKS; tick++) {
+            active = bandit.onTick(stats, active);
+        }
+
+        assertEquals(0, stats.totalArmPulls());
+        assertEquals(JumpProfile.STABLE, active);
+    }
+
+    @Test
+    void shouldRestartWindowWhenProfileIsSwitchedExternally() {
+        ServerAdaptiveStats stats = new ServerAdaptiveStats();
+        ProfileBandit bandit = new ProfileBandit();
+
+        for (int tick = 0; tick < ProfileBandit.WINDOW_TICKS - 1; tick++) {
+            bandit.onTick(stats, JumpProfile.COMPETITIVE);
+        }
+        stats.update(3, 0, 0);
+        for (int tick = 0; tick < ProfileBandit.WINDOW_TICKS; tick++) {
+            bandit.onTick(stats, JumpProfile.STABLE);
+        }
+
+        assertEquals(0, stats.armPulls(JumpProfile.COMPETITIVE));
+        assertEquals(0, stats.armPulls(JumpProfile.STABLE));
+        bandit.onTick(stats, JumpProfile.STABLE);
+        assertEquals(0, stats.armPulls(JumpProfile.STABLE));
+    }
+
+    @Test
+    void shouldPenaliseRejectionsInReward() {
+        assertEquals(0.0D, ProfileBandit.reward(4, 2), 1.0E-9D);
+        assertTrue(ProfileBandit.reward(10, 0) > ProfileBandit.reward(12, 2));
+        assertEquals(1.0D, ProfileBandit.reward(1_000, 0), 1.0E-9D);
+    }
+}
@@ -0,0 +1,42 @@
+package com.kizio.jumpdelayfix.common.harness;
+
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadHarnessTest {
+
+    @Test
+    void shouldProduceIdenticalOutcomesOnEveryScheduler() {
+        List<SessionProfile> profiles = SessionProfile.spread(96, 7L);
+
+        LoadReport virtualThreads = new LoadHarness(profiles, JumpRuntimeConfig.defaults(), HarnessScheduler.VIRTUAL_THREADS, 16).run(300);
+        LoadReport forkJoin = new LoadHarness(profiles, JumpRuntimeConfig.defaults(), HarnessScheduler.FORK_JOIN, 16).run(300);
+
+        assertEquals(96, virtualThreads.sessions());
+        assertEquals(300, virtualThreads.ticks());
+        assertTrue(virtualThreads.confirmedJumps() > 0);
+        assertTrue(virtualThreads.rejectedJumps() > 0);
+        assertEquals(virtualThreads.confirmedJumps(), forkJoin.confirmedJumps());
+        assertEquals(virtualThreads.rejectedJumps(), forkJoin.rejectedJumps());
+        assertTrue(virtualThreads.ticksPerSecond() > 0.0D);
+        assertTrue(virtualThreads.maxSessionP99Nanos() >= virtualThreads.medianSessionP99Nanos());
+    }
+
+    @Test
+    void shouldReportPercentilesWithinOneSubBucket() {
+        TickCostHistogram histogram = new TickCostHistogram();
+        for (long nanos = 1; nanos <= 1_000; nanos++) {
+            histogram.record(nanos * 1_000L);
+        }
+
+        assertEquals(1_000L, histogram.totalCount());
+        long p99 = histogram.percentile(99.0D);
+        assertTrue(p99 >= 990_000L && p99 <= 990_000L * 5 / 4, "p99 " + p99);
+        assertEquals(0L, new TickCostHistogram().percentile(99.0D));
+    }
+}
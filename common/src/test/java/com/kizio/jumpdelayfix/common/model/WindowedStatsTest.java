@@ -0,0 +1,132 @@
+package com.kizio.jumpdelayfix.common.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WindowedStatsTest {
+
+    private long nowMillis = 1_000_000L;
+    private final WindowedStats stats = new WindowedStats(() -> nowMillis);
+
+    @Test
+    void shouldCountOnlyOutcomesInsideTheWindow() {
+        stats.recordOutcomes(4, 1);
+        nowMillis += 20_000L;
+        stats.recordOutcomes(3, 2);
+
+        WindowedSummary recent = stats.summary(10);
+        assertEquals(5, recent.attempts());
+        assertEquals(2, recent.rejections());
+        assertEquals(0.4D, recent.rollbackRate(), 1.0E-9D);
+
+        WindowedSummary all = stats.summary(60);
+        assertEquals(10, all.attempts());
+        assertEquals(3, all.rejections());
+    }
+
+    @Test
+    void shouldExpireEverythingAfterAnIdlePeriod() {
+        stats.recordOutcomes(10, 5);
+        stats.recordLatency(80);
+        nowMillis += (WindowedStats.MAX_WINDOW_SECONDS + 1) * 1_000L;
+
+        WindowedSummary summary = stats.summary(WindowedStats.MAX_WINDOW_SECONDS);
+        assertEquals(0, summary.attempts());
+        assertEquals(0.0D, summary.rollbackRate());
+        assertEquals(-1, summary.latencyP50Ms());
+        assertEquals(-1, summary.latencyP99Ms());
+    }
+
+    @Test
+    void shouldReuseBucketsWhenTheRingWraps() {
+        for (int second = 0; second < WindowedStats.MAX_WINDOW_SECONDS * 3; second++) {
+            stats.recordOutcomes(1, 1);
+            nowMillis += 1_000L;
+        }
+        nowMillis -= 1_000L;
+
+        WindowedSummary summary = stats.summary(WindowedStats.MAX_WINDOW_SECONDS);
+        assertEquals(WindowedStats.MAX_WINDOW_SECONDS * 2, summary.attempts());
+        assertEquals(WindowedStats.MAX_WINDOW_SECONDS, summary.rejections());
+        assertEquals(60, stats.summary(30).attempts());
+    }
+
+    @Test
+    void shouldReportNearestRankLatencyPercentiles() {
+        for (int rtt = 1; rtt <= 100; rtt++) {
+            stats.recordLatency(rtt);
+        }
+
+        WindowedSummary summary = stats.summary(30);
+        assertEquals(50, summary.latencyP50Ms());
+        assertEquals(95, summary.latencyP95Ms());
+        assertEquals(99, summary.latencyP99Ms());
+    }
+
+    @Test
+    void shouldKeepOnlyTheNewestLatencySamples() {
+        for (int sample = 0; sample < WindowedStats.LATENCY_CAPACITY; sample++) {
+            stats.recordLatency(500);
+        }
+        for (int sample = 0; sample < WindowedStats.LATENCY_CAPACITY; sample++) {
+            stats.recordLatency(40);
+        }
+        stats.recordLatency(-1);
+
+        WindowedSummary summary = stats.summary(30);
+        assertEquals(40, summary.latencyP50Ms());
+        assertEquals(40, summary.latencyP99Ms());
+    }
+
+    @Test
+    void shouldCoverTheLongestWindowAtTheProbeRate() {
+        for (int second = 0; second < WindowedStats.MAX_WINDOW_SECONDS; second++) {
+            stats.recordLatency(second < WindowedStats.MAX_WINDOW_SECONDS / 2 ? 50 : 500);
+            nowMillis += 1_000L;
+        }
+        nowMillis -= 1_000L;
+
+        WindowedSummary summary = stats.summary(WindowedStats.MAX_WINDOW_SECONDS);
+        assertEquals(50, summary.latencyP50Ms());
+        assertEquals(500, summary.latencyP95Ms());
+    }
+
+    @Test
+    void shouldKeepPercentilesExactWhileTheLatencyRingWraps() {
+        long spacingMillis = 1_000L / (WindowedStats.MAX_LATENCY_SAMPLES_PER_SECOND + 1);
+        for (int sample = 0; sample < 3 * WindowedStats.LATENCY_CAPACITY; sample++) {
+            stats.recordLatency(sample % 7 == 0 ? 900 : sample % 100);
+            nowMillis += spacingMillis;
+        }
+
+        int[] newest = new int[WindowedStats.LATENCY_CAPACITY];
+        for (int offset = 0; offset < newest.length; offset++) {
+            int sample = 3 * WindowedStats.LATENCY_CAPACITY - 1 - offset;
+            newest[offset] = sample % 7 == 0 ? 900 : sample % 100;
+        }
+        Arrays.sort(newest);
+
+        WindowedSummary all = stats.summary(WindowedStats.MAX_WINDOW_SECONDS);
+        assertEquals(newest[nearestRankIndex(newest.length, 0.50D)], all.latencyP50Ms());
+        assertEquals(newest[nearestRankIndex(newest.length, 0.95D)], all.latencyP95Ms());
+        assertEquals(newest[nearestRankIndex(newest.length, 0.99D)], all.latencyP99Ms());
+    }
+
+    @Test
+    void shouldForgetEverythingOnClear() {
+        stats.recordOutcomes(2, 2);
+        stats.recordLatency(60);
+        stats.clear();
+
+        WindowedSummary summary = stats.summary(30);
+        assertEquals(0, summary.attempts());
+        assertEquals(-1, summary.latencyP95Ms());
+    }
+
+    private static int nearestRankIndex(int samples, double quantile) {
+        return (int) Math.ceil(quantile * samples) - 1;
+    }
+}
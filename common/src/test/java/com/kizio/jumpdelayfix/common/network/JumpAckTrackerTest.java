@@ -0,0 +1,66 @@
+package com.kizio.jumpdelayfix.common.network;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JumpAckTrackerTest {
+
+    private static final UUID ALICE = new UUID(0L, 1L);
+    private static final UUID BOB = new UUID(0L, 2L);
+
+    private final JumpAckTracker tracker = new JumpAckTracker();
+
+    @Test
+    void shouldAnnounceChannelWithInitialZeroAcknowledgement() {
+        tracker.track(ALICE);
+
+        assertEquals(Map.of(ALICE, 0), flush());
+        assertTrue(flush().isEmpty());
+    }
+
+    @Test
+    void shouldBatchAcceptedJumpsIntoOneCumulativeAcknowledgement() {
+        tracker.track(ALICE);
+        tracker.track(BOB);
+        flush();
+
+        tracker.recordAccepted(ALICE);
+        tracker.recordAccepted(ALICE);
+        tracker.recordAccepted(ALICE);
+        assertEquals(Map.of(ALICE, 3), flush());
+
+        tracker.recordAccepted(BOB);
+        tracker.recordAccepted(ALICE);
+        assertEquals(Map.of(ALICE, 4, BOB, 1), flush());
+    }
+
+    @Test
+    void shouldIgnoreUntrackedPlayersAndDropPlayersThatAreGone() {
+        tracker.recordAccepted(ALICE);
+        assertTrue(flush().isEmpty());
+
+        tracker.track(BOB);
+        tracker.flush((playerId, acceptedTotal) -> false);
+        assertEquals(0, tracker.trackedPlayers());
+
+        tracker.track(ALICE);
+        tracker.forget(ALICE);
+        tracker.recordAccepted(ALICE);
+        assertTrue(flush().isEmpty());
+    }
+
+    private Map<UUID, Integer> flush() {
+        Map<UUID, Integer> sent = new LinkedHashMap<>();
+        tracker.flush((playerId, acceptedTotal) -> {
+            sent.put(playerId, acceptedTotal);
+            return true;
+        });
+        return sent;
+    }
+}
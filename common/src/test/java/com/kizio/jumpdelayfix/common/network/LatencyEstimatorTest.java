@@ -0,0 +1,73 @@
+package com.kizio.jumpdelayfix.common.network;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyEstimatorTest {
+
+    @Test
+    void shouldReportUnknownBeforeFirstSample() {
+        LatencyEstimator estimator = new LatencyEstimator();
+
+        assertFalse(estimator.hasSamples());
+        assertEquals(LatencyEstimator.UNKNOWN, estimator.meanMs());
+        assertEquals(LatencyEstimator.UNKNOWN, estimator.jitterMs());
+        assertEquals(LatencyEstimator.UNKNOWN, estimator.p95Ms());
+    }
+
+    @Test
+    void shouldTrackQuantilesOfSpreadSamples() {
+        LatencyEstimator estimator = new LatencyEstimator();
+        for (int round = 0; round < 3; round++) {
+            for (int sample = 0; sample < 100; sample++) {
+                estimator.record(40L + (sample * 37L) % 100L);
+            }
+        }
+
+        assertEquals(90, estimator.p50Ms(), 8);
+        assertEquals(135, estimator.p95Ms(), 8);
+        assertTrue(estimator.jitterMs() > 10);
+    }
+
+    @Test
+    void shouldConvergeOnStableLatency() {
+        LatencyEstimator estimator = new LatencyEstimator();
+        for (int sample = 0; sample < 50; sample++) {
+            estimator.record(100L);
+        }
+
+        assertEquals(100, estimator.meanMs());
+        assertEquals(100, estimator.p50Ms());
+        assertEquals(100, estimator.p95Ms());
+        assertEquals(0, estimator.jitterMs());
+    }
+
+    @Test
+    void shouldFollowLatencyShiftWithinQuantileWindow() {
+        LatencyEstimator estimator = new LatencyEstimator();
+        for (int sample = 0; sample < 300; sample++) {
+            estimator.record(50L);
+        }
+        for (int sample = 0; sample < 2 * LatencyEstimator.QUANTILE_WINDOW_SAMPLES; sample++) {
+            estimator.record(200L);
+        }
+
+        assertEquals(200, estimator.p50Ms());
+        assertEquals(200, estimator.p95Ms());
+    }
+
+    @Test
+    void shouldIgnoreDuplicateAndInvalidExchanges() {
+        LatencyEstimator estimator = new LatencyEstimator();
+
+        assertTrue(estimator.recordExchange(1_000L, 1_080L));
+        assertFalse(estimator.recordExchange(1_000L, 1_130L));
+        assertFalse(estimator.recordExchange(2_000L, 1_900L));
+
+        assertEquals(1L, estimator.sampleCount());
+        assertEquals(80, estimator.meanMs());
+    }
+}
@@ -0,0 +1,72 @@
+package com.kizio.jumpdelayfix.common.network;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServerTickRateEstimatorTest {
+
+    private final ServerTickRateEstimator estimator = new ServerTickRateEstimator();
+
+    @Test
+    void shouldStayUnknownUntilEnoughUpdatesArrived() {
+        feed(0L, 0L, ServerTickRateEstimator.MIN_SAMPLES - 1, 1_000L);
+        assertEquals(ServerTickRateEstimator.UNKNOWN_TPS, estimator.tps());
+        assertEquals(ServerTickRateEstimator.UNKNOWN, estimator.tickJitterMs());
+
+        estimator.recordWorldTime(20L * ServerTickRateEstimator.MIN_SAMPLES, 1_000L * ServerTickRateEstimator.MIN_SAMPLES);
+        assertEquals(20.0D, estimator.tps(), 1.0E-9D);
+        assertEquals(0, estimator.tickJitterMs());
+    }
+
+    @Test
+    void shouldConvergeOnALaggingServer() {
+        feed(0L, 0L, 40, 2_000L);
+
+        assertEquals(10.0D, estimator.tps(), 0.01D);
+    }
+
+    @Test
+    void shouldReportJitterFromIrregularSpacing() {
+        long gameTime = 0L;
+        long receivedAt = 0L;
+        for (int update = 0; update < 40; update++) {
+            gameTime += 20L;
+            receivedAt += update % 2 == 0 ? 800L : 1_200L;
+            estimator.recordWorldTime(gameTime, receivedAt);
+        }
+
+        assertEquals(20.0D, estimator.tps(), 1.0D);
+        assertTrue(estimator.tickJitterMs() >= 150, "jitter " + estimator.tickJitterMs());
+    }
+
+    @Test
+    void shouldIgnoreDuplicatesAndReanchorAfterLongGaps() {
+        feed(0L, 0L, 10, 1_000L);
+        long samples = estimator.sampleCount();
+
+        assertFalse(estimator.recordWorldTime(200L, 99_999L));
+        assertFalse(estimator.recordWorldTime(220L, 60_000L));
+        assertEquals(samples, estimator.sampleCount());
+
+        assertTrue(estimator.recordWorldTime(240L, 61_000L));
+        assertEquals(20.0D, estimator.tps(), 1.0E-9D);
+    }
+
+    @Test
+    void shouldForgetEverythingOnReset() {
+        feed(0L, 0L, 10, 1_000L);
+        estimator.reset();
+
+        assertEquals(0L, estimator.sampleCount());
+        assertEquals(ServerTickRateEstimator.UNKNOWN_TPS, estimator.tps());
+    }
+
+    private void feed(long startGameTime, long startMillis, int updates, long spacingMillis) {
+        for (int update = 0; update <= updates; update++) {
+            estimator.recordWorldTime(startGameTime + 20L * update, startMillis + spacingMillis * update);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.kizio.jumpdelayfix.common.simulation;
+
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NetworkSimulatorTest {
+
+    private static final long TICKS_PER_HOUR = 72_000L;
+    private static final long TICKS_PER_DAY = 24L * TICKS_PER_HOUR;
+
+    @Test
+    void shouldReplayIdenticallyFromTheSameSeed() {
+        NetworkConditions conditions = new NetworkConditions(LatencyDistribution.normal(180, 40), 0.02D, 2, 42L);
+
+        SimulationResult first = new SimulatedSession(conditions, JumpRuntimeConfig.defaults()).run(TICKS_PER_HOUR / 2L);
+        SimulationResult second = new SimulatedSession(conditions, JumpRuntimeConfig.defaults()).run(TICKS_PER_HOUR / 2L);
+        SimulationResult reseeded = new SimulatedSession(conditions.withSeed(43L), JumpRuntimeConfig.defaults()).run(TICKS_PER_HOUR / 2L);
+
+        assertEquals(first, second);
+        assertNotEquals(first, reseeded);
+    }
+
+    @Test
+    void shouldAcceptJumpsOnlyAfterTheServerSawEnoughGroundedTicks() {
+        NetworkConditions conditions = NetworkConditions.of(LatencyDistribution.fixed(100), 1L).withServerGroundedTicks(3);
+
+        NetworkSimulator patient = jumpAfterLanding(conditions, 3, 2_000);
+        assertTrue(patient.jumpsSent() > 100L);
+        assertEquals(0L, patient.jumpsRejected());
+
+        NetworkSimulator eager = jumpAfterLanding(conditions, 2, 2_000);
+        assertTrue(eager.jumpsRejected() > 50L, "rejected " + eager.jumpsRejected());
+        assertEquals(eager.jumpsRejected(), eager.getPositionCorrectionCount());
+    }
+
+    @Test
+    void shouldLetJitterRejectJumpsThatAFixedDelayAccepts() {
+        NetworkSimulator steady = jumpAfterLanding(NetworkConditions.of(LatencyDistribution.fixed(100), 5L), 1, 20_000);
+        NetworkSimulator jittery = jumpAfterLanding(NetworkConditions.of(LatencyDistribution.normal(100, 60), 5L), 1, 20_000);
+
+        assertEquals(0L, steady.jumpsRejected());
+        assertTrue(jittery.jumpsRejected() > 0L);
+    }
+
+    @Test
+    void shouldHoldBackJumpsBehindALostLanding() {
+        NetworkConditions conditions = NetworkConditions.of(LatencyDistribution.fixed(100), 9L).withPacketLoss(0.02D);
+
+        NetworkSimulator simulator = jumpAfterLanding(conditions, 2, 50_000);
+
+        assertTrue(simulator.packetsLost() > 0L);
+        assertTrue(simulator.jumpsRejected() > 0L);
+        assertTrue(simulator.jumpsRejected() < simulator.jumpsSent() / 10L);
+    }
+
+    @Test
+    void shouldMeasurePingsAtTheirExactRoundTrip() {
+        NetworkSimulator simulator = new NetworkSimulator(NetworkConditions.of(LatencyDistribution.fixed(120), 3L), new VirtualClock());
+        simulator.setJumpHeld(false);
+        for (int tick = 0; tick < 400; tick++) {
+            simulator.advance();
+        }
+
+        assertEquals(120, simulator.getLatencyMs());
+        assertEquals(0, simulator.getLatencyJitterMs());
+    }
+
+    @Test
+    void shouldTrackTheServerVerdictsOnALaggyLossyConnection() {
+        NetworkConditions conditions = new NetworkConditions(LatencyDistribution.normal(180, 40), 0.02D, 1, 11L);
+
+        SimulationResult result = new SimulatedSession(conditions, JumpRuntimeConfig.defaults()).run(TICKS_PER_HOUR);
+
+        assertEquals(JumpProfile.STABLE, result.profile());
+        assertTrue(result.serverRejectionRate() < 0.05D, "rejection rate " + result.serverRejectionRate());
+        assertTrue(Math.abs(result.rejectedJumps() - result.jumpsRejected()) <= Math.max(5L, result.jumpsRejected() / 10L),
+                result.toString());
+    }
+
+    @Test
+    void shouldReplayAFullDayOfPlay() {
+        NetworkConditions conditions = new NetworkConditions(LatencyDistribution.normal(80, 10), 0.01D, 1, 24L);
+
+        SimulationResult result = new SimulatedSession(conditions, JumpRuntimeConfig.defaults()).run(TICKS_PER_DAY);
+
+        assertEquals(TICKS_PER_DAY, result.ticks());
+        assertTrue(result.jumpsSent() - result.jumpsAccepted() - result.jumpsRejected() <= 1L, result.toString());
+        assertTrue(result.acceptedJumpsPerSecond() > 1.0D, result.toString());
+        long resolvedByController = (long) result.confirmedJumps() + result.rejectedJumps();
+        assertTrue(Math.abs(resolvedByController - (result.jumpsAccepted() + result.jumpsRejected())) <= 2L, result.toString());
+    }
+
+    /**
+     * Drives the simulator without a controller: every jump goes out a fixed number of ticks after the
+     * landing (or correction) that put the player back on the ground.
+     */
+    private static NetworkSimulator jumpAfterLanding(NetworkConditions conditions, int ticksAfterLanding, int ticks) {
+        NetworkSimulator simulator = new NetworkSimulator(conditions, new VirtualClock());
+        int groundedTicks = 0;
+        for (int tick = 0; tick < ticks; tick++) {
+            simulator.advance();
+            if (!simulator.isPlayerOnGround()) {
+                groundedTicks = 0;
+                continue;
+            }
+            if (groundedTicks++ == ticksAfterLanding) {
+                simulator.jump();
+                groundedTicks = 0;
+            }
+        }
+        return simulator;
+    }
+}
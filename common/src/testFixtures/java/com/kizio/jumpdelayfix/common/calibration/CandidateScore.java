@@ -0,0 +1,45 @@
+package com.kizio.jumpdelayfix.common.calibration;
+
+import java.util.Locale;
+
+/**
+ * Averaged outcome of one candidate over every scenario of a sweep.
+ *
+ * @param candidate                thresholds evaluated
+ * @param acceptedJumpsPerSecond   jumps the server applied per simulated second
+ * @param rejectedJumpsPerSecond   jumps the server rolled back per simulated second
+ * @param score                    accepted jumps per second minus the weighted rejections per second
+ * @param presetCode               shareable preset carrying the candidate's thresholds
+ */
+public record CandidateScore(
+        ThresholdCandidate candidate,
+        double acceptedJumpsPerSecond,
+        double rejectedJumpsPerSecond,
+        double score,
+        String presetCode
+) {
+
+    /**
+     * @return whether this score is at least as good on both objectives and strictly better on one
+     */
+    public boolean dominates(CandidateScore other) {
+        return acceptedJumpsPerSecond >= other.acceptedJumpsPerSecond
+                && rejectedJumpsPerSecond <= other.rejectedJumpsPerSecond
+                && (acceptedJumpsPerSecond > other.acceptedJumpsPerSecond
+                || rejectedJumpsPerSecond < other.rejectedJumpsPerSecond);
+    }
+
+    public String format() {
+        return String.format(
+                Locale.ROOT,
+                "score=%.4f accepted=%.4f/s rejected=%.4f/s compRate=%.2f stableRate=%.2f failsafeRate=%.2f minAttempts=%d",
+                score,
+                acceptedJumpsPerSecond,
+                rejectedJumpsPerSecond,
+                candidate.competitiveRollbackRateMax(),
+                candidate.stableRollbackRateMin(),
+                candidate.failsafeRollbackRate(),
+                candidate.minAttemptsForProfileSwitch()
+        );
+    }
+}
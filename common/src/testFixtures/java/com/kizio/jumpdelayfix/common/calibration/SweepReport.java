@@ -0,0 +1,54 @@
+package com.kizio.jumpdelayfix.common.calibration;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Result of one {@link ThresholdSweep} run.
+ *
+ * @param scores      every candidate, best score first
+ * @param paretoFront candidates not dominated on accepted and rejected jumps per second, best score first
+ * @param scenarios   scenarios each candidate played
+ * @param ticks       simulated client ticks per scenario
+ * @param wallNanos   wall-clock duration of the simulations
+ */
+public record SweepReport(
+        List<CandidateScore> scores,
+        List<CandidateScore> paretoFront,
+        int scenarios,
+        long ticks,
+        long wallNanos
+) {
+
+    public SweepReport {
+        scores = List.copyOf(scores);
+        paretoFront = List.copyOf(paretoFront);
+    }
+
+    /**
+     * @return score of {@code candidate}, or {@code null} when it was not part of the sweep
+     */
+    public CandidateScore scoreOf(ThresholdCandidate candidate) {
+        for (CandidateScore score : scores) {
+            if (score.candidate().equals(candidate)) {
+                return score;
+            }
+        }
+        return null;
+    }
+
+    public String format() {
+        long simulatedTicks = (long) scores.size() * scenarios * ticks;
+        return String.format(
+                Locale.ROOT,
+                "candidates=%d scenarios=%d ticks=%d wall=%.1fs throughput=%.0f ticks/s pareto=%d best=[%s]",
+                scores.size(),
+                scenarios,
+                ticks,
+                wallNanos / 1_000_000_000.0D,
+                wallNanos <= 0L ? 0.0D : simulatedTicks * 1_000_000_000.0D / wallNanos,
+                paretoFront.size(),
+                scores.isEmpty() ? "" : scores.getFirst().format()
+        );
+    }
+}
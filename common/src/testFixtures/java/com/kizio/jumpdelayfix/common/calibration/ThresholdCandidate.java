@@ -0,0 +1,80 @@
+package com.kizio.jumpdelayfix.common.calibration;
+
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One combination of the automatic profile-switch thresholds evaluated by a {@link ThresholdSweep}.
+ *
+ * @param competitiveRollbackRateMax  highest rollback rate that still allows COMPETITIVE
+ * @param stableRollbackRateMin       rollback rate from which the controller prefers STABLE
+ * @param failsafeRollbackRate        rollback rate that forces STABLE through the safety failsafe
+ * @param minAttemptsForProfileSwitch jump attempts required before an automatic switch
+ */
+public record ThresholdCandidate(
+        double competitiveRollbackRateMax,
+        double stableRollbackRateMin,
+        double failsafeRollbackRate,
+        int minAttemptsForProfileSwitch
+) {
+
+    /**
+     * @return the shipped defaults of {@link JumpRuntimeConfig}
+     */
+    public static ThresholdCandidate defaults() {
+        return of(JumpRuntimeConfig.defaults());
+    }
+
+    public static ThresholdCandidate of(JumpRuntimeConfig config) {
+        return new ThresholdCandidate(
+                config.competitiveRollbackRateMax(),
+                config.stableRollbackRateMin(),
+                config.failsafeRollbackRate(),
+                config.minAttemptsForProfileSwitch()
+        );
+    }
+
+    /**
+     * Builds the cartesian product of the given values, skipping combinations whose thresholds are out of
+     * order (a STABLE threshold below the COMPETITIVE ceiling, or a failsafe below the STABLE threshold).
+     */
+    public static List<ThresholdCandidate> grid(
+            double[] competitiveRollbackRateMax,
+            double[] stableRollbackRateMin,
+            double[] failsafeRollbackRate,
+            int[] minAttemptsForProfileSwitch
+    ) {
+        List<ThresholdCandidate> candidates = new ArrayList<>();
+        for (double competitive : competitiveRollbackRateMax) {
+            for (double stable : stableRollbackRateMin) {
+                if (stable < competitive) {
+                    continue;
+                }
+                for (double failsafe : failsafeRollbackRate) {
+                    if (failsafe < stable) {
+                        continue;
+                    }
+                    for (int minAttempts : minAttemptsForProfileSwitch) {
+                        candidates.add(new ThresholdCandidate(competitive, stable, failsafe, minAttempts));
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * @param base config providing every other setting; left untouched
+     * @return copy of {@code base} with this candidate's thresholds
+     */
+    public JumpRuntimeConfig applyTo(JumpRuntimeConfig base) {
+        JumpRuntimeConfig config = base.copy();
+        config.setCompetitiveRollbackRateMax(competitiveRollbackRateMax);
+        config.setStableRollbackRateMin(stableRollbackRateMin);
+        config.setFailsafeRollbackRate(failsafeRollbackRate);
+        config.setMinAttemptsForProfileSwitch(minAttemptsForProfileSwitch);
+        return config;
+    }
+}
@@ -0,0 +1,289 @@
+package com.kizio.jumpdelayfix.common.calibration;
+
+import com.kizio.jumpdelayfix.common.config.JumpPresetCodec;
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+import com.kizio.jumpdelayfix.common.simulation.LatencyDistribution;
+import com.kizio.jumpdelayfix.common.simulation.NetworkConditions;
+import com.kizio.jumpdelayfix.common.simulation.NetworkSimulator;
+import com.kizio.jumpdelayfix.common.simulation.SimulatedSession;
+import com.kizio.jumpdelayfix.common.simulation.SimulationResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parameter sweep over the automatic profile-switch thresholds of {@link JumpRuntimeConfig}.
+ * <p>
+ * Every candidate plays every scenario as a {@link SimulatedSession}. All candidates see the same scenario
+ * seeds, so they face identical latency draws and packet losses and differ only in their decisions. The
+ * candidate x scenario runs are split recursively on a fork-join pool; each run owns its session and writes
+ * into its own result slot, so the outcome never depends on the pool's parallelism.
+ */
+public final class ThresholdSweep {
+
+    public static final long DEFAULT_TICKS = 36_000L;
+    public static final double DEFAULT_REJECTION_COST = 5.0D;
+
+    private final List<ThresholdCandidate> candidates;
+    private final List<NetworkConditions> scenarios;
+    private final JumpRuntimeConfig baseConfig;
+    private final long ticks;
+    private final double rejectionCost;
+
+    /**
+     * @param candidates    thresholds to evaluate
+     * @param scenarios     conditions every candidate plays
+     * @param baseConfig    config providing every setting the candidates leave alone; copied
+     * @param ticks         simulated client ticks per scenario
+     * @param rejectionCost accepted jumps one server rejection is worth in the score
+     */
+    public ThresholdSweep(
+            List<ThresholdCandidate> candidates,
+            List<NetworkConditions> scenarios,
+            JumpRuntimeConfig baseConfig,
+            long ticks,
+            double rejectionCost
+    ) {
+        if (candidates.isEmpty() || scenarios.isEmpty()) {
+            throw new IllegalArgumentException("A sweep needs at least one candidate and one scenario");
+        }
+        if (ticks <= 0L) {
+            throw new IllegalArgumentException("ticks must be positive: " + ticks);
+        }
+        if (!(rejectionCost >= 0.0D)) {
+            throw new IllegalArgumentException("rejectionCost must not be negative: " + rejectionCost);
+        }
+        this.candidates = List.copyOf(candidates);
+        this.scenarios = List.copyOf(scenarios);
+        this.baseConfig = baseConfig.copy();
+        this.ticks = ticks;
+        this.rejectionCost = rejectionCost;
+    }
+
+    /**
+     * The grid the command line sweeps: the shipped defaults and their neighbours on every axis.
+     */
+    public static List<ThresholdCandidate> defaultGrid() {
+        return ThresholdCandidate.grid(
+                new double[]{0.04D, 0.06D, 0.08D, 0.10D, 0.12D},
+                new double[]{0.20D, 0.25D, 0.30D, 0.35D, 0.40D},
+                new double[]{0.35D, 0.45D, 0.55D},
+                new int[]{4, 8, 12, 16}
+        );
+    }
+
+    /**
+     * Synthetic connections from LAN-like to intercontinental, each with and without packet loss, against
+     * servers that want one or two grounded ticks before a jump.
+     *
+     * @param seed seed the per-scenario seeds are drawn from
+     */
+    public static List<NetworkConditions> standardScenarios(long seed) {
+        int[][] latencies = {{30, 5}, {80, 15}, {140, 30}, {180, 40}, {250, 60}};
+        double[] lossRates = {0.0D, 0.02D};
+        int[] serverGroundedTicks = {1, 2};
+
+        SplittableRandom seeds = new SplittableRandom(seed);
+        List<NetworkConditions> scenarios = new ArrayList<>();
+        for (int[] latency : latencies) {
+            for (double lossRate : lossRates) {
+                for (int groundedTicks : serverGroundedTicks) {
+                    scenarios.add(new NetworkConditions(
+                            LatencyDistribution.normal(latency[0], latency[1]),
+                            lossRate,
+                            groundedTicks,
+                            seeds.nextLong()
+                    ));
+                }
+            }
+        }
+        return scenarios;
+    }
+
+    /**
+     * Plays every candidate against every scenario on {@code pool} and scores the candidates.
+     *
+     * @param pool fork-join pool the runs are split across
+     * @return candidates ranked by score together with the Pareto front
+     */
+    public SweepReport run(ForkJoinPool pool) {
+        SimulationResult[] results = new SimulationResult[candidates.size() * scenarios.size()];
+        JumpRuntimeConfig[] configs = new JumpRuntimeConfig[candidates.size()];
+        for (int index = 0; index < configs.length; index++) {
+            configs[index] = candidates.get(index).applyTo(baseConfig);
+        }
+
+        long startedAt = System.nanoTime();
+        pool.invoke(new RunRange(configs, results, 0, results.length));
+        long wallNanos = System.nanoTime() - startedAt;
+
+        List<CandidateScore> scores = new ArrayList<>(candidates.size());
+        for (int candidate = 0; candidate < candidates.size(); candidate++) {
+            double accepted = 0.0D;
+            double rejected = 0.0D;
+            for (int scenario = 0; scenario < scenarios.size(); scenario++) {
+                SimulationResult result = results[candidate * scenarios.size() + scenario];
+                accepted += result.acceptedJumpsPerSecond();
+                rejected += result.jumpsRejected() * 1_000.0D / (result.ticks() * NetworkSimulator.TICK_MILLIS);
+            }
+            accepted /= scenarios.size();
+            rejected /= scenarios.size();
+            scores.add(new CandidateScore(
+                    candidates.get(candidate),
+                    accepted,
+                    rejected,
+                    accepted - rejectionCost * rejected,
+                    JumpPresetCodec.exportPreset(JumpProfile.SMART, configs[candidate])
+            ));
+        }
+        scores.sort(Comparator.comparingDouble(CandidateScore::score).reversed());
+
+        return new SweepReport(scores, paretoFront(scores), scenarios.size(), ticks, wallNanos);
+    }
+
+    /**
+     * Candidates whose thresholds never come into play tie exactly; such a group is represented by its
+     * first member only.
+     *
+     * @param scores scored candidates, in the order the front should keep
+     * @return the candidates no other candidate dominates on accepted and rejected jumps per second
+     */
+    public static List<CandidateScore> paretoFront(List<CandidateScore> scores) {
+        List<CandidateScore> front = new ArrayList<>();
+        for (CandidateScore score : scores) {
+            if (!isDominated(score, scores) && !tiesWithAny(score, front)) {
+                front.add(score);
+            }
+        }
+        return front;
+    }
+
+    private static boolean isDominated(CandidateScore score, List<CandidateScore> scores) {
+        for (CandidateScore other : scores) {
+            if (other.dominates(score)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean tiesWithAny(CandidateScore score, List<CandidateScore> front) {
+        for (CandidateScore kept : front) {
+            if (kept.acceptedJumpsPerSecond() == score.acceptedJumpsPerSecond()
+                    && kept.rejectedJumpsPerSecond() == score.rejectedJumpsPerSecond()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Run with {@code ./gradlew :common:runThresholdSweep}, passing arguments through {@code -PsweepArgs}.
+     * <p>
+     * Usage: {@code [--ticks T] [--seed S] [--rejection-cost C] [--parallelism P] [--output FILE]}.
+     */
+    public static void main(String[] args) throws IOException {
+        long ticks = DEFAULT_TICKS;
+        long seed = 1L;
+        double rejectionCost = DEFAULT_REJECTION_COST;
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        Path output = Path.of("threshold-sweep.txt");
+        for (int index = 0; index + 1 < args.length; index += 2) {
+            String value = args[index + 1];
+            switch (args[index]) {
+                case "--ticks" -> ticks = Long.parseLong(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--rejection-cost" -> rejectionCost = Double.parseDouble(value);
+                case "--parallelism" -> parallelism = Integer.parseInt(value);
+                case "--output" -> output = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + args[index]);
+            }
+        }
+
+        ThresholdSweep sweep = new ThresholdSweep(
+                defaultGrid(),
+                standardScenarios(seed),
+                JumpRuntimeConfig.defaults(),
+                ticks,
+                rejectionCost
+        );
+        SweepReport report;
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            report = sweep.run(pool);
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(
+                Locale.ROOT,
+                "# Pareto-optimal profile thresholds: %d candidates x %d scenarios x %d ticks, rejection cost %.2f",
+                report.scores().size(),
+                report.scenarios(),
+                report.ticks(),
+                rejectionCost
+        ));
+        for (CandidateScore score : report.paretoFront()) {
+            lines.add("# " + score.format());
+            lines.add(score.presetCode());
+        }
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(output, lines, StandardCharsets.UTF_8);
+
+        System.out.println(report.format());
+        CandidateScore defaults = report.scoreOf(ThresholdCandidate.defaults());
+        if (defaults != null) {
+            System.out.println("defaults: " + defaults.format());
+        }
+        for (CandidateScore score : report.paretoFront()) {
+            System.out.println("pareto: " + score.format());
+        }
+        System.out.println("Preset codes written to " + output.toAbsolutePath());
+    }
+
+    /**
+     * Splits a range of candidate x scenario runs in halves until one run remains.
+     * <p>
+     * Tasks only live inside one {@link #run(ForkJoinPool)}; they are never serialized, so the shared arrays are
+     * transient.
+     */
+    private final class RunRange extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient JumpRuntimeConfig[] configs;
+        private final transient SimulationResult[] results;
+        private final int from;
+        private final int to;
+
+        private RunRange(JumpRuntimeConfig[] configs, SimulationResult[] results, int from, int to) {
+            this.configs = configs;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                JumpRuntimeConfig config = configs[from / scenarios.size()];
+                NetworkConditions conditions = scenarios.get(from % scenarios.size());
+                results[from] = new SimulatedSession(conditions, config).run(ticks);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RunRange(configs, results, from, middle), new RunRange(configs, results, middle, to));
+        }
+    }
+}
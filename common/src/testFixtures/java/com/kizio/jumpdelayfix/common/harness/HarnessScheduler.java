@@ -0,0 +1,26 @@
+package com.kizio.jumpdelayfix.common.harness;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Executors the harness can spread session batches over.
+ */
+public enum HarnessScheduler {
+    /**
+     * One virtual thread per batch and tick; carrier threads default to one per core.
+     */
+    VIRTUAL_THREADS,
+    /**
+     * A dedicated fork-join pool with one worker per core.
+     */
+    FORK_JOIN;
+
+    ExecutorService createExecutor() {
+        return switch (this) {
+            case VIRTUAL_THREADS -> Executors.newVirtualThreadPerTaskExecutor();
+            case FORK_JOIN -> new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        };
+    }
+}
@@ -0,0 +1,188 @@
+package com.kizio.jumpdelayfix.common.harness;
+
+import com.kizio.jumpdelayfix.common.JumpController;
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import com.kizio.jumpdelayfix.common.feature.GroundedTicksModel;
+import com.kizio.jumpdelayfix.common.feature.TickTiming;
+import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
+import com.kizio.jumpdelayfix.common.simulation.VirtualClock;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Headless load harness: ticks many independent {@link JumpController} sessions against synthetic players.
+ * <p>
+ * Sessions advance in lockstep on a shared virtual tick clock: every tick, the sessions are split into
+ * batches that run in parallel on the chosen scheduler, and the clock moves by one vanilla tick only once
+ * every batch finished. Controllers read time only from that clock, so cooldowns, the jump buffer and the
+ * windowed stats follow simulated time however long the run takes. Sessions share nothing else, so the
+ * outcome of each one depends only on its profile, never on thread scheduling or machine speed.
+ */
+public final class LoadHarness {
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+    static final long TICK_MILLIS = (long) TickTiming.VANILLA_MILLIS_PER_TICK;
+
+    private final List<SessionProfile> profiles;
+    private final JumpRuntimeConfig config;
+    private final HarnessScheduler scheduler;
+    private final int batchSize;
+
+    public LoadHarness(List<SessionProfile> profiles, JumpRuntimeConfig config, HarnessScheduler scheduler) {
+        this(profiles, config, scheduler, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param profiles  one profile per session
+     * @param config    runtime config every session starts from; copied per session
+     * @param scheduler executor the batches run on
+     * @param batchSize sessions ticked by one task
+     */
+    public LoadHarness(List<SessionProfile> profiles, JumpRuntimeConfig config, HarnessScheduler scheduler, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.profiles = List.copyOf(profiles);
+        this.config = config.copy();
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Creates the sessions, ticks them {@code ticks} times and measures the run.
+     *
+     * @param ticks lockstep ticks per session
+     * @return aggregate report
+     */
+    public LoadReport run(int ticks) {
+        long baselineHeap = usedHeapAfterGc();
+        VirtualClock clock = new VirtualClock();
+        List<Session> sessions = new ArrayList<>(profiles.size());
+        for (int index = 0; index < profiles.size(); index++) {
+            sessions.add(new Session(profiles.get(index), "session-" + index + ".harness", config, clock));
+        }
+
+        List<Callable<Void>> batches = new ArrayList<>();
+        for (int from = 0; from < sessions.size(); from += batchSize) {
+            List<Session> batch = sessions.subList(from, Math.min(sessions.size(), from + batchSize));
+            batches.add(() -> {
+                for (Session session : batch) {
+                    session.tick();
+                }
+                return null;
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        try (ExecutorService executor = scheduler.createExecutor()) {
+            for (int tick = 0; tick < ticks; tick++) {
+                // Submitting the next batches publishes the advanced clock to the worker threads.
+                awaitAll(executor.invokeAll(batches));
+                clock.advanceMillis(TICK_MILLIS);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load harness interrupted", exception);
+        }
+        long wallNanos = System.nanoTime() - startedAt;
+
+        long bytesPerSession = sessions.isEmpty() ? 0L : Math.max(0L, usedHeapAfterGc() - baselineHeap) / sessions.size();
+        long[] sessionP99 = new long[sessions.size()];
+        long confirmed = 0L;
+        long rejected = 0L;
+        for (int index = 0; index < sessions.size(); index++) {
+            Session session = sessions.get(index);
+            sessionP99[index] = session.tickCosts.percentile(99.0D);
+            JumpDiagnostics diagnostics = session.controller.getDiagnostics();
+            confirmed += diagnostics.confirmedJumps();
+            rejected += diagnostics.rejectedJumps();
+        }
+        Arrays.sort(sessionP99);
+
+        return new LoadReport(
+                sessions.size(),
+                ticks,
+                scheduler,
+                wallNanos,
+                sessionP99.length == 0 ? 0L : sessionP99[sessionP99.length / 2],
+                sessionP99.length == 0 ? 0L : sessionP99[sessionP99.length - 1],
+                bytesPerSession,
+                confirmed,
+                rejected
+        );
+    }
+
+    /**
+     * Run with {@code ./gradlew :common:runLoadHarness}, passing arguments through {@code -PharnessArgs}.
+     * <p>
+     * Usage: {@code [--sessions N] [--ticks T] [--scheduler virtual_threads|fork_join] [--seed S]}.
+     */
+    public static void main(String[] args) {
+        int sessions = 1_000;
+        int ticks = 1_200;
+        long seed = 1L;
+        HarnessScheduler scheduler = HarnessScheduler.VIRTUAL_THREADS;
+        for (int index = 0; index + 1 < args.length; index += 2) {
+            String value = args[index + 1];
+            switch (args[index]) {
+                case "--sessions" -> sessions = Integer.parseInt(value);
+                case "--ticks" -> ticks = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--scheduler" -> scheduler = HarnessScheduler.valueOf(value.toUpperCase(Locale.ROOT));
+                default -> throw new IllegalArgumentException("Unknown option: " + args[index]);
+            }
+        }
+
+        LoadHarness harness = new LoadHarness(SessionProfile.spread(sessions, seed), JumpRuntimeConfig.defaults(), scheduler);
+        System.out.println(harness.run(ticks).format());
+    }
+
+    private static void awaitAll(List<Future<Void>> futures) throws InterruptedException {
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException exception) {
+                throw new IllegalStateException("Session tick failed", exception.getCause());
+            }
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static final class Session {
+
+        private final JumpController controller;
+        private final SyntheticPlayerInput input;
+        private final TickCostHistogram tickCosts = new TickCostHistogram();
+
+        private Session(SessionProfile profile, String serverIdentifier, JumpRuntimeConfig config, VirtualClock clock) {
+            controller = new JumpController(clock::nanos);
+            input = new SyntheticPlayerInput(
+                    profile,
+                    serverIdentifier,
+                    GroundedTicksModel.withJitterWeight(config.latencyJitterWeight())
+            );
+            controller.initDetached(input, config);
+        }
+
+        private void tick() {
+            long startedAt = System.nanoTime();
+            controller.onClientTick();
+            tickCosts.record(System.nanoTime() - startedAt);
+            input.advance();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.kizio.jumpdelayfix.common.harness;
+
+import java.util.Locale;
+
+/**
+ * Aggregate result of one harness run.
+ *
+ * @param sessions              sessions ticked
+ * @param ticks                 lockstep ticks each session ran
+ * @param scheduler             executor the sessions ran on
+ * @param wallNanos             wall-clock duration of the ticking phase
+ * @param medianSessionP99Nanos median over sessions of each session's p99 tick cost
+ * @param maxSessionP99Nanos    worst session's p99 tick cost
+ * @param bytesPerSession       retained heap per session after the run, measured after a full GC
+ * @param confirmedJumps        confirmed jumps over all sessions
+ * @param rejectedJumps         rolled-back jumps over all sessions
+ */
+public record LoadReport(
+        int sessions,
+        int ticks,
+        HarnessScheduler scheduler,
+        long wallNanos,
+        long medianSessionP99Nanos,
+        long maxSessionP99Nanos,
+        long bytesPerSession,
+        long confirmedJumps,
+        long rejectedJumps
+) {
+
+    /**
+     * @return session ticks completed per wall-clock second over all sessions
+     */
+    public double ticksPerSecond() {
+        return wallNanos <= 0L ? 0.0D : (double) sessions * ticks * 1_000_000_000.0D / wallNanos;
+    }
+
+    public double rollbackRate() {
+        long attempts = confirmedJumps + rejectedJumps;
+        return attempts == 0L ? 0.0D : (double) rejectedJumps / attempts;
+    }
+
+    public String format() {
+        return String.format(
+                Locale.ROOT,
+                "sessions=%d ticks=%d scheduler=%s wall=%.1fms throughput=%.0f ticks/s "
+                        + "p99(median session)=%.1fus p99(worst session)=%.1fus memory=%d B/session "
+                        + "confirmed=%d rejected=%d rollback=%.1f%%",
+                sessions,
+                ticks,
+                scheduler,
+                wallNanos / 1_000_000.0D,
+                ticksPerSecond(),
+                medianSessionP99Nanos / 1_000.0D,
+                maxSessionP99Nanos / 1_000.0D,
+                bytesPerSession,
+                confirmedJumps,
+                rejectedJumps,
+                rollbackRate() * 100.0D
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.kizio.jumpdelayfix.common.harness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Network and server characteristics of one simulated player.
+ *
+ * @param latencyMs     round-trip latency reported to the controller
+ * @param jitterMs      round-trip jitter reported to the controller
+ * @param rejectionRate probability that the server rolls a jump back
+ * @param seed          seed of the player's own random stream
+ */
+public record SessionProfile(int latencyMs, int jitterMs, double rejectionRate, long seed) {
+
+    public SessionProfile {
+        if (latencyMs < 0 || jitterMs < 0) {
+            throw new IllegalArgumentException("latency and jitter must not be negative");
+        }
+        if (!(rejectionRate >= 0.0D && rejectionRate <= 1.0D)) {
+            throw new IllegalArgumentException("rejectionRate must be within [0, 1]: " + rejectionRate);
+        }
+    }
+
+    /**
+     * Draws a reproducible population spanning LAN to long-distance connections (20-300 ms, jitter up to a
+     * quarter of the latency, 0-30% rejections).
+     *
+     * @param count number of players
+     * @param seed  population seed; the same seed always yields the same population
+     * @return player profiles in session order
+     */
+    public static List<SessionProfile> spread(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<SessionProfile> profiles = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            int latencyMs = 20 + random.nextInt(281);
+            int jitterMs = random.nextInt(latencyMs / 4 + 1);
+            double rejectionRate = random.nextDouble() * 0.3D;
+            profiles.add(new SessionProfile(latencyMs, jitterMs, rejectionRate, random.nextLong()));
+        }
+        return profiles;
+    }
+}
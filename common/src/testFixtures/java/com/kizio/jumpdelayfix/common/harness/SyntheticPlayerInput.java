@@ -0,0 +1,170 @@
+package com.kizio.jumpdelayfix.common.harness;
+
+import com.kizio.jumpdelayfix.common.api.JumpInput;
+import com.kizio.jumpdelayfix.common.api.JumpInputFrame;
+import com.kizio.jumpdelayfix.common.feature.GroundedTicksModel;
+import com.kizio.jumpdelayfix.common.feature.TickTiming;
+
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic player that holds jump on flat ground behind a simulated server.
+ * <p>
+ * Each jump is rolled back with the profile's rejection rate: one round trip later the player is snapped
+ * back to the ground and an authoritative correction is reported. Randomness comes only from the
+ * profile's seed and time only from {@link #advance()}, so a session replays identically on any thread.
+ */
+public final class SyntheticPlayerInput implements JumpInput {
+
+    private static final double GROUND_Y = 64.0D;
+    private static final double JUMP_VELOCITY = 0.42D;
+    private static final double GRAVITY = 0.08D;
+    private static final long NO_CORRECTION = -1L;
+
+    private final SessionProfile profile;
+    private final SplittableRandom random;
+    private final int requiredGroundedTicks;
+    private final int roundTripTicks;
+    private final String serverIdentifier;
+
+    private long tick;
+    private double y = GROUND_Y;
+    private double velocityY;
+    private long correctionDueTick = NO_CORRECTION;
+    private long positionCorrectionCount;
+    private double positionCorrectionDistance;
+    private long jumps;
+
+    /**
+     * @param profile            session behaviour and seed
+     * @param serverIdentifier   identifier reported to the controller
+     * @param groundedTicksModel timing model built from the session's config
+     */
+    public SyntheticPlayerInput(SessionProfile profile, String serverIdentifier, GroundedTicksModel groundedTicksModel) {
+        this.profile = profile;
+        this.random = new SplittableRandom(profile.seed());
+        this.requiredGroundedTicks = groundedTicksModel.requiredTicks(
+                profile.latencyMs(),
+                profile.jitterMs(),
+                TickTiming.VANILLA_MILLIS_PER_TICK
+        );
+        this.roundTripTicks = Math.max(1, (int) Math.ceil(profile.latencyMs() / (double) TickTiming.VANILLA_MILLIS_PER_TICK));
+        this.serverIdentifier = serverIdentifier;
+    }
+
+    /**
+     * Applies one tick of vertical physics and any correction that is due.
+     */
+    public void advance() {
+        tick++;
+        if (correctionDueTick != NO_CORRECTION && tick >= correctionDueTick) {
+            positionCorrectionCount++;
+            positionCorrectionDistance += y - GROUND_Y;
+            y = GROUND_Y;
+            velocityY = 0.0D;
+            correctionDueTick = NO_CORRECTION;
+            return;
+        }
+
+        y += velocityY;
+        if (y <= GROUND_Y) {
+            y = GROUND_Y;
+            velocityY = 0.0D;
+        } else {
+            velocityY -= GRAVITY;
+        }
+    }
+
+    public long jumps() {
+        return jumps;
+    }
+
+    public long positionCorrections() {
+        return positionCorrectionCount;
+    }
+
+    @Override
+    public void sample(JumpInputFrame frame) {
+        frame.setJumpPressed(true)
+                .setPlayerOnGround(y <= GROUND_Y)
+                .setPlayerY(y)
+                .setVerticalVelocity(velocityY)
+                .setPositionCorrectionCount(positionCorrectionCount)
+                .setPositionCorrectionDistance(positionCorrectionDistance)
+                .setAuthoritativeCorrections(true)
+                .setServerAcknowledgedJumps(-1L)
+                .setIntegratedServer(false)
+                .setRequiredGroundedTicks(requiredGroundedTicks)
+                .setLatencyMs(profile.latencyMs())
+                .setLatencyJitterMs(profile.jitterMs())
+                .setServerMillisPerTick(TickTiming.VANILLA_MILLIS_PER_TICK)
+                .setServerTps(-1.0D)
+                .setServerTickJitterMs(-1)
+                .setServerIdentifier(serverIdentifier);
+    }
+
+    @Override
+    public boolean isJumpPressed() {
+        return true;
+    }
+
+    @Override
+    public boolean isPlayerOnGround() {
+        return y <= GROUND_Y;
+    }
+
+    @Override
+    public void jump() {
+        jumps++;
+        velocityY = JUMP_VELOCITY;
+        if (correctionDueTick == NO_CORRECTION && random.nextDouble() < profile.rejectionRate()) {
+            // The server's verdict arrives one round trip later; by then the player is mid-air.
+            correctionDueTick = tick + roundTripTicks + 1;
+        }
+    }
+
+    @Override
+    public double getPlayerY() {
+        return y;
+    }
+
+    @Override
+    public double getVerticalVelocity() {
+        return velocityY;
+    }
+
+    @Override
+    public long getPositionCorrectionCount() {
+        return positionCorrectionCount;
+    }
+
+    @Override
+    public double getPositionCorrectionDistance() {
+        return positionCorrectionDistance;
+    }
+
+    @Override
+    public boolean hasAuthoritativeCorrections() {
+        return true;
+    }
+
+    @Override
+    public int requiredGroundedTicksBeforeJump() {
+        return requiredGroundedTicks;
+    }
+
+    @Override
+    public int getLatencyMs() {
+        return profile.latencyMs();
+    }
+
+    @Override
+    public int getLatencyJitterMs() {
+        return profile.jitterMs();
+    }
+
+    @Override
+    public String getServerIdentifier() {
+        return serverIdentifier;
+    }
+}
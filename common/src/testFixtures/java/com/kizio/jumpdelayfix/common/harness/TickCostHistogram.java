@@ -0,0 +1,65 @@
+package com.kizio.jumpdelayfix.common.harness;
+
+/**
+ * Fixed-size log-linear histogram of tick costs in nanoseconds.
+ * <p>
+ * Each power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, so a percentile is reported
+ * with at most 25% relative error while one session's histogram stays a few hundred bytes however long
+ * it runs. Not thread-safe; each session records into its own histogram.
+ */
+public final class TickCostHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAGNITUDES = 64 - SUB_BUCKET_BITS;
+
+    private final int[] counts = new int[MAGNITUDES * SUB_BUCKETS + SUB_BUCKETS];
+    private long totalCount;
+
+    public void record(long nanos) {
+        counts[bucketOf(Math.max(0L, nanos))]++;
+        totalCount++;
+    }
+
+    public long totalCount() {
+        return totalCount;
+    }
+
+    /**
+     * @param percentile percentile within {@code (0, 100]}
+     * @return upper bound of the bucket holding the percentile, or {@code 0} without samples
+     */
+    public long percentile(double percentile) {
+        if (totalCount == 0L) {
+            return 0L;
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(totalCount * percentile / 100.0D));
+        long seen = 0L;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return upperBound(bucket);
+            }
+        }
+        return upperBound(counts.length - 1);
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> magnitude) & (SUB_BUCKETS - 1);
+        return (magnitude + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int magnitude = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1L) << magnitude) - 1L;
+    }
+}
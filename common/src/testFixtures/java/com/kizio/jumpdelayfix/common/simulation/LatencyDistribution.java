@@ -0,0 +1,49 @@
+package com.kizio.jumpdelayfix.common.simulation;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Round-trip latency of a simulated connection: normally distributed around a mean, never negative.
+ *
+ * @param meanRttMs mean round-trip time in milliseconds
+ * @param jitterMs  standard deviation of the round-trip time in milliseconds, {@code 0} for a fixed delay
+ */
+public record LatencyDistribution(int meanRttMs, int jitterMs) {
+
+    public LatencyDistribution {
+        if (meanRttMs < 0 || jitterMs < 0) {
+            throw new IllegalArgumentException("latency and jitter must not be negative");
+        }
+    }
+
+    /**
+     * @param rttMs constant round-trip time
+     * @return distribution without jitter
+     */
+    public static LatencyDistribution fixed(int rttMs) {
+        return new LatencyDistribution(rttMs, 0);
+    }
+
+    /**
+     * @param meanRttMs mean round-trip time, for example {@code 180}
+     * @param jitterMs  standard deviation, for example {@code 40}
+     * @return normal distribution clamped at zero
+     */
+    public static LatencyDistribution normal(int meanRttMs, int jitterMs) {
+        return new LatencyDistribution(meanRttMs, jitterMs);
+    }
+
+    /**
+     * Draws the one-way delay of a single packet, half of one round-trip sample.
+     *
+     * @param random caller's seeded stream; a fixed distribution draws nothing from it
+     * @return delay in milliseconds
+     */
+    public long sampleOneWayMs(RandomGenerator random) {
+        if (jitterMs == 0) {
+            return meanRttMs / 2L;
+        }
+        double rttMs = meanRttMs + jitterMs * random.nextGaussian();
+        return Math.round(Math.max(0.0D, rttMs) / 2.0D);
+    }
+}
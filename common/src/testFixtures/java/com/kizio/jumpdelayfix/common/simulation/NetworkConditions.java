@@ -0,0 +1,46 @@
+package com.kizio.jumpdelayfix.common.simulation;
+
+import java.util.Objects;
+
+/**
+ * Connection and server rules of one simulated session.
+ *
+ * @param latency             round-trip latency of every packet, in both directions
+ * @param packetLossRate      probability that a packet is lost once and retransmitted
+ * @param serverGroundedTicks server ticks between processing a landing and accepting the next jump;
+ *                            {@code 0} accepts any jump that arrives after its landing
+ * @param seed                seed of the session's random stream
+ */
+public record NetworkConditions(LatencyDistribution latency, double packetLossRate, int serverGroundedTicks, long seed) {
+
+    public NetworkConditions {
+        Objects.requireNonNull(latency, "latency");
+        if (!(packetLossRate >= 0.0D && packetLossRate < 1.0D)) {
+            throw new IllegalArgumentException("packetLossRate must be within [0, 1): " + packetLossRate);
+        }
+        if (serverGroundedTicks < 0) {
+            throw new IllegalArgumentException("serverGroundedTicks must not be negative: " + serverGroundedTicks);
+        }
+    }
+
+    /**
+     * @param latency connection latency
+     * @param seed    random seed
+     * @return lossless connection to a server that accepts a jump after one grounded tick
+     */
+    public static NetworkConditions of(LatencyDistribution latency, long seed) {
+        return new NetworkConditions(latency, 0.0D, 1, seed);
+    }
+
+    public NetworkConditions withPacketLoss(double packetLossRate) {
+        return new NetworkConditions(latency, packetLossRate, serverGroundedTicks, seed);
+    }
+
+    public NetworkConditions withServerGroundedTicks(int serverGroundedTicks) {
+        return new NetworkConditions(latency, packetLossRate, serverGroundedTicks, seed);
+    }
+
+    public NetworkConditions withSeed(long seed) {
+        return new NetworkConditions(latency, packetLossRate, serverGroundedTicks, seed);
+    }
+}
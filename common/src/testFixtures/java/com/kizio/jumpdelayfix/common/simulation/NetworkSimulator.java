@@ -0,0 +1,323 @@
+package com.kizio.jumpdelayfix.common.simulation;
+
+import com.kizio.jumpdelayfix.common.api.JumpInput;
+import com.kizio.jumpdelayfix.common.api.JumpInputFrame;
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import com.kizio.jumpdelayfix.common.feature.GroundedTicksModel;
+import com.kizio.jumpdelayfix.common.feature.TickTiming;
+import com.kizio.jumpdelayfix.common.network.LatencyEstimator;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+/**
+ * Deterministic player on flat ground connected to a simulated server, exposed as a {@link JumpInput}.
+ * <p>
+ * The client predicts its own vertical movement and sends landings and jumps upstream; the server
+ * processes them in order on its next tick and accepts a jump only once
+ * {@link NetworkConditions#serverGroundedTicks()} of its ticks passed since it processed the landing.
+ * Jitter between the landing and the jump packet, or a lost landing holding back the jump behind it,
+ * compresses that gap, which is what rejects jumps sent too early. A rejected jump comes back
+ * as a position correction that snaps the client to the ground one downstream delay later, so the
+ * client's Y is only fixed up after the fact. Pings every second feed a {@link LatencyEstimator}, and the
+ * reported latency and grounded ticks follow it the way the loaders do.
+ * <p>
+ * Randomness comes only from the conditions' seed and time only from {@link #advance()}, which moves
+ * the shared {@link VirtualClock} by one tick; the same conditions always replay the same session.
+ */
+public final class NetworkSimulator implements JumpInput {
+
+    public static final long TICK_MILLIS = (long) TickTiming.VANILLA_MILLIS_PER_TICK;
+    static final int PING_INTERVAL_TICKS = 20;
+    // A lost segment is resent after the retransmission timeout, which Linux never lets drop below 200 ms.
+    static final long MIN_RETRANSMIT_MILLIS = 200L;
+
+    private static final double GROUND_Y = 64.0D;
+    private static final double JUMP_VELOCITY = 0.42D;
+    private static final double GRAVITY = 0.08D;
+
+    private static final byte LANDING = 0;
+    private static final byte JUMP = 1;
+    private static final byte PING = 2;
+    private static final byte CORRECTION = 3;
+    private static final byte PONG = 4;
+
+    private final NetworkConditions conditions;
+    private final VirtualClock clock;
+    private final SplittableRandom random;
+    private final LatencyEstimator latencyEstimator = new LatencyEstimator();
+    private final PacketQueue upstream = new PacketQueue();
+    private final PacketQueue downstream = new PacketQueue();
+    private final long retransmitMillis;
+    private final String serverIdentifier;
+    private PingListener pingListener = PingListener.NONE;
+    private Supplier<GroundedTicksModel> groundedTicksModel;
+
+    private long tick;
+    private boolean jumpHeld = true;
+    private double y = GROUND_Y;
+    private double velocityY;
+    private long positionCorrectionCount;
+    private double positionCorrectionDistance;
+
+    private long serverLandedTick = Long.MIN_VALUE / 2L;
+    private boolean serverAirborne;
+
+    private long jumpsSent;
+    private long jumpsAccepted;
+    private long jumpsRejected;
+    private long packetsLost;
+
+    public NetworkSimulator(NetworkConditions conditions, VirtualClock clock) {
+        this(conditions, clock, "simulated.server");
+    }
+
+    /**
+     * @param conditions       connection and server rules
+     * @param clock            time source advanced by this simulator; share it with the controller
+     * @param serverIdentifier identifier reported to the controller
+     */
+    public NetworkSimulator(NetworkConditions conditions, VirtualClock clock, String serverIdentifier) {
+        this.conditions = Objects.requireNonNull(conditions, "conditions");
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.random = new SplittableRandom(conditions.seed());
+        this.retransmitMillis = Math.max(MIN_RETRANSMIT_MILLIS, conditions.latency().meanRttMs());
+        this.serverIdentifier = serverIdentifier;
+        GroundedTicksModel defaultModel = GroundedTicksModel.withJitterWeight(JumpRuntimeConfig.defaults().latencyJitterWeight());
+        this.groundedTicksModel = () -> defaultModel;
+    }
+
+    /**
+     * @param pingListener receives every completed ping, for example the controller's
+     *                     {@code onLatencySample}
+     */
+    public void setPingListener(PingListener pingListener) {
+        this.pingListener = Objects.requireNonNull(pingListener, "pingListener");
+    }
+
+    /**
+     * @param groundedTicksModel timing model the reported grounded ticks go through, normally the
+     *                           controller's; defaults to a model built from the default config
+     */
+    public void setGroundedTicksModel(Supplier<GroundedTicksModel> groundedTicksModel) {
+        this.groundedTicksModel = Objects.requireNonNull(groundedTicksModel, "groundedTicksModel");
+    }
+
+    public void setJumpHeld(boolean jumpHeld) {
+        this.jumpHeld = jumpHeld;
+    }
+
+    /**
+     * Moves the clock by one tick, lets the server process what reached it, delivers what reached the
+     * client and applies one tick of client physics.
+     */
+    public void advance() {
+        clock.advanceMillis(TICK_MILLIS);
+        tick++;
+        long now = clock.millis();
+
+        while (upstream.hasArrived(now)) {
+            processOnServer(upstream.headKind(), upstream.headPayload(), upstream.headArrival(), now);
+            upstream.remove();
+        }
+        while (downstream.hasArrived(now)) {
+            deliverToClient(downstream.headKind(), downstream.headPayload(), downstream.headArrival());
+            downstream.remove();
+        }
+
+        if (y > GROUND_Y || velocityY > 0.0D) {
+            y += velocityY;
+            if (y <= GROUND_Y) {
+                y = GROUND_Y;
+                velocityY = 0.0D;
+                send(upstream, LANDING, tick, now);
+            } else {
+                velocityY -= GRAVITY;
+            }
+        }
+
+        if (tick % PING_INTERVAL_TICKS == 0L) {
+            send(upstream, PING, now, now);
+        }
+    }
+
+    /**
+     * Movement is applied on the server tick, so landings and jumps are stamped with the current tick; pings
+     * are answered by the network thread the moment they arrive.
+     */
+    private void processOnServer(byte kind, long payload, long arrivedAt, long now) {
+        switch (kind) {
+            case LANDING -> {
+                serverLandedTick = tick;
+                serverAirborne = false;
+            }
+            case JUMP -> {
+                if (serverAirborne || tick - serverLandedTick < conditions.serverGroundedTicks()) {
+                    jumpsRejected++;
+                    send(downstream, CORRECTION, payload, now);
+                } else {
+                    jumpsAccepted++;
+                    serverAirborne = true;
+                }
+            }
+            case PING -> send(downstream, PONG, payload, arrivedAt);
+            default -> throw new IllegalStateException("Unexpected upstream packet " + kind);
+        }
+    }
+
+    private void deliverToClient(byte kind, long payload, long arrivedAt) {
+        switch (kind) {
+            case CORRECTION -> {
+                positionCorrectionCount++;
+                positionCorrectionDistance += y - GROUND_Y;
+                y = GROUND_Y;
+                velocityY = 0.0D;
+            }
+            case PONG -> {
+                if (latencyEstimator.recordExchange(payload, arrivedAt)) {
+                    pingListener.onPing(payload, arrivedAt);
+                }
+            }
+            default -> throw new IllegalStateException("Unexpected downstream packet " + kind);
+        }
+    }
+
+    private void send(PacketQueue queue, byte kind, long payload, long now) {
+        long delay = conditions.latency().sampleOneWayMs(random);
+        if (conditions.packetLossRate() > 0.0D && random.nextDouble() < conditions.packetLossRate()) {
+            packetsLost++;
+            delay += retransmitMillis;
+        }
+        queue.send(kind, payload, now, delay);
+    }
+
+    public long tick() {
+        return tick;
+    }
+
+    /**
+     * @return jumps the client dispatched
+     */
+    public long jumpsSent() {
+        return jumpsSent;
+    }
+
+    /**
+     * @return jumps the server applied, the ground truth the controller's confirmations estimate
+     */
+    public long jumpsAccepted() {
+        return jumpsAccepted;
+    }
+
+    /**
+     * @return jumps the server rolled back
+     */
+    public long jumpsRejected() {
+        return jumpsRejected;
+    }
+
+    public long packetsLost() {
+        return packetsLost;
+    }
+
+    public LatencyEstimator latencyEstimator() {
+        return latencyEstimator;
+    }
+
+    @Override
+    public void sample(JumpInputFrame frame) {
+        int latencyMs = getLatencyMs();
+        int jitterMs = getLatencyJitterMs();
+        frame.setJumpPressed(jumpHeld)
+                .setPlayerOnGround(isPlayerOnGround())
+                .setPlayerY(y)
+                .setVerticalVelocity(velocityY)
+                .setPositionCorrectionCount(positionCorrectionCount)
+                .setPositionCorrectionDistance(positionCorrectionDistance)
+                .setAuthoritativeCorrections(true)
+                .setServerAcknowledgedJumps(-1L)
+                .setIntegratedServer(false)
+                .setRequiredGroundedTicks(groundedTicksModel.get().requiredTicks(latencyEstimator.p50Ms(), jitterMs))
+                .setLatencyMs(latencyMs)
+                .setLatencyJitterMs(jitterMs)
+                .setServerMillisPerTick(TickTiming.VANILLA_MILLIS_PER_TICK)
+                .setServerTps(-1.0D)
+                .setServerTickJitterMs(-1)
+                .setServerIdentifier(serverIdentifier);
+    }
+
+    @Override
+    public boolean isJumpPressed() {
+        return jumpHeld;
+    }
+
+    @Override
+    public boolean isPlayerOnGround() {
+        return y <= GROUND_Y && velocityY <= 0.0D;
+    }
+
+    @Override
+    public void jump() {
+        jumpsSent++;
+        velocityY = JUMP_VELOCITY;
+        send(upstream, JUMP, tick, clock.millis());
+    }
+
+    @Override
+    public int requiredGroundedTicksBeforeJump() {
+        return groundedTicksModel.get().requiredTicks(latencyEstimator.p50Ms(), getLatencyJitterMs());
+    }
+
+    @Override
+    public double getPlayerY() {
+        return y;
+    }
+
+    @Override
+    public double getVerticalVelocity() {
+        return velocityY;
+    }
+
+    @Override
+    public long getPositionCorrectionCount() {
+        return positionCorrectionCount;
+    }
+
+    @Override
+    public double getPositionCorrectionDistance() {
+        return positionCorrectionDistance;
+    }
+
+    @Override
+    public boolean hasAuthoritativeCorrections() {
+        return true;
+    }
+
+    @Override
+    public int getLatencyMs() {
+        return latencyEstimator.p95Ms();
+    }
+
+    @Override
+    public int getLatencyJitterMs() {
+        return latencyEstimator.jitterMs();
+    }
+
+    @Override
+    public String getServerIdentifier() {
+        return serverIdentifier;
+    }
+
+    /**
+     * Receives completed ping exchanges on the simulated clock.
+     */
+    @FunctionalInterface
+    public interface PingListener {
+
+        PingListener NONE = (sentAtMillis, receivedAtMillis) -> {
+        };
+
+        void onPing(long sentAtMillis, long receivedAtMillis);
+    }
+}
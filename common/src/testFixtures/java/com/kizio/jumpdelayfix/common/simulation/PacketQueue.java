@@ -0,0 +1,81 @@
+package com.kizio.jumpdelayfix.common.simulation;
+
+/**
+ * One direction of a simulated connection: an in-order stream of packets with arrival times.
+ * <p>
+ * The connection is a single TCP stream, so a packet never overtakes an earlier one; a delayed or
+ * retransmitted packet holds back everything sent after it. Packets live in growable primitive arrays,
+ * so a long run allocates nothing once the queue reached its working size.
+ */
+final class PacketQueue {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    private long[] arrivals = new long[INITIAL_CAPACITY];
+    private long[] payloads = new long[INITIAL_CAPACITY];
+    private byte[] kinds = new byte[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+    private long lastArrival = Long.MIN_VALUE;
+
+    /**
+     * @param kind         packet type
+     * @param payload      type-specific value
+     * @param sentAtMillis send time
+     * @param delayMillis  transit time of this packet alone
+     */
+    void send(byte kind, long payload, long sentAtMillis, long delayMillis) {
+        if (size == arrivals.length) {
+            grow();
+        }
+        long arrival = Math.max(lastArrival, sentAtMillis + delayMillis);
+        lastArrival = arrival;
+        int slot = (head + size) % arrivals.length;
+        arrivals[slot] = arrival;
+        payloads[slot] = payload;
+        kinds[slot] = kind;
+        size++;
+    }
+
+    boolean hasArrived(long nowMillis) {
+        return size > 0 && arrivals[head] <= nowMillis;
+    }
+
+    long headArrival() {
+        return arrivals[head];
+    }
+
+    byte headKind() {
+        return kinds[head];
+    }
+
+    long headPayload() {
+        return payloads[head];
+    }
+
+    void remove() {
+        head = (head + 1) % arrivals.length;
+        size--;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        int capacity = arrivals.length * 2;
+        long[] newArrivals = new long[capacity];
+        long[] newPayloads = new long[capacity];
+        byte[] newKinds = new byte[capacity];
+        for (int index = 0; index < size; index++) {
+            int slot = (head + index) % arrivals.length;
+            newArrivals[index] = arrivals[slot];
+            newPayloads[index] = payloads[slot];
+            newKinds[index] = kinds[slot];
+        }
+        arrivals = newArrivals;
+        payloads = newPayloads;
+        kinds = newKinds;
+        head = 0;
+    }
+}
@@ -0,0 +1,71 @@
+package com.kizio.jumpdelayfix.common.simulation;
+
+import com.kizio.jumpdelayfix.common.JumpController;
+import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
+import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
+
+/**
+ * A detached {@link JumpController} wired to a {@link NetworkSimulator} on one virtual clock.
+ * <p>
+ * The controller reads time only from the simulator's clock and receives the simulator's pings, so the
+ * whole stack (jump decisions, rollback tracking, windowed stats, automatic profile switching) runs on
+ * simulated time and replays identically from the same conditions.
+ */
+public final class SimulatedSession {
+
+    private final VirtualClock clock = new VirtualClock();
+    private final NetworkSimulator simulator;
+    private final JumpController controller;
+
+    /**
+     * @param conditions connection and server rules
+     * @param config     runtime config the controller starts from; copied
+     */
+    public SimulatedSession(NetworkConditions conditions, JumpRuntimeConfig config) {
+        simulator = new NetworkSimulator(conditions, clock);
+        controller = new JumpController(clock::nanos);
+        simulator.setPingListener(controller::onLatencySample);
+        simulator.setGroundedTicksModel(controller::getGroundedTicksModel);
+        controller.initDetached(simulator, config);
+    }
+
+    /**
+     * Advances the simulation and the controller by {@code ticks} client ticks.
+     *
+     * @param ticks ticks to run
+     * @return outcome of the whole session so far
+     */
+    public SimulationResult run(long ticks) {
+        for (long tick = 0L; tick < ticks; tick++) {
+            simulator.advance();
+            controller.onClientTick();
+        }
+        return result();
+    }
+
+    public SimulationResult result() {
+        JumpDiagnostics diagnostics = controller.getDiagnostics();
+        return new SimulationResult(
+                simulator.tick(),
+                simulator.jumpsSent(),
+                simulator.jumpsAccepted(),
+                simulator.jumpsRejected(),
+                diagnostics.confirmedJumps(),
+                diagnostics.rejectedJumps(),
+                diagnostics.profile(),
+                diagnostics.requiredGroundedTicks()
+        );
+    }
+
+    public NetworkSimulator simulator() {
+        return simulator;
+    }
+
+    public JumpController controller() {
+        return controller;
+    }
+
+    public VirtualClock clock() {
+        return clock;
+    }
+}
@@ -0,0 +1,42 @@
+package com.kizio.jumpdelayfix.common.simulation;
+
+import com.kizio.jumpdelayfix.common.model.JumpProfile;
+
+/**
+ * Outcome of a simulated session: the server's ground truth next to what the controller concluded.
+ *
+ * @param ticks                 client ticks simulated
+ * @param jumpsSent             jumps the client dispatched
+ * @param jumpsAccepted         jumps the server applied
+ * @param jumpsRejected         jumps the server rolled back
+ * @param confirmedJumps        jumps the controller counted as confirmed
+ * @param rejectedJumps         jumps the controller counted as rejected
+ * @param profile               controller profile at the end of the run
+ * @param requiredGroundedTicks grounded ticks the controller required for its last jump
+ */
+public record SimulationResult(
+        long ticks,
+        long jumpsSent,
+        long jumpsAccepted,
+        long jumpsRejected,
+        int confirmedJumps,
+        int rejectedJumps,
+        JumpProfile profile,
+        int requiredGroundedTicks
+) {
+
+    /**
+     * @return share of resolved jumps the server rolled back, {@code 0} without jumps
+     */
+    public double serverRejectionRate() {
+        long resolved = jumpsAccepted + jumpsRejected;
+        return resolved == 0L ? 0.0D : (double) jumpsRejected / resolved;
+    }
+
+    /**
+     * @return jumps the server applied per simulated second
+     */
+    public double acceptedJumpsPerSecond() {
+        return ticks == 0L ? 0.0D : jumpsAccepted * 1_000.0D / (ticks * NetworkSimulator.TICK_MILLIS);
+    }
+}
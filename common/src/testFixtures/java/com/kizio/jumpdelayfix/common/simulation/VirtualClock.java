@@ -0,0 +1,29 @@
+package com.kizio.jumpdelayfix.common.simulation;
+
+/**
+ * Manually advanced time source shared by a simulated connection and the controller under test.
+ * <p>
+ * Pass {@code clock::nanos} to {@link com.kizio.jumpdelayfix.common.JumpController#JumpController(java.util.function.LongSupplier)}
+ * so cooldowns and windowed stats follow simulated rather than wall-clock time.
+ */
+public final class VirtualClock {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private long millis;
+
+    public void advanceMillis(long deltaMillis) {
+        if (deltaMillis < 0L) {
+            throw new IllegalArgumentException("time cannot go backwards: " + deltaMillis);
+        }
+        millis += deltaMillis;
+    }
+
+    public long millis() {
+        return millis;
+    }
+
+    public long nanos() {
+        return millis * NANOS_PER_MILLI;
+    }
+}
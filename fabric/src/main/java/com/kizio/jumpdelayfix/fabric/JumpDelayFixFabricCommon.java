@@ -0,0 +1,17 @@
+package com.kizio.jumpdelayfix.fabric;
+
+import com.kizio.jumpdelayfix.common.bootstrap.CommonBootstrap;
+import com.kizio.jumpdelayfix.fabric.network.FabricServerNetworking;
+import net.fabricmc.api.ModInitializer;
+
+/**
+ * Entrypoint shared by clients and dedicated servers; only wires the optional acknowledgement channel.
+ */
+public final class JumpDelayFixFabricCommon implements ModInitializer {
+
+    @Override
+    public void onInitialize() {
+        CommonBootstrap.bootstrap();
+        FabricServerNetworking.register();
+    }
+}
@@ -3,6 +3,7 @@ package com.kizio.jumpdelayfix.fabric.client;
 import com.kizio.jumpdelayfix.common.JumpDelayFix;
 import com.kizio.jumpdelayfix.fabric.client.gui.FabricSettingsScreen;
 import com.kizio.jumpdelayfix.fabric.client.input.FabricKeyMappings;
+import com.kizio.jumpdelayfix.fabric.network.FabricNetworking;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -19,6 +20,7 @@ public final class FabricEvents {
     public static void registerClientEvents() {
         ClientTickEvents.END_CLIENT_TICK.register(client -> {
             JumpDelayFix.onClientTick();
+            FabricNetworking.tickLatencyProbe(client);
             if (FabricKeyMappings.consumeTogglePress()) {
                 JumpDelayFix.toggleEnabled();
             }
@@ -33,7 +35,10 @@ public final class FabricEvents {
             }
         });
 
-        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> JumpDelayFix.flushPendingConfiguration());
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> {
+            JumpDelayFix.resetServerJumpAcks();
+            JumpDelayFix.flushPendingConfiguration();
+        });
         ClientLifecycleEvents.CLIENT_STOPPING.register(client -> JumpDelayFix.flushPendingConfiguration());
     }
 }
@@ -111,7 +111,7 @@ public final class FabricAdvancedSettingsScreen extends Screen {
 
         super.render(context, mouseX, mouseY, delta);
 
-        JumpRuntimeConfig config = JumpDelayFix.getRuntimeConfig();
+        JumpRuntimeConfig config = JumpDelayFix.getStateSnapshot().config();
 
         context.drawCenteredTextWithShadow(this.textRenderer, this.title, this.width / 2, panelTop + 7, 0xBCEBFF);
         context.drawText(this.textRenderer, Text.translatable("gui.jumpdelayfix.min_attempts", Integer.toString(config.minAttemptsForProfileSwitch())), panelLeft + 12, minAttemptsRowY + 6, 0xDDE7FF, false);
@@ -6,6 +6,7 @@ import com.kizio.jumpdelayfix.common.client.hud.HudPresentationModel;
 import com.kizio.jumpdelayfix.common.client.hud.HudPresentationService;
 import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
 import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
+import com.kizio.jumpdelayfix.common.state.JumpStateSnapshot;
 import com.kizio.jumpdelayfix.fabric.client.FabricStatusMessages;
 import com.kizio.jumpdelayfix.fabric.client.render.FabricMatrixStackCompat;
 import net.minecraft.client.gui.Click;
@@ -148,8 +149,9 @@ public final class FabricHudEditorScreen extends Screen {
 
         super.render(context, mouseX, mouseY, delta);
 
-        JumpRuntimeConfig config = JumpDelayFix.getRuntimeConfig();
-        JumpDiagnostics diagnostics = JumpDelayFix.getDiagnostics();
+        JumpStateSnapshot snapshot = JumpDelayFix.getStateSnapshot();
+        JumpRuntimeConfig config = snapshot.config();
+        JumpDiagnostics diagnostics = snapshot.diagnostics();
 
         context.drawCenteredTextWithShadow(this.textRenderer, this.title, this.width / 2, panelTop + 7, 0xBCEBFF);
         context.drawText(this.textRenderer, Text.translatable("gui.jumpdelayfix.hud_editor.description"), panelLeft + 10, panelTop + 30, 0xD9E7FF, false);
@@ -293,7 +295,7 @@ public final class FabricHudEditorScreen extends Screen {
     }
 
     private boolean isOverPreview(double mouseX, double mouseY) {
-        JumpRuntimeConfig config = JumpDelayFix.getRuntimeConfig();
+        JumpRuntimeConfig config = JumpDelayFix.getStateSnapshot().config();
         int baseHeight = HudPresentationService.panelHeight(config);
         int scaledWidth = (int) Math.ceil(HudPresentationService.PANEL_WIDTH * config.hudScale());
         int scaledHeight = (int) Math.ceil(baseHeight * config.hudScale());
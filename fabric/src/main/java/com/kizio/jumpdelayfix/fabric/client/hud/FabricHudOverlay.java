@@ -3,10 +3,11 @@ package com.kizio.jumpdelayfix.fabric.client.hud;
 import com.kizio.jumpdelayfix.common.JumpDelayFix;
 import com.kizio.jumpdelayfix.common.ModConstants;
 import com.kizio.jumpdelayfix.common.client.hud.HudLine;
+import com.kizio.jumpdelayfix.common.client.hud.HudPresentationCache;
 import com.kizio.jumpdelayfix.common.client.hud.HudPresentationModel;
 import com.kizio.jumpdelayfix.common.client.hud.HudPresentationService;
 import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
-import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
+import com.kizio.jumpdelayfix.common.state.JumpStateSnapshot;
 import com.kizio.jumpdelayfix.fabric.client.render.FabricMatrixStackCompat;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -16,10 +17,16 @@ import net.minecraft.client.MinecraftClient;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 
+import java.util.List;
+
 @Environment(EnvType.CLIENT)
 public final class FabricHudOverlay {
 
     private static final Identifier HUD_ELEMENT_ID = Identifier.of(ModConstants.MOD_ID, "overlay");
+    private static final HudPresentationCache MODEL_CACHE = new HudPresentationCache();
+    private static final Text TITLE_TEXT = Text.literal(HudPresentationService.HUD_TITLE);
+    private static final Text[] LINE_TEXTS = new Text[HudPresentationService.MAX_LINES];
+    private static final String[] LINE_SOURCES = new String[HudPresentationService.MAX_LINES];
     private static boolean registered;
 
     private FabricHudOverlay() {
@@ -35,7 +42,8 @@ public final class FabricHudOverlay {
     }
 
     private static void renderOverlay(net.minecraft.client.gui.DrawContext drawContext) {
-        if (!JumpDelayFix.isHudEnabled()) {
+        JumpStateSnapshot snapshot = JumpDelayFix.getStateSnapshot();
+        if (!snapshot.config().hudEnabled()) {
             return;
         }
 
@@ -44,9 +52,8 @@ public final class FabricHudOverlay {
             return;
         }
 
-        JumpDiagnostics diagnostics = JumpDelayFix.getDiagnostics();
-        JumpRuntimeConfig config = JumpDelayFix.getRuntimeConfig();
-        HudPresentationModel model = HudPresentationService.build(diagnostics, config);
+        JumpRuntimeConfig config = snapshot.config();
+        HudPresentationModel model = MODEL_CACHE.model(snapshot);
 
         try (FabricMatrixStackCompat.ScopedMatrixTransform transform =
                      FabricMatrixStackCompat.pushTranslateScale(drawContext, config.hudOffsetX(), config.hudOffsetY(), config.hudScale())) {
@@ -55,12 +62,14 @@ public final class FabricHudOverlay {
             }
             drawContext.fill(-3, -3, HudPresentationService.PANEL_WIDTH, model.panelHeight(), 0x90000000);
             drawContext.fill(-3, -3, HudPresentationService.PANEL_WIDTH, -2, 0xFF56D8FF);
-            drawContext.drawText(client.textRenderer, Text.literal(HudPresentationService.HUD_TITLE), HudPresentationService.TEXT_X, 5, 0x80FF9D, true);
+            drawContext.drawText(client.textRenderer, TITLE_TEXT, HudPresentationService.TEXT_X, 5, 0x80FF9D, true);
 
             int y = 16;
-            for (HudLine line : model.lines()) {
+            List<HudLine> lines = model.lines();
+            for (int index = 0; index < lines.size(); index++) {
+                HudLine line = lines.get(index);
                 drawContext.drawText(client.textRenderer,
-                        Text.literal(line.text()),
+                        lineText(index, line.text()),
                         HudPresentationService.TEXT_X,
                         y,
                         line.color(),
@@ -83,4 +92,15 @@ public final class FabricHudOverlay {
             }
         }
     }
+
+    /**
+     * Reuses the text component for a line until the cached model hands out a different string.
+     */
+    private static Text lineText(int index, String text) {
+        if (LINE_SOURCES[index] != text) {
+            LINE_SOURCES[index] = text;
+            LINE_TEXTS[index] = Text.literal(text);
+        }
+        return LINE_TEXTS[index];
+    }
 }
@@ -1,26 +1,107 @@
 package com.kizio.jumpdelayfix.fabric.client.input;
 
+import com.kizio.jumpdelayfix.common.JumpDelayFix;
 import com.kizio.jumpdelayfix.common.api.JumpInput;
+import com.kizio.jumpdelayfix.common.api.JumpInputFrame;
+import com.kizio.jumpdelayfix.common.feature.GroundedTicksModel;
+import com.kizio.jumpdelayfix.common.feature.JumpHandler;
+import com.kizio.jumpdelayfix.common.feature.TickTiming;
+import com.kizio.jumpdelayfix.common.network.LatencyEstimator;
+import com.kizio.jumpdelayfix.common.network.ServerTickRateEstimator;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.client.network.PlayerListEntry;
+import net.minecraft.world.tick.TickManager;
 
 import java.util.Locale;
 
 @Environment(EnvType.CLIENT)
 public final class FabricJumpInput implements JumpInput {
 
-    private static final int LOCAL_REQUIRED_GROUNDED_TICKS = 1;
-    private static final int REMOTE_TICKS_LOW_LATENCY = 2;
-    private static final int REMOTE_TICKS_MEDIUM_LATENCY = 3;
-    private static final int REMOTE_TICKS_HIGH_LATENCY = 4;
-    private static final int REMOTE_TICKS_VERY_HIGH_LATENCY = 5;
-
-    private static final int LOW_LATENCY_MAX_MS = 80;
-    private static final int MEDIUM_LATENCY_MAX_MS = 150;
-    private static final int HIGH_LATENCY_MAX_MS = 250;
+    private static final int LOCAL_REQUIRED_GROUNDED_TICKS = GroundedTicksModel.LOCAL_TICKS;
     private static final int UNKNOWN_LATENCY_MS = -1;
-    private static final int UNKNOWN_LATENCY_FALLBACK_TICKS = REMOTE_TICKS_MEDIUM_LATENCY;
+
+    private static long positionCorrectionCount;
+    private static double positionCorrectionDistance;
+    private static ClientPlayerEntity correctedPlayer;
+    private static double correctedFromX;
+    private static double correctedFromY;
+    private static double correctedFromZ;
+
+    private String cachedServerAddress;
+    private String cachedServerIdentifier;
+    private ClientPlayNetworkHandler cachedNetworkHandler;
+    private ClientPlayerEntity cachedPlayer;
+    private PlayerListEntry cachedPlayerListEntry;
+
+    @Override
+    public void sample(JumpInputFrame frame) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client == null) {
+            frame.setJumpPressed(false)
+                    .setPlayerOnGround(false)
+                    .setPlayerY(Double.NaN)
+                    .setVerticalVelocity(Double.NaN)
+                    .setPositionCorrectionCount(positionCorrectionCount)
+                    .setPositionCorrectionDistance(positionCorrectionDistance)
+                    .setAuthoritativeCorrections(true)
+                    .setServerAcknowledgedJumps(JumpDelayFix.getServerAcknowledgedJumps())
+                    .setIntegratedServer(false)
+                    .setRequiredGroundedTicks(LOCAL_REQUIRED_GROUNDED_TICKS)
+                    .setLatencyMs(0)
+                    .setLatencyJitterMs(0)
+                    .setServerMillisPerTick(TickTiming.VANILLA_MILLIS_PER_TICK)
+                    .setServerTps(ServerTickRateEstimator.UNKNOWN_TPS)
+                    .setServerTickJitterMs(ServerTickRateEstimator.UNKNOWN)
+                    .setServerIdentifier("global");
+            return;
+        }
+
+        ClientPlayerEntity player = client.player;
+        frame.setJumpPressed(client.options != null && client.options.jumpKey != null && client.options.jumpKey.isPressed())
+                .setPlayerOnGround(player != null && player.isOnGround())
+                .setPlayerY(player != null ? player.getY() : Double.NaN)
+                .setVerticalVelocity(player != null ? player.getVelocity().y : Double.NaN)
+                .setPositionCorrectionCount(positionCorrectionCount)
+                .setPositionCorrectionDistance(positionCorrectionDistance)
+                .setAuthoritativeCorrections(true)
+                .setServerAcknowledgedJumps(JumpDelayFix.getServerAcknowledgedJumps());
+
+        float serverMillisPerTick = serverMillisPerTick(client);
+        frame.setServerMillisPerTick(serverMillisPerTick);
+        if (client.isIntegratedServerRunning()) {
+            // The integrated server applies our own movement; skip every network estimate.
+            frame.setIntegratedServer(true)
+                    .setServerTps(ServerTickRateEstimator.UNKNOWN_TPS)
+                    .setServerTickJitterMs(ServerTickRateEstimator.UNKNOWN)
+                    .setRequiredGroundedTicks(LOCAL_REQUIRED_GROUNDED_TICKS)
+                    .setLatencyMs(0)
+                    .setLatencyJitterMs(0)
+                    .setServerIdentifier("singleplayer");
+            return;
+        }
+
+        ServerTickRateEstimator tickRateEstimator = JumpDelayFix.getTickRateEstimator();
+        frame.setIntegratedServer(false)
+                .setServerTps(tickRateEstimator.tps())
+                .setServerTickJitterMs(tickRateEstimator.tickJitterMs());
+        LatencyEstimator estimator = JumpDelayFix.getLatencyEstimator();
+        int latencyMs = estimator.p95Ms();
+        int medianLatencyMs = estimator.p50Ms();
+        if (latencyMs == LatencyEstimator.UNKNOWN) {
+            latencyMs = cachedLatencyMs(client, player);
+            medianLatencyMs = latencyMs;
+        }
+        int jitterMs = estimator.jitterMs();
+        // The model adds its own jitter allowance, so it takes the median rather than the p95.
+        frame.setRequiredGroundedTicks(JumpDelayFix.getGroundedTicksModel().requiredTicks(medianLatencyMs, jitterMs, serverMillisPerTick))
+                .setLatencyMs(latencyMs)
+                .setLatencyJitterMs(jitterMs)
+                .setServerIdentifier(cachedServerIdentifier(client));
+    }
 
     @Override
     public boolean isJumpPressed() {
@@ -56,6 +137,89 @@ public final class FabricJumpInput implements JumpInput {
         return client.player.getY();
     }
 
+    @Override
+    public double getVerticalVelocity() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client == null || client.player == null) {
+            return Double.NaN;
+        }
+        return client.player.getVelocity().y;
+    }
+
+    @Override
+    public int getLatencyJitterMs() {
+        return JumpDelayFix.getLatencyEstimator().jitterMs();
+    }
+
+    @Override
+    public long getPositionCorrectionCount() {
+        return positionCorrectionCount;
+    }
+
+    @Override
+    public double getPositionCorrectionDistance() {
+        return positionCorrectionDistance;
+    }
+
+    @Override
+    public boolean hasAuthoritativeCorrections() {
+        return true;
+    }
+
+    @Override
+    public boolean isIntegratedServer() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        return client != null && client.isIntegratedServerRunning();
+    }
+
+    @Override
+    public long getServerAcknowledgedJumps() {
+        return JumpDelayFix.getServerAcknowledgedJumps();
+    }
+
+    /**
+     * Remembers where the player stood before a server position correction is applied. Only the call on
+     * the client thread counts; the network thread merely re-schedules the packet.
+     */
+    public static void beforeServerPositionCorrection() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client == null || !client.isOnThread()) {
+            return;
+        }
+
+        correctedPlayer = client.player;
+        if (correctedPlayer != null) {
+            correctedFromX = correctedPlayer.getX();
+            correctedFromY = correctedPlayer.getY();
+            correctedFromZ = correctedPlayer.getZ();
+        }
+    }
+
+    /**
+     * Counts a server position correction and how far it moved the player; called on the client thread
+     * after the packet was applied. Corrections that replaced the player (respawn, dimension change) or
+     * moved it further than any jump rollback could (/tp, warps, anti-cheat setbacks) are not jump
+     * rollbacks and are skipped.
+     */
+    public static void onServerPositionCorrection() {
+        ClientPlayerEntity player = MinecraftClient.getInstance().player;
+        if (player == null || player != correctedPlayer) {
+            correctedPlayer = null;
+            return;
+        }
+
+        double dx = player.getX() - correctedFromX;
+        double dy = player.getY() - correctedFromY;
+        double dz = player.getZ() - correctedFromZ;
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        correctedPlayer = null;
+        if (distance > JumpHandler.MAX_CORRECTION_DISTANCE) {
+            return;
+        }
+        positionCorrectionDistance += distance;
+        positionCorrectionCount++;
+    }
+
     @Override
     public int requiredGroundedTicksBeforeJump() {
         MinecraftClient client = MinecraftClient.getInstance();
@@ -67,7 +231,28 @@ public final class FabricJumpInput implements JumpInput {
             return LOCAL_REQUIRED_GROUNDED_TICKS;
         }
 
-        return mapLatencyToRequiredTicks(getEstimatedLatencyMs(client));
+        LatencyEstimator estimator = JumpDelayFix.getLatencyEstimator();
+        return JumpDelayFix.getGroundedTicksModel().requiredTicks(
+                getEstimatedLatencyMs(client, estimator.p50Ms()),
+                estimator.jitterMs(),
+                serverMillisPerTick(client)
+        );
+    }
+
+    @Override
+    public double getServerTps() {
+        return JumpDelayFix.getTickRateEstimator().tps();
+    }
+
+    @Override
+    public int getServerTickJitterMs() {
+        return JumpDelayFix.getTickRateEstimator().tickJitterMs();
+    }
+
+    @Override
+    public float getServerMillisPerTick() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        return client == null ? TickTiming.VANILLA_MILLIS_PER_TICK : serverMillisPerTick(client);
     }
 
     @Override
@@ -77,7 +262,7 @@ public final class FabricJumpInput implements JumpInput {
             return 0;
         }
 
-        return getEstimatedLatencyMs(client);
+        return getEstimatedLatencyMs(client, JumpDelayFix.getLatencyEstimator().p95Ms());
     }
 
     @Override
@@ -98,34 +283,74 @@ public final class FabricJumpInput implements JumpInput {
         return "multiplayer-unknown";
     }
 
-    private int getEstimatedLatencyMs(MinecraftClient client) {
-        if (client.player == null || client.getNetworkHandler() == null) {
+    /**
+     * Reuses the player list entry while the connection and player instance are unchanged, so the
+     * per-tick path skips the UUID map lookup.
+     */
+    private int cachedLatencyMs(MinecraftClient client, ClientPlayerEntity player) {
+        ClientPlayNetworkHandler networkHandler = client.getNetworkHandler();
+        if (player == null || networkHandler == null) {
+            cachedPlayerListEntry = null;
             return UNKNOWN_LATENCY_MS;
         }
 
-        var entry = client.getNetworkHandler().getPlayerListEntry(client.player.getUuid());
-        if (entry == null) {
-            return UNKNOWN_LATENCY_MS;
+        if (cachedPlayerListEntry == null || networkHandler != cachedNetworkHandler || player != cachedPlayer) {
+            cachedNetworkHandler = networkHandler;
+            cachedPlayer = player;
+            cachedPlayerListEntry = networkHandler.getPlayerListEntry(player.getUuid());
+            if (cachedPlayerListEntry == null) {
+                return UNKNOWN_LATENCY_MS;
+            }
         }
 
-        return Math.max(0, entry.getLatency());
+        return Math.max(0, cachedPlayerListEntry.getLatency());
     }
 
-    private int mapLatencyToRequiredTicks(int latencyMs) {
-        if (latencyMs == UNKNOWN_LATENCY_MS) {
-            return UNKNOWN_LATENCY_FALLBACK_TICKS;
+    /**
+     * Reads the tick rate the server announced; a frozen world keeps the vanilla length because the
+     * client keeps ticking the player at 20 TPS.
+     */
+    private static float serverMillisPerTick(MinecraftClient client) {
+        if (client.world == null) {
+            return TickTiming.VANILLA_MILLIS_PER_TICK;
+        }
+
+        TickManager tickManager = client.world.getTickManager();
+        return tickManager.shouldTick() ? tickManager.getMillisPerTick() : TickTiming.VANILLA_MILLIS_PER_TICK;
+    }
+
+    private String cachedServerIdentifier(MinecraftClient client) {
+        if (client.getCurrentServerEntry() == null || client.getCurrentServerEntry().address == null) {
+            return "multiplayer-unknown";
+        }
+
+        String address = client.getCurrentServerEntry().address;
+        if (address != cachedServerAddress) {
+            cachedServerAddress = address;
+            cachedServerIdentifier = address.toLowerCase(Locale.ROOT);
         }
+        return cachedServerIdentifier;
+    }
 
-        if (latencyMs <= LOW_LATENCY_MAX_MS) {
-            return REMOTE_TICKS_LOW_LATENCY;
+    /**
+     * Prefers the given estimate from ping probes and falls back to the smoothed tab-list latency.
+     *
+     * @param probedLatencyMs p50 or p95 from the latency estimator, or {@link LatencyEstimator#UNKNOWN}
+     */
+    private int getEstimatedLatencyMs(MinecraftClient client, int probedLatencyMs) {
+        if (probedLatencyMs != LatencyEstimator.UNKNOWN) {
+            return probedLatencyMs;
         }
-        if (latencyMs <= MEDIUM_LATENCY_MAX_MS) {
-            return REMOTE_TICKS_MEDIUM_LATENCY;
+
+        if (client.player == null || client.getNetworkHandler() == null) {
+            return UNKNOWN_LATENCY_MS;
         }
-        if (latencyMs <= HIGH_LATENCY_MAX_MS) {
-            return REMOTE_TICKS_HIGH_LATENCY;
+
+        var entry = client.getNetworkHandler().getPlayerListEntry(client.player.getUuid());
+        if (entry == null) {
+            return UNKNOWN_LATENCY_MS;
         }
 
-        return REMOTE_TICKS_VERY_HIGH_LATENCY;
+        return Math.max(0, entry.getLatency());
     }
 }
@@ -0,0 +1,57 @@
+package com.kizio.jumpdelayfix.fabric.mixin;
+
+import com.kizio.jumpdelayfix.common.JumpDelayFix;
+import com.kizio.jumpdelayfix.fabric.client.input.FabricJumpInput;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.network.packet.s2c.play.PlayerPositionLookS2CPacket;
+import net.minecraft.network.packet.s2c.play.WorldTimeUpdateS2CPacket;
+import net.minecraft.network.packet.s2c.query.PingResultS2CPacket;
+import net.minecraft.util.Util;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Network hooks: server position corrections, ping round trips and world-time updates.
+ */
+@Environment(EnvType.CLIENT)
+@Mixin(ClientPlayNetworkHandler.class)
+public abstract class ClientPlayNetworkHandlerMixin {
+
+    /**
+     * HEAD: captures the pre-correction position so the tail can measure how far the player was moved.
+     */
+    @Inject(method = "onPlayerPositionLook", at = @At("HEAD"))
+    private void jumpdelayfix$beforePlayerPositionLook(PlayerPositionLookS2CPacket packet, CallbackInfo callbackInfo) {
+        FabricJumpInput.beforeServerPositionCorrection();
+    }
+
+    /**
+     * TAIL: the handler re-schedules itself onto the client thread, so the tail only runs once the
+     * correction has actually been applied there.
+     */
+    @Inject(method = "onPlayerPositionLook", at = @At("TAIL"))
+    private void jumpdelayfix$onPlayerPositionLook(PlayerPositionLookS2CPacket packet, CallbackInfo callbackInfo) {
+        FabricJumpInput.onServerPositionCorrection();
+    }
+
+    /**
+     * HEAD: timestamps the pong as early as possible; a re-dispatched duplicate is ignored by the estimator.
+     */
+    @Inject(method = "onPingResult", at = @At("HEAD"))
+    private void jumpdelayfix$onPingResult(PingResultS2CPacket packet, CallbackInfo callbackInfo) {
+        JumpDelayFix.onLatencySample(packet.startTime(), Util.getMeasuringTimeMs());
+    }
+
+    /**
+     * HEAD: timestamps the update on arrival for the tick-rate estimate; a re-dispatched duplicate is
+     * ignored by the estimator.
+     */
+    @Inject(method = "onWorldTimeUpdate", at = @At("HEAD"))
+    private void jumpdelayfix$onWorldTimeUpdate(WorldTimeUpdateS2CPacket packet, CallbackInfo callbackInfo) {
+        JumpDelayFix.onWorldTimeUpdate(packet.time(), Util.getMeasuringTimeMs());
+    }
+}
@@ -0,0 +1,23 @@
+package com.kizio.jumpdelayfix.fabric.mixin;
+
+import com.kizio.jumpdelayfix.common.JumpDelayFix;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.network.ClientPlayerEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Runs the jump decision right before vanilla applies the local player's movement for this tick.
+ */
+@Environment(EnvType.CLIENT)
+@Mixin(ClientPlayerEntity.class)
+public abstract class ClientPlayerEntityMixin {
+
+    @Inject(method = "tickMovement", at = @At("HEAD"))
+    private void jumpdelayfix$onTickMovement(CallbackInfo callbackInfo) {
+        JumpDelayFix.onMovementPhase();
+    }
+}
@@ -0,0 +1,35 @@
+package com.kizio.jumpdelayfix.fabric.mixin;
+
+import com.kizio.jumpdelayfix.common.JumpDelayFix;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.option.KeyBinding;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Forwards jump key transitions to the timestamped input queue as soon as GLFW reports them.
+ */
+@Environment(EnvType.CLIENT)
+@Mixin(KeyBinding.class)
+public abstract class KeyBindingMixin {
+
+    @Shadow
+    public abstract boolean isPressed();
+
+    @Inject(method = "setPressed", at = @At("HEAD"))
+    private void jumpdelayfix$onSetPressed(boolean pressed, CallbackInfo callbackInfo) {
+        if (pressed == isPressed()) {
+            return;
+        }
+
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client != null && client.options != null && (Object) this == client.options.jumpKey) {
+            JumpDelayFix.onJumpKeyStateChanged(pressed);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.kizio.jumpdelayfix.fabric.mixin;
+
+import com.kizio.jumpdelayfix.common.network.CommonNetworking;
+import net.minecraft.network.packet.c2s.play.PlayerMoveC2SPacket;
+import net.minecraft.server.network.ServerPlayNetworkHandler;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.Vec3d;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Server hook for the acknowledgement channel: a movement packet that started a jump and did not end in
+ * a position correction counts as an accepted jump.
+ */
+@Mixin(ServerPlayNetworkHandler.class)
+public abstract class ServerPlayNetworkHandlerMixin {
+
+    @Shadow
+    public ServerPlayerEntity player;
+
+    @Shadow
+    private Vec3d requestedTeleportPos;
+
+    @Unique
+    private boolean jumpdelayfix$jumped;
+
+    @Inject(
+            method = "onPlayerMove",
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/server/network/ServerPlayerEntity;jump()V")
+    )
+    private void jumpdelayfix$onJump(PlayerMoveC2SPacket packet, CallbackInfo callbackInfo) {
+        jumpdelayfix$jumped = true;
+    }
+
+    /**
+     * RETURN: the movement checks have run, so a pending teleport means the jump was rolled back.
+     */
+    @Inject(method = "onPlayerMove", at = @At("RETURN"))
+    private void jumpdelayfix$afterPlayerMove(PlayerMoveC2SPacket packet, CallbackInfo callbackInfo) {
+        if (jumpdelayfix$jumped && requestedTeleportPos == null) {
+            CommonNetworking.serverJumpAcks().recordAccepted(player.getUuid());
+        }
+        jumpdelayfix$jumped = false;
+    }
+}
@@ -1,15 +1,52 @@
 package com.kizio.jumpdelayfix.fabric.network;
 
+import com.kizio.jumpdelayfix.common.JumpDelayFix;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayNetworkHandler;
+import net.minecraft.network.packet.c2s.query.QueryPingC2SPacket;
+import net.minecraft.util.Util;
 
 @Environment(EnvType.CLIENT)
 public final class FabricNetworking {
 
+    private static final int PING_INTERVAL_TICKS = 20;
+
+    private static int ticksUntilPing;
+
     private FabricNetworking() {
     }
 
+    /**
+     * Listens for the optional jump acknowledgements; registering the receiver is what announces the
+     * channel to servers running the mod. The payload type itself is registered by the common entrypoint.
+     */
     public static void registerClient() {
-        // No custom packets are needed for this client-only mod.
+        ClientPlayNetworking.registerGlobalReceiver(
+                JumpAckPayload.ID,
+                (payload, context) -> JumpDelayFix.onServerJumpAck(payload.acceptedTotal())
+        );
+    }
+
+    /**
+     * Sends a vanilla ping request once per second while connected to a remote server.
+     * <p>
+     * The echoed timestamp comes back through {@code onPingResult}, which feeds the latency estimator.
+     */
+    public static void tickLatencyProbe(MinecraftClient client) {
+        ClientPlayNetworkHandler networkHandler = client.getNetworkHandler();
+        if (networkHandler == null || client.isIntegratedServerRunning()) {
+            ticksUntilPing = 0;
+            return;
+        }
+
+        if (--ticksUntilPing > 0) {
+            return;
+        }
+
+        ticksUntilPing = PING_INTERVAL_TICKS;
+        networkHandler.sendPacket(new QueryPingC2SPacket(Util.getMeasuringTimeMs()));
     }
 }
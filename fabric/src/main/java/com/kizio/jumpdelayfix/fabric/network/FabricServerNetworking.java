@@ -0,0 +1,49 @@
+package com.kizio.jumpdelayfix.fabric.network;
+
+import com.kizio.jumpdelayfix.common.network.CommonNetworking;
+import com.kizio.jumpdelayfix.common.network.JumpAckTracker;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+/**
+ * Server side of the optional jump acknowledgement channel.
+ * <p>
+ * Runs on dedicated and integrated servers alike. Only players whose client registered the channel are
+ * tracked, so vanilla clients never receive the payload.
+ */
+public final class FabricServerNetworking {
+
+    private static boolean registered;
+
+    private FabricServerNetworking() {
+    }
+
+    public static synchronized void register() {
+        if (registered) {
+            return;
+        }
+
+        PayloadTypeRegistry.playS2C().register(JumpAckPayload.ID, JumpAckPayload.CODEC);
+
+        JumpAckTracker tracker = CommonNetworking.serverJumpAcks();
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> {
+            if (ServerPlayNetworking.canSend(handler.player, JumpAckPayload.ID)) {
+                tracker.track(handler.player.getUuid());
+            }
+        });
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> tracker.forget(handler.player.getUuid()));
+        ServerTickEvents.END_SERVER_TICK.register(server -> tracker.flush((playerId, acceptedTotal) -> {
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(playerId);
+            if (player == null) {
+                return false;
+            }
+
+            ServerPlayNetworking.send(player, new JumpAckPayload(acceptedTotal));
+            return true;
+        }));
+        registered = true;
+    }
+}
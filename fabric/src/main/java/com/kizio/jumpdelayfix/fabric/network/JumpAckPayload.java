@@ -0,0 +1,25 @@
+package com.kizio.jumpdelayfix.fabric.network;
+
+import com.kizio.jumpdelayfix.common.ModConstants;
+import com.kizio.jumpdelayfix.common.network.CommonNetworking;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Server-to-client acknowledgement carrying the player's cumulative count of accepted jumps.
+ */
+public record JumpAckPayload(int acceptedTotal) implements CustomPayload {
+
+    public static final CustomPayload.Id<JumpAckPayload> ID =
+            new CustomPayload.Id<>(Identifier.of(ModConstants.MOD_ID, CommonNetworking.JUMP_ACK_CHANNEL));
+    public static final PacketCodec<RegistryByteBuf, JumpAckPayload> CODEC =
+            PacketCodec.tuple(PacketCodecs.VAR_INT, JumpAckPayload::acceptedTotal, JumpAckPayload::new);
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
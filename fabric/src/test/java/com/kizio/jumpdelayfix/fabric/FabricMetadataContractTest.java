@@ -13,13 +13,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 class FabricMetadataContractTest {
 
     @Test
-    void shouldDeclareClientOnlyEnvironmentAndEntrypoint() throws IOException {
+    void shouldDeclareEnvironmentAndEntrypoints() throws IOException {
         String metadata = readResource("/fabric.mod.json");
 
         assertFalse(metadata.contains("${"), "fabric.mod.json still contains unresolved placeholders");
-        assertTrue(metadata.contains("\"environment\": \"client\""));
+        assertTrue(metadata.contains("\"environment\": \"*\""));
+        assertTrue(metadata.contains("\"main\": ["));
+        assertTrue(metadata.contains("com.kizio.jumpdelayfix.fabric.JumpDelayFixFabricCommon"));
         assertTrue(metadata.contains("\"client\": ["));
-        assertTrue(metadata.contains("com.kizio.jumpdelayfix.fabric.JumpDelayFixFabric"));
+        assertTrue(metadata.contains("com.kizio.jumpdelayfix.fabric.JumpDelayFixFabric\""));
         assertTrue(metadata.contains("\"minecraft\":"));
         assertTrue(metadata.contains("\"fabric-api\":"));
     }
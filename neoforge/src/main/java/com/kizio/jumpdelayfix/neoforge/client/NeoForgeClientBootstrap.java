@@ -6,6 +6,7 @@ import com.kizio.jumpdelayfix.neoforge.client.hud.NeoForgeHudOverlay;
 import com.kizio.jumpdelayfix.neoforge.client.input.NeoForgeJumpInput;
 import com.kizio.jumpdelayfix.neoforge.client.input.NeoForgeKeyMappings;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.player.LocalPlayer;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.api.distmarker.OnlyIn;
 import net.neoforged.bus.api.IEventBus;
@@ -13,6 +14,7 @@ import net.neoforged.fml.event.lifecycle.FMLClientSetupEvent;
 import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
 import net.neoforged.neoforge.client.event.ClientTickEvent;
 import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.tick.PlayerTickEvent;
 
 import java.nio.file.Path;
 
@@ -32,7 +34,10 @@ public final class NeoForgeClientBootstrap {
         modEventBus.addListener(NeoForgeKeyMappings::onRegisterKeyMappings);
         modEventBus.addListener(NeoForgeClientBootstrap::onClientSetup);
         NeoForge.EVENT_BUS.addListener(NeoForgeClientBootstrap::onClientTick);
+        NeoForge.EVENT_BUS.addListener(NeoForgeClientBootstrap::onPlayerTickPre);
         NeoForge.EVENT_BUS.addListener(NeoForgeClientBootstrap::onClientLogout);
+        NeoForge.EVENT_BUS.addListener(NeoForgeKeyMappings::onKeyInput);
+        NeoForge.EVENT_BUS.addListener(NeoForgeKeyMappings::onMouseButton);
         NeoForge.EVENT_BUS.addListener(NeoForgeHudOverlay::onRenderGui);
         initialized = true;
     }
@@ -50,6 +55,10 @@ public final class NeoForgeClientBootstrap {
 
     private static void onClientTick(ClientTickEvent.Post event) {
         JumpDelayFix.onClientTick();
+        Minecraft minecraft = Minecraft.getInstance();
+        if (minecraft != null) {
+            NeoForgeLatencyProbe.tick(minecraft);
+        }
         if (NeoForgeKeyMappings.consumeTogglePress()) {
             JumpDelayFix.toggleEnabled();
         }
@@ -64,7 +73,15 @@ public final class NeoForgeClientBootstrap {
         }
     }
 
+    private static void onPlayerTickPre(PlayerTickEvent.Pre event) {
+        // Fires before LivingEntity#aiStep, so a jump dispatched here lifts off in the same tick.
+        if (event.getEntity() instanceof LocalPlayer player && player == Minecraft.getInstance().player) {
+            JumpDelayFix.onMovementPhase();
+        }
+    }
+
     private static void onClientLogout(ClientPlayerNetworkEvent.LoggingOut event) {
+        JumpDelayFix.resetServerJumpAcks();
         JumpDelayFix.flushPendingConfiguration();
     }
 }
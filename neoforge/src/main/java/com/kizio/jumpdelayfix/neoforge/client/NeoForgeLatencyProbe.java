@@ -0,0 +1,39 @@
+package com.kizio.jumpdelayfix.neoforge.client;
+
+import net.minecraft.Util;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.network.protocol.ping.ServerboundPingRequestPacket;
+import net.neoforged.api.distmarker.Dist;
+import net.neoforged.api.distmarker.OnlyIn;
+
+/**
+ * Sends a vanilla ping request once per second while connected to a remote server.
+ * <p>
+ * The echoed timestamp comes back through {@code handlePongResponse}, which feeds the latency estimator.
+ */
+@OnlyIn(Dist.CLIENT)
+public final class NeoForgeLatencyProbe {
+
+    private static final int PING_INTERVAL_TICKS = 20;
+
+    private static int ticksUntilPing;
+
+    private NeoForgeLatencyProbe() {
+    }
+
+    public static void tick(Minecraft client) {
+        ClientPacketListener connection = client.getConnection();
+        if (connection == null || client.hasSingleplayerServer()) {
+            ticksUntilPing = 0;
+            return;
+        }
+
+        if (--ticksUntilPing > 0) {
+            return;
+        }
+
+        ticksUntilPing = PING_INTERVAL_TICKS;
+        connection.send(new ServerboundPingRequestPacket(Util.getMillis()));
+    }
+}
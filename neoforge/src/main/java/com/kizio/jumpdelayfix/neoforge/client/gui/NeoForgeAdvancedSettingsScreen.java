@@ -111,7 +111,7 @@ public final class NeoForgeAdvancedSettingsScreen extends Screen {
 
         super.render(guiGraphics, mouseX, mouseY, partialTick);
 
-        JumpRuntimeConfig config = JumpDelayFix.getRuntimeConfig();
+        JumpRuntimeConfig config = JumpDelayFix.getStateSnapshot().config();
 
         guiGraphics.drawCenteredString(this.font, this.title, this.width / 2, panelTop + 7, 0xBCEBFF);
         guiGraphics.drawString(this.font, Component.translatable("gui.jumpdelayfix.min_attempts", Integer.toString(config.minAttemptsForProfileSwitch())), panelLeft + 12, minAttemptsRowY + 6, 0xDDE7FF, false);
@@ -6,6 +6,7 @@ import com.kizio.jumpdelayfix.common.client.hud.HudPresentationModel;
 import com.kizio.jumpdelayfix.common.client.hud.HudPresentationService;
 import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
 import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
+import com.kizio.jumpdelayfix.common.state.JumpStateSnapshot;
 import com.kizio.jumpdelayfix.neoforge.client.NeoForgeStatusMessages;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.components.Button;
@@ -146,8 +147,9 @@ public final class NeoForgeHudEditorScreen extends Screen {
 
         super.render(guiGraphics, mouseX, mouseY, partialTick);
 
-        JumpRuntimeConfig config = JumpDelayFix.getRuntimeConfig();
-        JumpDiagnostics diagnostics = JumpDelayFix.getDiagnostics();
+        JumpStateSnapshot snapshot = JumpDelayFix.getStateSnapshot();
+        JumpRuntimeConfig config = snapshot.config();
+        JumpDiagnostics diagnostics = snapshot.diagnostics();
 
         guiGraphics.drawCenteredString(this.font, this.title, this.width / 2, panelTop + 7, 0xBCEBFF);
         guiGraphics.drawString(this.font, Component.translatable("gui.jumpdelayfix.hud_editor.description"), panelLeft + 10, panelTop + 30, 0xD9E7FF, false);
@@ -287,7 +289,7 @@ public final class NeoForgeHudEditorScreen extends Screen {
     }
 
     private boolean isOverPreview(double mouseX, double mouseY) {
-        JumpRuntimeConfig config = JumpDelayFix.getRuntimeConfig();
+        JumpRuntimeConfig config = JumpDelayFix.getStateSnapshot().config();
         int baseHeight = HudPresentationService.panelHeight(config);
         int scaledWidth = (int) Math.ceil(HudPresentationService.PANEL_WIDTH * config.hudScale());
         int scaledHeight = (int) Math.ceil(baseHeight * config.hudScale());
@@ -2,24 +2,33 @@ package com.kizio.jumpdelayfix.neoforge.client.hud;
 
 import com.kizio.jumpdelayfix.common.JumpDelayFix;
 import com.kizio.jumpdelayfix.common.client.hud.HudLine;
+import com.kizio.jumpdelayfix.common.client.hud.HudPresentationCache;
 import com.kizio.jumpdelayfix.common.client.hud.HudPresentationModel;
 import com.kizio.jumpdelayfix.common.client.hud.HudPresentationService;
 import com.kizio.jumpdelayfix.common.config.JumpRuntimeConfig;
-import com.kizio.jumpdelayfix.common.model.JumpDiagnostics;
+import com.kizio.jumpdelayfix.common.state.JumpStateSnapshot;
 import net.minecraft.client.Minecraft;
 import net.minecraft.network.chat.Component;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.api.distmarker.OnlyIn;
 import net.neoforged.neoforge.client.event.RenderGuiEvent;
 
+import java.util.List;
+
 @OnlyIn(Dist.CLIENT)
 public final class NeoForgeHudOverlay {
 
+    private static final HudPresentationCache MODEL_CACHE = new HudPresentationCache();
+    private static final Component TITLE_TEXT = Component.literal(HudPresentationService.HUD_TITLE);
+    private static final Component[] LINE_TEXTS = new Component[HudPresentationService.MAX_LINES];
+    private static final String[] LINE_SOURCES = new String[HudPresentationService.MAX_LINES];
+
     private NeoForgeHudOverlay() {
     }
 
     public static void onRenderGui(RenderGuiEvent.Post event) {
-        if (!JumpDelayFix.isHudEnabled()) {
+        JumpStateSnapshot snapshot = JumpDelayFix.getStateSnapshot();
+        if (!snapshot.config().hudEnabled()) {
             return;
         }
 
@@ -28,9 +37,8 @@ public final class NeoForgeHudOverlay {
             return;
         }
 
-        JumpDiagnostics diagnostics = JumpDelayFix.getDiagnostics();
-        JumpRuntimeConfig config = JumpDelayFix.getRuntimeConfig();
-        HudPresentationModel model = HudPresentationService.build(diagnostics, config);
+        JumpRuntimeConfig config = snapshot.config();
+        HudPresentationModel model = MODEL_CACHE.model(snapshot);
 
         event.getGuiGraphics().pose().pushPose();
         try {
@@ -39,12 +47,14 @@ public final class NeoForgeHudOverlay {
 
             event.getGuiGraphics().fill(-3, -3, HudPresentationService.PANEL_WIDTH, model.panelHeight(), 0x90000000);
             event.getGuiGraphics().fill(-3, -3, HudPresentationService.PANEL_WIDTH, -2, 0xFF56D8FF);
-            event.getGuiGraphics().drawString(client.font, Component.literal(HudPresentationService.HUD_TITLE), HudPresentationService.TEXT_X, 5, 0x80FF9D, true);
+            event.getGuiGraphics().drawString(client.font, TITLE_TEXT, HudPresentationService.TEXT_X, 5, 0x80FF9D, true);
 
             int y = 16;
-            for (HudLine line : model.lines()) {
+            List<HudLine> lines = model.lines();
+            for (int index = 0; index < lines.size(); index++) {
+                HudLine line = lines.get(index);
                 event.getGuiGraphics().drawString(client.font,
-                        Component.literal(line.text()),
+                        lineText(index, line.text()),
                         HudPresentationService.TEXT_X,
                         y,
                         line.color(),
@@ -69,4 +79,15 @@ public final class NeoForgeHudOverlay {
             event.getGuiGraphics().pose().popPose();
         }
     }
+
+    /**
+     * Reuses the text component for a line until the cached model hands out a different string.
+     */
+    private static Component lineText(int index, String text) {
+        if (LINE_SOURCES[index] != text) {
+            LINE_SOURCES[index] = text;
+            LINE_TEXTS[index] = Component.literal(text);
+        }
+        return LINE_TEXTS[index];
+    }
 }
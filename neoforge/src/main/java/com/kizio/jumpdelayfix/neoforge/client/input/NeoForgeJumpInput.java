@@ -1,25 +1,107 @@
 package com.kizio.jumpdelayfix.neoforge.client.input;
 
+import com.kizio.jumpdelayfix.common.JumpDelayFix;
 import com.kizio.jumpdelayfix.common.api.JumpInput;
+import com.kizio.jumpdelayfix.common.api.JumpInputFrame;
+import com.kizio.jumpdelayfix.common.feature.GroundedTicksModel;
+import com.kizio.jumpdelayfix.common.feature.JumpHandler;
+import com.kizio.jumpdelayfix.common.feature.TickTiming;
+import com.kizio.jumpdelayfix.common.network.LatencyEstimator;
+import com.kizio.jumpdelayfix.common.network.ServerTickRateEstimator;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.client.multiplayer.PlayerInfo;
 import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.world.TickRateManager;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.api.distmarker.OnlyIn;
 
+import java.net.SocketAddress;
+
 @OnlyIn(Dist.CLIENT)
 public final class NeoForgeJumpInput implements JumpInput {
 
-    private static final int LOCAL_REQUIRED_GROUNDED_TICKS = 1;
-    private static final int REMOTE_TICKS_LOW_LATENCY = 2;
-    private static final int REMOTE_TICKS_MEDIUM_LATENCY = 3;
-    private static final int REMOTE_TICKS_HIGH_LATENCY = 4;
-    private static final int REMOTE_TICKS_VERY_HIGH_LATENCY = 5;
-
-    private static final int LOW_LATENCY_MAX_MS = 80;
-    private static final int MEDIUM_LATENCY_MAX_MS = 150;
-    private static final int HIGH_LATENCY_MAX_MS = 250;
+    private static final int LOCAL_REQUIRED_GROUNDED_TICKS = GroundedTicksModel.LOCAL_TICKS;
     private static final int UNKNOWN_LATENCY_MS = -1;
-    private static final int UNKNOWN_LATENCY_FALLBACK_TICKS = REMOTE_TICKS_MEDIUM_LATENCY;
+
+    private static long positionCorrectionCount;
+    private static double positionCorrectionDistance;
+    private static LocalPlayer correctedPlayer;
+    private static double correctedFromX;
+    private static double correctedFromY;
+    private static double correctedFromZ;
+
+    private SocketAddress cachedRemoteAddress;
+    private String cachedServerIdentifier;
+    private ClientPacketListener cachedConnection;
+    private LocalPlayer cachedPlayer;
+    private PlayerInfo cachedPlayerInfo;
+
+    @Override
+    public void sample(JumpInputFrame frame) {
+        Minecraft client = Minecraft.getInstance();
+        if (client == null) {
+            frame.setJumpPressed(false)
+                    .setPlayerOnGround(false)
+                    .setPlayerY(Double.NaN)
+                    .setVerticalVelocity(Double.NaN)
+                    .setPositionCorrectionCount(positionCorrectionCount)
+                    .setPositionCorrectionDistance(positionCorrectionDistance)
+                    .setAuthoritativeCorrections(true)
+                    .setServerAcknowledgedJumps(JumpDelayFix.getServerAcknowledgedJumps())
+                    .setIntegratedServer(false)
+                    .setRequiredGroundedTicks(LOCAL_REQUIRED_GROUNDED_TICKS)
+                    .setLatencyMs(0)
+                    .setLatencyJitterMs(0)
+                    .setServerMillisPerTick(TickTiming.VANILLA_MILLIS_PER_TICK)
+                    .setServerTps(ServerTickRateEstimator.UNKNOWN_TPS)
+                    .setServerTickJitterMs(ServerTickRateEstimator.UNKNOWN)
+                    .setServerIdentifier("global");
+            return;
+        }
+
+        LocalPlayer player = client.player;
+        frame.setJumpPressed(client.options != null && client.options.keyJump != null && client.options.keyJump.isDown())
+                .setPlayerOnGround(player != null && player.onGround())
+                .setPlayerY(player != null ? player.getY() : Double.NaN)
+                .setVerticalVelocity(player != null ? player.getDeltaMovement().y : Double.NaN)
+                .setPositionCorrectionCount(positionCorrectionCount)
+                .setPositionCorrectionDistance(positionCorrectionDistance)
+                .setAuthoritativeCorrections(true)
+                .setServerAcknowledgedJumps(JumpDelayFix.getServerAcknowledgedJumps());
+
+        float serverMillisPerTick = serverMillisPerTick(client);
+        frame.setServerMillisPerTick(serverMillisPerTick);
+        if (client.hasSingleplayerServer()) {
+            // The integrated server applies our own movement; skip every network estimate.
+            frame.setIntegratedServer(true)
+                    .setServerTps(ServerTickRateEstimator.UNKNOWN_TPS)
+                    .setServerTickJitterMs(ServerTickRateEstimator.UNKNOWN)
+                    .setRequiredGroundedTicks(LOCAL_REQUIRED_GROUNDED_TICKS)
+                    .setLatencyMs(0)
+                    .setLatencyJitterMs(0)
+                    .setServerIdentifier("singleplayer");
+            return;
+        }
+
+        ServerTickRateEstimator tickRateEstimator = JumpDelayFix.getTickRateEstimator();
+        frame.setIntegratedServer(false)
+                .setServerTps(tickRateEstimator.tps())
+                .setServerTickJitterMs(tickRateEstimator.tickJitterMs());
+        LatencyEstimator estimator = JumpDelayFix.getLatencyEstimator();
+        int latencyMs = estimator.p95Ms();
+        int medianLatencyMs = estimator.p50Ms();
+        if (latencyMs == LatencyEstimator.UNKNOWN) {
+            latencyMs = cachedLatencyMs(client, player);
+            medianLatencyMs = latencyMs;
+        }
+        int jitterMs = estimator.jitterMs();
+        // The model adds its own jitter allowance, so it takes the median rather than the p95.
+        frame.setRequiredGroundedTicks(JumpDelayFix.getGroundedTicksModel().requiredTicks(medianLatencyMs, jitterMs, serverMillisPerTick))
+                .setLatencyMs(latencyMs)
+                .setLatencyJitterMs(jitterMs)
+                .setServerIdentifier(cachedServerIdentifier(client));
+    }
 
     @Override
     public boolean isJumpPressed() {
@@ -56,6 +138,90 @@ public final class NeoForgeJumpInput implements JumpInput {
         return player.getY();
     }
 
+    @Override
+    public double getVerticalVelocity() {
+        Minecraft client = Minecraft.getInstance();
+        LocalPlayer player = client != null ? client.player : null;
+        if (player == null) {
+            return Double.NaN;
+        }
+        return player.getDeltaMovement().y;
+    }
+
+    @Override
+    public int getLatencyJitterMs() {
+        return JumpDelayFix.getLatencyEstimator().jitterMs();
+    }
+
+    @Override
+    public long getPositionCorrectionCount() {
+        return positionCorrectionCount;
+    }
+
+    @Override
+    public double getPositionCorrectionDistance() {
+        return positionCorrectionDistance;
+    }
+
+    @Override
+    public boolean hasAuthoritativeCorrections() {
+        return true;
+    }
+
+    @Override
+    public boolean isIntegratedServer() {
+        Minecraft client = Minecraft.getInstance();
+        return client != null && client.hasSingleplayerServer();
+    }
+
+    @Override
+    public long getServerAcknowledgedJumps() {
+        return JumpDelayFix.getServerAcknowledgedJumps();
+    }
+
+    /**
+     * Remembers where the player stood before a server position correction is applied. Only the call on
+     * the client thread counts; the network thread merely re-schedules the packet.
+     */
+    public static void beforeServerPositionCorrection() {
+        Minecraft client = Minecraft.getInstance();
+        if (client == null || !client.isSameThread()) {
+            return;
+        }
+
+        correctedPlayer = client.player;
+        if (correctedPlayer != null) {
+            correctedFromX = correctedPlayer.getX();
+            correctedFromY = correctedPlayer.getY();
+            correctedFromZ = correctedPlayer.getZ();
+        }
+    }
+
+    /**
+     * Counts a server position correction and how far it moved the player; called on the client thread
+     * after the packet was applied. Corrections that replaced the player (respawn, dimension change) or
+     * moved it further than any jump rollback could (/tp, warps, anti-cheat setbacks) are not jump
+     * rollbacks and are skipped.
+     */
+    public static void onServerPositionCorrection() {
+        LocalPlayer player = Minecraft.getInstance().player;
+        if (player == null || player != correctedPlayer) {
+            correctedPlayer = null;
+            return;
+        }
+
+        double dx = player.getX() - correctedFromX;
+        double dy = player.getY() - correctedFromY;
+        double dz = player.getZ() - correctedFromZ;
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        correctedPlayer = null;
+        if (distance > JumpHandler.MAX_CORRECTION_DISTANCE) {
+            return;
+        }
+        positionCorrectionDistance += distance;
+        positionCorrectionCount++;
+    }
+
     @Override
     public int requiredGroundedTicksBeforeJump() {
         Minecraft client = Minecraft.getInstance();
@@ -67,7 +233,28 @@ public final class NeoForgeJumpInput implements JumpInput {
             return LOCAL_REQUIRED_GROUNDED_TICKS;
         }
 
-        return mapLatencyToRequiredTicks(getEstimatedLatencyMs(client));
+        LatencyEstimator estimator = JumpDelayFix.getLatencyEstimator();
+        return JumpDelayFix.getGroundedTicksModel().requiredTicks(
+                getEstimatedLatencyMs(client, estimator.p50Ms()),
+                estimator.jitterMs(),
+                serverMillisPerTick(client)
+        );
+    }
+
+    @Override
+    public double getServerTps() {
+        return JumpDelayFix.getTickRateEstimator().tps();
+    }
+
+    @Override
+    public int getServerTickJitterMs() {
+        return JumpDelayFix.getTickRateEstimator().tickJitterMs();
+    }
+
+    @Override
+    public float getServerMillisPerTick() {
+        Minecraft client = Minecraft.getInstance();
+        return client == null ? TickTiming.VANILLA_MILLIS_PER_TICK : serverMillisPerTick(client);
     }
 
     @Override
@@ -77,7 +264,7 @@ public final class NeoForgeJumpInput implements JumpInput {
             return 0;
         }
 
-        return getEstimatedLatencyMs(client);
+        return getEstimatedLatencyMs(client, JumpDelayFix.getLatencyEstimator().p95Ms());
     }
 
     @Override
@@ -99,36 +286,77 @@ public final class NeoForgeJumpInput implements JumpInput {
         return "multiplayer-unknown";
     }
 
-    private int getEstimatedLatencyMs(Minecraft client) {
-        LocalPlayer player = client.player;
-        var connection = client.getConnection();
+    /**
+     * Reuses the player info while the connection and player instance are unchanged, so the per-tick
+     * path skips the UUID map lookup.
+     */
+    private int cachedLatencyMs(Minecraft client, LocalPlayer player) {
+        ClientPacketListener connection = client.getConnection();
         if (player == null || connection == null) {
+            cachedPlayerInfo = null;
             return UNKNOWN_LATENCY_MS;
         }
 
-        var playerInfo = connection.getPlayerInfo(player.getUUID());
-        if (playerInfo == null) {
-            return UNKNOWN_LATENCY_MS;
+        if (cachedPlayerInfo == null || connection != cachedConnection || player != cachedPlayer) {
+            cachedConnection = connection;
+            cachedPlayer = player;
+            cachedPlayerInfo = connection.getPlayerInfo(player.getUUID());
+            if (cachedPlayerInfo == null) {
+                return UNKNOWN_LATENCY_MS;
+            }
         }
 
-        return Math.max(0, playerInfo.getLatency());
+        return Math.max(0, cachedPlayerInfo.getLatency());
     }
 
-    private int mapLatencyToRequiredTicks(int latencyMs) {
-        if (latencyMs == UNKNOWN_LATENCY_MS) {
-            return UNKNOWN_LATENCY_FALLBACK_TICKS;
+    /**
+     * Reads the tick rate the server announced; a frozen world keeps the vanilla length because the
+     * client keeps ticking the player at 20 TPS.
+     */
+    private static float serverMillisPerTick(Minecraft client) {
+        if (client.level == null) {
+            return TickTiming.VANILLA_MILLIS_PER_TICK;
+        }
+
+        TickRateManager tickRateManager = client.level.tickRateManager();
+        return tickRateManager.runsNormally() ? tickRateManager.millisecondsPerTick() : TickTiming.VANILLA_MILLIS_PER_TICK;
+    }
+
+    private String cachedServerIdentifier(Minecraft client) {
+        ClientPacketListener listener = client.getConnection();
+        if (listener == null || listener.getConnection() == null || listener.getConnection().getRemoteAddress() == null) {
+            return "multiplayer-unknown";
+        }
+
+        SocketAddress remoteAddress = listener.getConnection().getRemoteAddress();
+        if (remoteAddress != cachedRemoteAddress) {
+            cachedRemoteAddress = remoteAddress;
+            cachedServerIdentifier = remoteAddress.toString();
         }
+        return cachedServerIdentifier;
+    }
 
-        if (latencyMs <= LOW_LATENCY_MAX_MS) {
-            return REMOTE_TICKS_LOW_LATENCY;
+    /**
+     * Prefers the given estimate from ping probes and falls back to the smoothed tab-list latency.
+     *
+     * @param probedLatencyMs p50 or p95 from the latency estimator, or {@link LatencyEstimator#UNKNOWN}
+     */
+    private int getEstimatedLatencyMs(Minecraft client, int probedLatencyMs) {
+        if (probedLatencyMs != LatencyEstimator.UNKNOWN) {
+            return probedLatencyMs;
         }
-        if (latencyMs <= MEDIUM_LATENCY_MAX_MS) {
-            return REMOTE_TICKS_MEDIUM_LATENCY;
+
+        LocalPlayer player = client.player;
+        var connection = client.getConnection();
+        if (player == null || connection == null) {
+            return UNKNOWN_LATENCY_MS;
         }
-        if (latencyMs <= HIGH_LATENCY_MAX_MS) {
-            return REMOTE_TICKS_HIGH_LATENCY;
+
+        var playerInfo = connection.getPlayerInfo(player.getUUID());
+        if (playerInfo == null) {
+            return UNKNOWN_LATENCY_MS;
         }
 
-        return REMOTE_TICKS_VERY_HIGH_LATENCY;
+        return Math.max(0, playerInfo.getLatency());
     }
 }
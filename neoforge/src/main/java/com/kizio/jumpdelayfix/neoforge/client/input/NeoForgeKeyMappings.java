@@ -1,8 +1,11 @@
 package com.kizio.jumpdelayfix.neoforge.client.input;
 
+import com.kizio.jumpdelayfix.common.JumpDelayFix;
 import net.minecraft.client.KeyMapping;
+import net.minecraft.client.Minecraft;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.api.distmarker.OnlyIn;
+import net.neoforged.neoforge.client.event.InputEvent;
 import net.neoforged.neoforge.client.event.RegisterKeyMappingsEvent;
 import org.lwjgl.glfw.GLFW;
 
@@ -37,6 +40,26 @@ public final class NeoForgeKeyMappings {
         event.register(CONFIG_KEY);
     }
 
+    /**
+     * Forwards keyboard jump transitions to the timestamped input queue.
+     */
+    public static void onKeyInput(InputEvent.Key event) {
+        KeyMapping jumpKey = activeJumpKey();
+        if (jumpKey != null && jumpKey.matches(event.getKey(), event.getScanCode())) {
+            forwardJumpAction(event.getAction());
+        }
+    }
+
+    /**
+     * Forwards mouse-bound jump transitions to the timestamped input queue.
+     */
+    public static void onMouseButton(InputEvent.MouseButton.Post event) {
+        KeyMapping jumpKey = activeJumpKey();
+        if (jumpKey != null && jumpKey.matchesMouse(event.getButton())) {
+            forwardJumpAction(event.getAction());
+        }
+    }
+
     public static boolean consumeTogglePress() {
         boolean pressed = false;
         while (TOGGLE_KEY.consumeClick()) {
@@ -60,4 +83,20 @@ public final class NeoForgeKeyMappings {
         }
         return pressed;
     }
+
+    private static KeyMapping activeJumpKey() {
+        Minecraft client = Minecraft.getInstance();
+        if (client == null || client.options == null || client.screen != null) {
+            return null;
+        }
+        return client.options.keyJump;
+    }
+
+    private static void forwardJumpAction(int action) {
+        if (action == GLFW.GLFW_PRESS) {
+            JumpDelayFix.onJumpKeyStateChanged(true);
+        } else if (action == GLFW.GLFW_RELEASE) {
+            JumpDelayFix.onJumpKeyStateChanged(false);
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package com.kizio.jumpdelayfix.neoforge.mixin;
+
+import com.kizio.jumpdelayfix.common.JumpDelayFix;
+import com.kizio.jumpdelayfix.neoforge.client.input.NeoForgeJumpInput;
+import net.minecraft.Util;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.network.protocol.game.ClientboundPlayerPositionPacket;
+import net.minecraft.network.protocol.game.ClientboundSetTimePacket;
+import net.minecraft.network.protocol.ping.ClientboundPongResponsePacket;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Network hooks: server position corrections, ping round trips and world-time updates.
+ */
+@Mixin(ClientPacketListener.class)
+public abstract class ClientPacketListenerMixin {
+
+    /**
+     * HEAD: captures the pre-correction position so the tail can measure how far the player was moved.
+     */
+    @Inject(method = "handleMovePlayer", at = @At("HEAD"))
+    private void jumpdelayfix$beforeHandleMovePlayer(ClientboundPlayerPositionPacket packet, CallbackInfo callbackInfo) {
+        NeoForgeJumpInput.beforeServerPositionCorrection();
+    }
+
+    /**
+     * TAIL: the handler re-schedules itself onto the client thread, so the tail only runs once the
+     * correction has actually been applied there.
+     */
+    @Inject(method = "handleMovePlayer", at = @At("TAIL"))
+    private void jumpdelayfix$onHandleMovePlayer(ClientboundPlayerPositionPacket packet, CallbackInfo callbackInfo) {
+        NeoForgeJumpInput.onServerPositionCorrection();
+    }
+
+    /**
+     * HEAD: timestamps the pong as early as possible; a re-dispatched duplicate is ignored by the estimator.
+     */
+    @Inject(method = "handlePongResponse", at = @At("HEAD"))
+    private void jumpdelayfix$onHandlePongResponse(ClientboundPongResponsePacket packet, CallbackInfo callbackInfo) {
+        JumpDelayFix.onLatencySample(packet.time(), Util.getMillis());
+    }
+
+    /**
+     * HEAD: timestamps the update on arrival for the tick-rate estimate; a re-dispatched duplicate is
+     * ignored by the estimator.
+     */
+    @Inject(method = "handleSetTime", at = @At("HEAD"))
+    private void jumpdelayfix$onHandleSetTime(ClientboundSetTimePacket packet, CallbackInfo callbackInfo) {
+        JumpDelayFix.onWorldTimeUpdate(packet.gameTime(), Util.getMillis());
+    }
+}
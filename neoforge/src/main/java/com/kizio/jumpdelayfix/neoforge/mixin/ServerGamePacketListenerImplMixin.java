@@ -0,0 +1,49 @@
+package com.kizio.jumpdelayfix.neoforge.mixin;
+
+import com.kizio.jumpdelayfix.common.network.CommonNetworking;
+import net.minecraft.network.protocol.game.ServerboundMovePlayerPacket;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import net.minecraft.world.phys.Vec3;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Server hook for the acknowledgement channel: a movement packet that started a jump and did not end in
+ * a position correction counts as an accepted jump.
+ */
+@Mixin(ServerGamePacketListenerImpl.class)
+public abstract class ServerGamePacketListenerImplMixin {
+
+    @Shadow
+    public ServerPlayer player;
+
+    @Shadow
+    private Vec3 awaitingPositionFromClient;
+
+    @Unique
+    private boolean jumpdelayfix$jumped;
+
+    @Inject(
+            method = "handleMovePlayer",
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/server/level/ServerPlayer;jumpFromGround()V")
+    )
+    private void jumpdelayfix$onJump(ServerboundMovePlayerPacket packet, CallbackInfo callbackInfo) {
+        jumpdelayfix$jumped = true;
+    }
+
+    /**
+     * RETURN: the movement checks have run, so a pending teleport means the jump was rolled back.
+     */
+    @Inject(method = "handleMovePlayer", at = @At("RETURN"))
+    private void jumpdelayfix$afterMovePlayer(ServerboundMovePlayerPacket packet, CallbackInfo callbackInfo) {
+        if (jumpdelayfix$jumped && awaitingPositionFromClient == null) {
+            CommonNetworking.serverJumpAcks().recordAccepted(player.getUUID());
+        }
+        jumpdelayfix$jumped = false;
+    }
+}
@@ -0,0 +1,26 @@
+package com.kizio.jumpdelayfix.neoforge.network;
+
+import com.kizio.jumpdelayfix.common.ModConstants;
+import com.kizio.jumpdelayfix.common.network.CommonNetworking;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Server-to-client acknowledgement carrying the player's cumulative count of accepted jumps.
+ */
+public record JumpAckPayload(int acceptedTotal) implements CustomPacketPayload {
+
+    public static final CustomPacketPayload.Type<JumpAckPayload> TYPE = new CustomPacketPayload.Type<>(
+            ResourceLocation.fromNamespaceAndPath(ModConstants.MOD_ID, CommonNetworking.JUMP_ACK_CHANNEL)
+    );
+    public static final StreamCodec<ByteBuf, JumpAckPayload> STREAM_CODEC =
+            StreamCodec.composite(ByteBufCodecs.VAR_INT, JumpAckPayload::acceptedTotal, JumpAckPayload::new);
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
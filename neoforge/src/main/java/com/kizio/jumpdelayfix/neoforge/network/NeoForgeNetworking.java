@@ -1,13 +1,65 @@
 package com.kizio.jumpdelayfix.neoforge.network;
 
+import com.kizio.jumpdelayfix.common.JumpDelayFix;
+import com.kizio.jumpdelayfix.common.network.CommonNetworking;
+import com.kizio.jumpdelayfix.common.network.JumpAckTracker;
+import net.minecraft.server.level.ServerPlayer;
 import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import net.neoforged.neoforge.network.PacketDistributor;
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
 
+/**
+ * Optional jump acknowledgement channel.
+ * <p>
+ * The payload is registered as optional, so vanilla clients and servers connect as before. The server
+ * half runs on dedicated and integrated servers alike and only tracks players whose client has the
+ * channel; the client half only forwards counts to the common facade.
+ */
 public final class NeoForgeNetworking {
 
     private NeoForgeNetworking() {
     }
 
     public static void register(IEventBus modEventBus) {
-        // No custom packets are needed for this client-only mod.
+        modEventBus.addListener(NeoForgeNetworking::onRegisterPayloadHandlers);
+        NeoForge.EVENT_BUS.addListener(NeoForgeNetworking::onPlayerLoggedIn);
+        NeoForge.EVENT_BUS.addListener(NeoForgeNetworking::onPlayerLoggedOut);
+        NeoForge.EVENT_BUS.addListener(NeoForgeNetworking::onServerTickPost);
+    }
+
+    private static void onRegisterPayloadHandlers(RegisterPayloadHandlersEvent event) {
+        event.registrar(CommonNetworking.PROTOCOL_VERSION)
+                .optional()
+                .playToClient(
+                        JumpAckPayload.TYPE,
+                        JumpAckPayload.STREAM_CODEC,
+                        (payload, context) -> JumpDelayFix.onServerJumpAck(payload.acceptedTotal())
+                );
+    }
+
+    private static void onPlayerLoggedIn(PlayerEvent.PlayerLoggedInEvent event) {
+        if (event.getEntity() instanceof ServerPlayer player && player.connection.hasChannel(JumpAckPayload.TYPE)) {
+            CommonNetworking.serverJumpAcks().track(player.getUUID());
+        }
+    }
+
+    private static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        CommonNetworking.serverJumpAcks().forget(event.getEntity().getUUID());
+    }
+
+    private static void onServerTickPost(ServerTickEvent.Post event) {
+        JumpAckTracker tracker = CommonNetworking.serverJumpAcks();
+        tracker.flush((playerId, acceptedTotal) -> {
+            ServerPlayer player = event.getServer().getPlayerList().getPlayer(playerId);
+            if (player == null) {
+                return false;
+            }
+
+            PacketDistributor.sendToPlayer(player, new JumpAckPayload(acceptedTotal));
+            return true;
+        });
     }
 }